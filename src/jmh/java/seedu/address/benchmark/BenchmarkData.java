@@ -0,0 +1,54 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.model.util.SampleDataGenerator.Size;
+
+/**
+ * Builds the data that the benchmarks run against. The same arguments always give the same data.
+ */
+public class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns the person numbered {@code number}, whose name is unique to that number.
+     */
+    public static Person person(int number, PersonType role) {
+        return Person.newPerson(new Name("Person " + number), new Phone(String.format("9%07d", number)),
+                new Email("person" + number + "@example.com"), new Address("Block " + number),
+                Set.of(new Tag("batch" + number % 10)), role);
+    }
+
+    /**
+     * Returns {@code count} persons numbered from 0, of whom every tenth is a tutor and the rest are students.
+     */
+    public static List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(person(i, i % 10 == 0 ? PersonType.TUTOR : PersonType.STUDENT));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book generated by {@link SampleDataGenerator} with {@code students} students, typical
+     * numbers of parents, tutors and classes for them, and {@code weeks} weeks of sessions.
+     */
+    public static AddressBook addressBook(int students, int weeks) {
+        Size typical = Size.ofStudents(students);
+        return new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED)
+                .generate(new Size(students, typical.tutors, typical.classes, weeks));
+    }
+}
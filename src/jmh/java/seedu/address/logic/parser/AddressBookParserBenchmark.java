@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@link AddressBookParser#parseCommand(String)} on typical input for several commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.of(
+            "add", "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+                    + "t/friends t/owesMoney ro/student",
+            "attend", "attend n/John Doe c/Math101 s/Week 3 Tutorial status/PRESENT",
+            "addclass", "addclass c/Sec2-Math-A tutor/Ms Lim",
+            "addsession", "addsession c/Math101 s/Week 3 Tutorial dt/2025-03-15 14:30 lo/COM1-B103",
+            "query", "query ro/student AND (c/Math101 OR t/friends) AND NOT n/John",
+            "delete", "delete 3",
+            "list", "list");
+
+    @Param({"add", "attend", "addclass", "addsession", "query", "delete", "list"})
+    public String command;
+
+    private AddressBookParser parser;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser();
+        input = INPUTS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ArgumentTokenizer#split(String)} on the arguments of {@code add} and {@code attend}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/John Doe p/98765432 e/johnd@example.com "
+            + "a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney ro/student";
+    private static final String ATTEND_ARGUMENTS = " n/John Doe c/Math101 s/Week 3 Tutorial status/PRESENT";
+
+    private final ArgumentTokenizer addTokenizer = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG, PREFIX_PERSON_TYPE);
+    private final ArgumentTokenizer attendTokenizer = new ArgumentTokenizer(PREFIX_NAME, PREFIX_CLASS,
+            PREFIX_SESSION, PREFIX_STATUS);
+
+    @Benchmark
+    public ArgumentMultimap splitAddArguments() {
+        return addTokenizer.split(ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public ArgumentMultimap splitAttendArguments() {
+        return attendTokenizer.split(ATTEND_ARGUMENTS);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.classroom;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Student;
+
+/**
+ * Benchmarks marking the attendance of every student of a {@link ClassSession}, one at a time as {@code attend}
+ * does, and all at once as {@code attendall} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassSessionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int rosterSize;
+
+    private List<Student> students;
+    private ClassSession session;
+
+    @Setup
+    public void setUp() {
+        students = new ArrayList<>();
+        for (int i = 0; i < rosterSize; i++) {
+            students.add((Student) BenchmarkData.person(i, PersonType.STUDENT));
+        }
+        TuitionClass tuitionClass = new TuitionClass(new ClassName("Math101"));
+        tuitionClass.addStudents(students);
+        session = tuitionClass.addSession("Week 1", LocalDateTime.of(2024, 1, 8, 16, 0), "Room 1");
+    }
+
+    @Benchmark
+    public void markEachPresent() {
+        for (Student student : students) {
+            session.markPresent(student);
+        }
+    }
+
+    @Benchmark
+    public void markAllPresent() {
+        session.markAll(students, true);
+    }
+}
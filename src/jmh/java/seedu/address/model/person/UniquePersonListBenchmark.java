@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks {@link UniquePersonList#add(Person)} and {@link UniquePersonList#contains(Person)} on lists of
+ * increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private UniquePersonList list;
+    private Person lastPerson;
+    private Person newPerson;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.persons(size);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+        lastPerson = persons.get(size - 1);
+        newPerson = BenchmarkData.person(size, PersonType.STUDENT);
+    }
+
+    @Benchmark
+    public boolean containsLastPerson() {
+        return list.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsMissingPerson() {
+        return list.contains(newPerson);
+    }
+
+    /**
+     * Adds a new person, then removes them again so that every invocation starts from the same list.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        list.add(newPerson);
+        list.remove(newPerson);
+    }
+}
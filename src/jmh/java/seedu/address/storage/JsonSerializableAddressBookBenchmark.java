@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Benchmarks {@link JsonSerializableAddressBook#toModelType()}, which rebuilds the address book and its
+ * relationships after the data file has been parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000"})
+    public int students;
+
+    @Param({"52"})
+    public int weeks;
+
+    private JsonSerializableAddressBook serializedAddressBook;
+
+    @Setup
+    public void setUp() {
+        serializedAddressBook = new JsonSerializableAddressBook(
+                BenchmarkData.addressBook(students, weeks));
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializedAddressBook.toModelType();
+    }
+}
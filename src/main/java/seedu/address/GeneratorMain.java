@@ -0,0 +1,108 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.StorageBackend;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.model.util.SampleDataGenerator.Size;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
+
+/**
+ * Generates an address book with {@link SampleDataGenerator} and saves it through the storage layer, without
+ * starting the application.
+ * <p>
+ * The number of tutors and classes follows from the number of students unless they are given.
+ * <p>
+ * Usage: {@code java -jar addressbook.jar --generate [--students=N] [--tutors=N] [--classes=N] [--weeks=N]
+ * [--seed=N] [--backend=json|h2] [--output=FILE]}
+ */
+public class GeneratorMain {
+
+    /** The argument that makes {@link Main} generate an address book instead of starting the application. */
+    public static final String GENERATE_FLAG = "--generate";
+
+    public static final String MESSAGE_USAGE = "Usage: " + GENERATE_FLAG + " [--students=N] [--tutors=N] "
+            + "[--classes=N] [--weeks=N] [--seed=N] [--backend=json|h2] [--output=FILE]";
+    public static final String MESSAGE_SUCCESS = "Saved %1$d persons and %2$d classes to %3$s";
+
+    public static final int DEFAULT_STUDENTS = 1000;
+    public static final Path DEFAULT_OUTPUT = Paths.get("data", "generated.json");
+
+    private static final Logger logger = LogsCenter.getLogger(GeneratorMain.class);
+
+    public static void main(String[] args) {
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Generates and saves the address book described by {@code args}, reporting to {@code out} and {@code err}.
+     *
+     * @return the exit status: 0 if the address book was saved, and 1 otherwise.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Integer students = null;
+        Integer tutors = null;
+        Integer classes = null;
+        int weeks = Size.DEFAULT_WEEKS;
+        long seed = SampleDataGenerator.DEFAULT_SEED;
+        StorageBackend backend = StorageBackend.JSON;
+        Path output = DEFAULT_OUTPUT;
+
+        try {
+            for (String arg : args) {
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (arg.startsWith("--students=")) {
+                    students = Integer.parseInt(value);
+                } else if (arg.startsWith("--tutors=")) {
+                    tutors = Integer.parseInt(value);
+                } else if (arg.startsWith("--classes=")) {
+                    classes = Integer.parseInt(value);
+                } else if (arg.startsWith("--weeks=")) {
+                    weeks = Integer.parseInt(value);
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(value);
+                } else if (arg.startsWith("--backend=")) {
+                    backend = StorageBackend.valueOf(value.toUpperCase());
+                } else if (arg.startsWith("--output=")) {
+                    output = Paths.get(value);
+                } else {
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+
+            Size typical = Size.ofStudents(students == null ? DEFAULT_STUDENTS : students);
+            Size size = new Size(typical.students, tutors == null ? typical.tutors : tutors,
+                    classes == null ? typical.classes : classes, weeks);
+            logger.info("Generating " + size + " with seed " + seed);
+            AddressBook addressBook = new SampleDataGenerator(seed).generate(size);
+
+            AddressBookStorage storage = backend == StorageBackend.H2
+                    ? new SqlAddressBookStorage(output)
+                    : new JsonAddressBookStorage(output);
+            storage.saveAddressBook(addressBook);
+            out.println(String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(),
+                    addressBook.getClassList().size(), storage.getAddressBookFilePath()));
+            return 0;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+            err.println(e.getMessage());
+            err.println(MESSAGE_USAGE);
+            return 1;
+        } catch (IOException e) {
+            logger.severe("Failed to save the generated address book " + StringUtil.getDetails(e));
+            err.println("Could not save to " + output + ": " + e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.SlowCommandLog;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, e.g. for scripts and scheduled jobs.
+ * <p>
+ * The commands are taken from the arguments, one command per argument, or read from standard input, one
+ * command per line, when no command is given. The feedback of each command is printed to standard output
+ * and errors to standard error. The exit status is 1 if any command failed, and 0 otherwise.
+ * <p>
+ * Usage: {@code java -jar addressbook.jar --cli [--config=CONFIG_FILE] [COMMAND]...}
+ */
+public class HeadlessMain {
+
+    /** The argument that makes {@link Main} start in headless mode. */
+    public static final String HEADLESS_FLAG = "--cli";
+
+    public static final String PROMPT = "> ";
+
+    private static final String CONFIG_PARAMETER = "--config=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        // The console is for command output; log messages still go to the log file
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        logger.info("=============================[ Initializing AddressBook (headless) ]=================");
+
+        Path configPath = null;
+        List<String> commands = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_PARAMETER) && FileUtil.isValidPath(arg.substring(CONFIG_PARAMETER.length()))) {
+                configPath = Paths.get(arg.substring(CONFIG_PARAMETER.length()));
+            } else {
+                commands.add(arg);
+            }
+        }
+
+        Config config = AppInitializer.initConfig(configPath);
+        LogsCenter.init(config);
+        CommandMetrics.setEnabled(config.isCommandMetricsEnabled());
+        SlowCommandLog.setThresholdMillis(config.getSlowCommandThresholdMillis());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        StorageManager storage = new StorageManager(AppInitializer.initAddressBookStorage(userPrefs),
+                userPrefsStorage);
+        storage.registerMBean();
+        ModelManager model = new ModelManager(AppInitializer.readInitialData(storage), userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        // Commands run while holding the lock of the logic, and so is the model counted for JMX clients
+        model.registerMBean(task -> {
+            synchronized (logic) {
+                task.run();
+            }
+        });
+        logger.info("Time to ready: " + AppInitializer.getUptimeMillis() + " ms");
+
+        BufferedReader input = commands.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : new BufferedReader(new StringReader(String.join("\n", commands)));
+        boolean showPrompt = commands.isEmpty() && System.console() != null;
+        // An export is written after its command has returned, so a failed export counts as a failed command
+        AtomicInteger failedExports = new AtomicInteger();
+        ExportCommand.setFailureListener(message -> {
+            System.err.println(message);
+            failedExports.incrementAndGet();
+        });
+        int failedCommands = runCommands(logic, input, System.out, System.err, showPrompt);
+
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        ExportCommand.shutdownExports();
+        logger.info("============================ [ Stopping AddressBook (headless) ] ==================");
+        System.exit(failedCommands == 0 && failedExports.get() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Executes the commands in {@code input}, one per line, until the input ends or a command asks to exit.
+     * Blank lines are skipped. Each command runs while holding the lock of {@code logic}.
+     *
+     * @param showPrompt whether to print {@link #PROMPT} before reading each command.
+     * @return the number of commands that failed.
+     */
+    static int runCommands(Logic logic, BufferedReader input, PrintStream out, PrintStream err,
+            boolean showPrompt) throws IOException {
+        int failedCommands = 0;
+        while (true) {
+            if (showPrompt) {
+                out.print(PROMPT);
+                out.flush();
+            }
+            String commandText = input.readLine();
+            if (commandText == null) {
+                break;
+            }
+            if (commandText.isBlank()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult;
+                synchronized (logic) {
+                    commandResult = logic.execute(commandText);
+                }
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                failedCommands++;
+            }
+        }
+        return failedCommands;
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -18,11 +19,22 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Starting with {@value HeadlessMain#HEADLESS_FLAG} runs {@link HeadlessMain} instead, without any JavaFX window,
+ * and starting with {@value GeneratorMain#GENERATE_FLAG} runs {@link GeneratorMain} to generate an address book.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(HeadlessMain.HEADLESS_FLAG)) {
+            HeadlessMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(GeneratorMain.GENERATE_FLAG)) {
+            GeneratorMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
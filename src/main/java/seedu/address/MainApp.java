@@ -2,28 +2,27 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.SlowCommandLog;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -46,51 +45,83 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private StartupProfiler startupProfiler;
+    /** The steps left before startup ends, which are showing the window and populating the model. */
+    private int startupStepsLeft = 2;
+
     @Override
     public void init() throws Exception {
+        startupProfiler = new StartupProfiler();
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        startupProfiler.endPhase("config");
         initLogging(config);
+        CommandMetrics.setEnabled(config.isCommandMetricsEnabled());
+        SlowCommandLog.setThresholdMillis(config.getSlowCommandThresholdMillis());
+        startupProfiler.endPhase("logging");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        startupProfiler.endPhase("preferences");
+        AddressBookStorage addressBookStorage = AppInitializer.initAddressBookStorage(userPrefs);
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storageManager.registerMBean();
+        storage = storageManager;
+        startupProfiler.endPhase("storage");
+
+        // The data is loaded in the background so that the main window can be shown straight away
+        ModelManager modelManager = new ModelManager(new AddressBook(), userPrefs);
+        // The model is only read on the JavaFX application thread, which is where its statistics are counted
+        modelManager.registerMBean(Platform::runLater);
+        model = modelManager;
+        startupProfiler.endPhase("model");
+
+        LogicManager logicManager = new LogicManager(model, storage);
+        // The main window times how long it takes to show the result of each command
+        logicManager.setUiRefreshRecorded(true);
+        logicManager.readyProperty().addListener((observable, wasReady, isReady) -> {
+            if (isReady) {
+                logger.info("Time to ready: " + AppInitializer.getUptimeMillis() + " ms");
+            }
+        });
+        // The model is rebuilt around the data when the data is handed to it on the JavaFX application thread.
+        // If the data cannot be read, an empty address book is handed over the same way, so startup still ends
+        Supplier<ReadOnlyAddressBook> loader = () -> startupProfiler.time("read data", () ->
+                AppInitializer.readInitialData(storage));
+        logicManager.loadAddressBookInBackground(loader, runnable -> Platform.runLater(() -> {
+            startupProfiler.time("populate model", runnable);
+            endStartupStep();
+        }));
+        logic = logicManager;
+        startupProfiler.endPhase("logic");
 
         ui = new UiManager(logic);
+        ExportCommand.setFailureListener(message -> ui.showErrorLater("Export failed", message));
+        startupProfiler.endPhase("ui");
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Marks one of the steps that end startup, showing the window and populating the model, as done, and reports
+     * the startup phases once both are. Called on the JavaFX application thread.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+    private void endStartupStep() {
+        startupStepsLeft--;
+        if (startupStepsLeft > 0) {
+            return;
+        }
+        logger.info(startupProfiler.getSummary());
+        Path profilePath = config.getStartupProfilePath();
+        if (profilePath == null) {
+            return;
+        }
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            startupProfiler.writeJson(profilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write startup profile to " + profilePath + ": " + StringUtil.getDetails(e));
         }
-
-        return new ModelManager(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -103,37 +134,7 @@ public class MainApp extends Application {
      * if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
@@ -142,36 +143,15 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+        startupProfiler.time("show window", () -> ui.start(primaryStage));
+        logger.info("Time to first paint: " + AppInitializer.getUptimeMillis() + " ms");
+        endStartupStep();
     }
 
     @Override
@@ -182,5 +162,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            ExportCommand.shutdownExports();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for exports to finish");
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -0,0 +1,203 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Times the phases that the app goes through while it starts, and the bytes that each phase allocates where the
+ * JVM can tell, so that the phase to speed up can be found as the data grows.
+ * <p>
+ * Phases on the thread that created the profiler run one after another and are timed with
+ * {@link #endPhase(String)}. Phases on other threads, such as reading the data in the background, are timed with
+ * {@link #time(String, Supplier)} and may overlap with them.
+ */
+public class StartupProfiler {
+
+    public static final String MESSAGE_SUMMARY = "Startup took %1$d ms, and ended %2$d ms after the JVM started:";
+    public static final String MESSAGE_PHASE = "  %1$-16s %2$9.1f ms %3$10s  [%4$s]";
+    public static final String MESSAGE_ALLOCATION_UNKNOWN = "n/a";
+
+    /**
+     * How long one phase took, on which thread, and how many bytes it allocated.
+     */
+    public static class PhaseTiming {
+        private final String name;
+        private final String threadName;
+        private final double millis;
+        /** The bytes allocated by the phase, or -1 if the JVM cannot tell. */
+        private final long allocatedBytes;
+        private final transient long endNanos;
+
+        private PhaseTiming(String name, String threadName, long nanos, long allocatedBytes, long endNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.millis = nanos / 1_000_000.0;
+            this.allocatedBytes = allocatedBytes;
+            this.endNanos = endNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public double getMillis() {
+            return millis;
+        }
+
+        /**
+         * Returns the bytes allocated by the phase, or -1 if the JVM cannot tell.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * The phases and the total time of startup, as written to a JSON file.
+     */
+    private static class Report {
+        private final long totalMillis;
+        private final long uptimeMillis;
+        private final List<PhaseTiming> phases;
+
+        private Report(long totalMillis, long uptimeMillis, List<PhaseTiming> phases) {
+            this.totalMillis = totalMillis;
+            this.uptimeMillis = uptimeMillis;
+            this.phases = phases;
+        }
+    }
+
+    private final List<PhaseTiming> phases = new ArrayList<>();
+    private final Thread owner = Thread.currentThread();
+    private final long startNanos;
+    private long phaseStartNanos;
+    private long phaseStartAllocatedBytes;
+
+    /**
+     * Creates a profiler whose first phase starts now.
+     */
+    public StartupProfiler() {
+        startNanos = System.nanoTime();
+        phaseStartNanos = startNanos;
+        phaseStartAllocatedBytes = getAllocatedBytes();
+    }
+
+    /**
+     * Records a phase called {@code name} that started when the previous phase ended, or when this profiler was
+     * created, and ends now. Must be called on the thread that created this profiler.
+     */
+    public void endPhase(String name) {
+        requireNonNull(name);
+        assert Thread.currentThread() == owner : "Phases that end one after another must be on one thread";
+        long now = System.nanoTime();
+        long allocatedBytes = getAllocatedBytes();
+        add(name, now - phaseStartNanos, getAllocatedSince(phaseStartAllocatedBytes, allocatedBytes), now);
+        phaseStartNanos = now;
+        phaseStartAllocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Runs {@code work} on this thread, which may be any thread, and records it as a phase called {@code name}.
+     * The phase is recorded even if {@code work} throws.
+     */
+    public <T> T time(String name, Supplier<T> work) {
+        requireNonNull(name);
+        requireNonNull(work);
+        long start = System.nanoTime();
+        long allocatedBefore = getAllocatedBytes();
+        try {
+            return work.get();
+        } finally {
+            long now = System.nanoTime();
+            add(name, now - start, getAllocatedSince(allocatedBefore, getAllocatedBytes()), now);
+        }
+    }
+
+    /**
+     * Similar to {@link #time(String, Supplier)}, but for work that returns nothing.
+     */
+    public void time(String name, Runnable work) {
+        requireNonNull(work);
+        time(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the phases recorded so far, in the order that they ended.
+     */
+    public synchronized List<PhaseTiming> getPhases() {
+        return List.copyOf(phases);
+    }
+
+    /**
+     * Returns the milliseconds from the creation of this profiler until the last phase ended.
+     */
+    public synchronized long getTotalMillis() {
+        long endNanos = phases.stream().mapToLong(phase -> phase.endNanos).max().orElse(startNanos);
+        return (endNanos - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Returns a table of the phases recorded so far, one line for each, after a line with the total time.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_SUMMARY, getTotalMillis(),
+                AppInitializer.getUptimeMillis()));
+        for (PhaseTiming phase : getPhases()) {
+            String allocated = phase.allocatedBytes < 0
+                    ? MESSAGE_ALLOCATION_UNKNOWN
+                    : StringUtil.formatBytes(phase.allocatedBytes);
+            summary.append('\n').append(String.format(Locale.ROOT, MESSAGE_PHASE, phase.name, phase.millis,
+                    allocated, phase.threadName));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes the total time and the phases recorded so far to the JSON file at {@code filePath}.
+     */
+    public void writeJson(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.saveJsonFile(new Report(getTotalMillis(), AppInitializer.getUptimeMillis(), getPhases()),
+                filePath);
+    }
+
+    private synchronized void add(String name, long nanos, long allocatedBytes, long endNanos) {
+        phases.add(new PhaseTiming(name, Thread.currentThread().getName(), nanos, allocatedBytes, endNanos));
+    }
+
+    private static long getAllocatedSince(long before, long after) {
+        return before < 0 || after < 0 ? -1 : after - before;
+    }
+
+    /**
+     * Returns the bytes allocated by this thread so far, or -1 if the JVM cannot tell.
+     */
+    private static long getAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+}
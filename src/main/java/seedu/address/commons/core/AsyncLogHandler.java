@@ -0,0 +1,250 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to other handlers on a background thread, so that the thread that logs a record does not wait
+ * for it to be formatted and written.
+ * <p>
+ * Records wait in a queue of fixed capacity. When the queue is full, what happens to a record below
+ * {@code WARNING} depends on the {@link DropPolicy}; warnings and errors are never dropped, and wait for space
+ * instead. The number of records dropped is logged as a warning once the queue has space again.
+ * A record that is still waiting for space when the handler is closed is ignored, as are records published after.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record below {@code WARNING} when the queue is full.
+     */
+    public enum DropPolicy {
+        /** Drop the record being logged. */
+        DISCARD_NEWEST,
+        /**
+         * Drop the oldest record below {@code WARNING} in the queue to make space for the record being logged,
+         * or wait for space if there is none.
+         */
+        DISCARD_OLDEST,
+        /** Wait for space, as a synchronous handler would. */
+        BLOCK
+    }
+
+    public static final String MESSAGE_DROPPED = "Dropped %1$d log record(s) because the log queue was full";
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+    /** How often a record waiting for space checks whether the handler has been closed. */
+    private static final long PUT_POLL_MILLIS = 100;
+    private static final LogRecord END = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> targets;
+    private final DropPolicy dropPolicy;
+    private final BlockingQueue<LogRecord> queue;
+    private final Thread writer;
+
+    /** Records dropped since the last report of them. */
+    private final AtomicLong unreportedDrops = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    /** Records that have been queued but not yet published. */
+    private final AtomicLong pendingCount = new AtomicLong();
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes records to {@code targets}, in order, through a queue of {@code capacity}
+     * records, and starts its thread.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, DropPolicy dropPolicy) {
+        requireNonNull(targets);
+        requireNonNull(dropPolicy);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Log queue capacity must be positive: " + capacity);
+        }
+        this.targets = List.copyOf(targets);
+        this.dropPolicy = dropPolicy;
+        queue = new ArrayBlockingQueue<>(capacity);
+        setLevel(Level.ALL);
+
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // Finds the caller now, as it is found from the stack of the thread that logged the record
+        record.getSourceClassName();
+
+        pendingCount.incrementAndGet();
+        if (queue.offer(record)) {
+            return;
+        }
+        if (!isDroppable(record) || dropPolicy == DropPolicy.BLOCK) {
+            putUninterruptibly(record);
+            return;
+        }
+        if (dropPolicy == DropPolicy.DISCARD_OLDEST) {
+            while (!queue.offer(record)) {
+                if (!dropOldestDroppable()) {
+                    // Every queued record is a warning or an error
+                    putUninterruptibly(record);
+                    return;
+                }
+            }
+            return;
+        }
+        recordDrop();
+    }
+
+    /**
+     * Returns true if {@code record} may be dropped when the queue is full.
+     */
+    private static boolean isDroppable(LogRecord record) {
+        // END is logged at OFF, so it is never dropped either
+        return record.getLevel().intValue() < Level.WARNING.intValue();
+    }
+
+    /**
+     * Removes the oldest queued record below {@code WARNING}, and returns false if there is none.
+     */
+    private boolean dropOldestDroppable() {
+        for (LogRecord queued : queue) {
+            // The writer may take the record first, in which case the next one is tried
+            if (isDroppable(queued) && queue.remove(queued)) {
+                recordDrop();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of records dropped since this handler was created.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Waits until the records queued so far have been published, for up to a few seconds, and flushes the target
+     * handlers.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() != writer) {
+            long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+            synchronized (pendingCount) {
+                while (pendingCount.get() > 0 && writer.isAlive() && System.currentTimeMillis() < deadline) {
+                    try {
+                        pendingCount.wait(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Publishes the records queued so far, stops the thread and closes the target handlers.
+     * Records published after this are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            if (queue.offer(END, FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                writer.join(FLUSH_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            reportDrops();
+            if (record == END) {
+                return;
+            }
+
+            publishToTargets(record);
+            if (pendingCount.decrementAndGet() == 0) {
+                synchronized (pendingCount) {
+                    pendingCount.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void reportDrops() {
+        long drops = unreportedDrops.getAndSet(0);
+        if (drops > 0) {
+            LogRecord warning = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, drops));
+            warning.setSourceClassName(AsyncLogHandler.class.getName());
+            warning.setSourceMethodName("publish");
+            publishToTargets(warning);
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to publish a log record", e, 0);
+            }
+        }
+    }
+
+    private void recordDrop() {
+        pendingCount.decrementAndGet();
+        unreportedDrops.incrementAndGet();
+        droppedCount.incrementAndGet();
+    }
+
+    /**
+     * Waits for space in the queue and adds {@code record}, unless the handler is closed while waiting, since
+     * nothing takes records from the queue once the writer has stopped.
+     */
+    private void putUninterruptibly(LogRecord record) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                if (queue.offer(record, PUT_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                if (isClosed) {
+                    pendingCount.decrementAndGet();
+                    break;
+                }
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
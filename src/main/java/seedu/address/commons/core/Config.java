@@ -13,10 +13,17 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_LOG_QUEUE_CAPACITY = 1024;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean commandMetricsEnabled = true;
+    private boolean asyncLogging = false;
+    private int logQueueCapacity = DEFAULT_LOG_QUEUE_CAPACITY;
+    private AsyncLogHandler.DropPolicy logDropPolicy = AsyncLogHandler.DropPolicy.DISCARD_NEWEST;
+    private long slowCommandThresholdMillis = 1000;
+    private Path startupProfilePath = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +41,68 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the time taken by each phase of each command should be recorded.
+     */
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
+    /**
+     * Returns true if log records should be written on a background thread, through {@link AsyncLogHandler}.
+     */
+    public boolean isAsyncLogging() {
+        return asyncLogging;
+    }
+
+    public void setAsyncLogging(boolean asyncLogging) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public int getLogQueueCapacity() {
+        return logQueueCapacity;
+    }
+
+    public void setLogQueueCapacity(int logQueueCapacity) {
+        this.logQueueCapacity = logQueueCapacity;
+    }
+
+    public AsyncLogHandler.DropPolicy getLogDropPolicy() {
+        return logDropPolicy;
+    }
+
+    public void setLogDropPolicy(AsyncLogHandler.DropPolicy logDropPolicy) {
+        this.logDropPolicy = logDropPolicy;
+    }
+
+    /**
+     * Returns the time in milliseconds that a command must take to be described in the slow command log,
+     * or a negative number if the log is off.
+     */
+    public long getSlowCommandThresholdMillis() {
+        return slowCommandThresholdMillis;
+    }
+
+    public void setSlowCommandThresholdMillis(long slowCommandThresholdMillis) {
+        this.slowCommandThresholdMillis = slowCommandThresholdMillis;
+    }
+
+    /**
+     * Returns the file that the time taken by each phase of startup is written to as JSON, or null if it is only
+     * logged.
+     */
+    public Path getStartupProfilePath() {
+        return startupProfilePath;
+    }
+
+    public void setStartupProfilePath(Path startupProfilePath) {
+        this.startupProfilePath = startupProfilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +116,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && commandMetricsEnabled == otherConfig.commandMetricsEnabled
+                && asyncLogging == otherConfig.asyncLogging
+                && logQueueCapacity == otherConfig.logQueueCapacity
+                && logDropPolicy == otherConfig.logDropPolicy
+                && slowCommandThresholdMillis == otherConfig.slowCommandThresholdMillis
+                && Objects.equals(startupProfilePath, otherConfig.startupProfilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, commandMetricsEnabled, asyncLogging, logQueueCapacity,
+                logDropPolicy, slowCommandThresholdMillis, startupProfilePath);
     }
 
     @Override
@@ -60,6 +136,12 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("commandMetricsEnabled", commandMetricsEnabled)
+                .add("asyncLogging", asyncLogging)
+                .add("logQueueCapacity", logQueueCapacity)
+                .add("logDropPolicy", logDropPolicy)
+                .add("slowCommandThresholdMillis", slowCommandThresholdMillis)
+                .add("startupProfilePath", startupProfilePath)
                 .toString();
     }
 
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,13 +18,22 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * The handlers can be moved behind an {@link AsyncLogHandler}, so that logging does not wait for the console or
+ *   the file.<br>
+ * Commands that take too long are described in a log of their own, see {@link #getSlowCommandLogger()}.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int SLOW_COMMAND_MAX_FILE_COUNT = 3;
+    private static final int SLOW_COMMAND_MAX_FILE_SIZE_IN_BYTES = (int) Math.pow(2, 20); // 1MB
+    private static final String SLOW_COMMAND_LOG_FILE = "slowcommands.log";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
+    private static Logger slowCommandLogger;
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -40,6 +51,47 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        if (config.isAsyncLogging()) {
+            setAsync(getValidQueueCapacity(config.getLogQueueCapacity()), config.getLogDropPolicy());
+        }
+    }
+
+    /**
+     * Returns {@code capacity} if a queue can hold that many log records, or the default capacity otherwise.
+     */
+    static int getValidQueueCapacity(int capacity) {
+        if (capacity >= 1) {
+            return capacity;
+        }
+        logger.warning("Log queue capacity must be positive, but is " + capacity + ". Using "
+                + Config.DEFAULT_LOG_QUEUE_CAPACITY + " instead");
+        return Config.DEFAULT_LOG_QUEUE_CAPACITY;
+    }
+
+    /**
+     * Publishes log records to the console and the log file on a background thread, through a queue of
+     * {@code capacity} records that drops records by {@code dropPolicy} when it is full.
+     * Does nothing if log records are already published on a background thread.
+     */
+    public static synchronized void setAsync(int capacity, AsyncLogHandler.DropPolicy dropPolicy) {
+        if (asyncHandler != null) {
+            return;
+        }
+        List<Handler> handlers = List.of(baseLogger.getHandlers());
+        asyncHandler = new AsyncLogHandler(handlers, capacity, dropPolicy);
+        removeHandlers(baseLogger);
+        baseLogger.addHandler(asyncHandler);
+        // The LogManager closes the handlers of every logger when the JVM shuts down, which publishes the rest
+        logger.info("Logging asynchronously through a queue of " + capacity + " records, " + dropPolicy);
+    }
+
+    /**
+     * Only logs messages of at least {@code level} to the console. The log file still receives all messages.
+     * Used when the console is where command output goes, e.g. in headless mode.
+     */
+    public static void setConsoleLevel(Level level) {
+        requireNonNull(level);
+        consoleHandler.setLevel(level);
     }
 
     /**
@@ -58,6 +110,32 @@ public class LogsCenter {
         return logger;
     }
 
+    /**
+     * Returns the logger for commands that took too long, which writes to a {@code .log} file of its own rather than
+     * to the console and the main {@code .log} file. The file is created the first time this is called, and a new
+     * one with a new numbering is started after it reaches 1MB, up to a maximum of 3 files.
+     */
+    public static synchronized Logger getSlowCommandLogger() {
+        if (slowCommandLogger != null) {
+            return slowCommandLogger;
+        }
+        // Not a descendant of the baseLogger, so that neither its handlers nor its level apply
+        slowCommandLogger = Logger.getLogger("slowcommands");
+        slowCommandLogger.setUseParentHandlers(false);
+        slowCommandLogger.setLevel(Level.INFO);
+        removeHandlers(slowCommandLogger);
+        try {
+            FileHandler fileHandler = new FileHandler(SLOW_COMMAND_LOG_FILE, SLOW_COMMAND_MAX_FILE_SIZE_IN_BYTES,
+                    SLOW_COMMAND_MAX_FILE_COUNT, true);
+            fileHandler.setFormatter(new SimpleFormatter());
+            fileHandler.setLevel(Level.ALL);
+            slowCommandLogger.addHandler(fileHandler);
+        } catch (IOException e) {
+            logger.warning("Error adding file handler for slow command logger.");
+        }
+        return slowCommandLogger;
+    }
+
     /**
      * Creates a Logger for the given class name.
      */
@@ -87,7 +165,7 @@ public class LogsCenter {
         // already; there is no need to control log message level of the handlers.
 
         // add a ConsoleHandler to log to the console
-        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
         baseLogger.addHandler(consoleHandler);
 
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for handling comma-separated values.
+ * Fields may be enclosed in double quotes to contain commas, and a doubled quote inside a quoted field
+ * stands for a single quote. A field cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field is not closed";
+
+    /**
+     * Splits a single CSV {@code line} into its fields.
+     *
+     * @param line cannot be null.
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    public static List<String> splitLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns {@code field} quoted for use in a CSV line.
+     * The field is quoted only if it contains a comma, a quote, a line break or surrounding whitespace.
+     *
+     * @param field cannot be null.
+     */
+    public static String escape(String field) {
+        requireNonNull(field);
+
+        boolean needsQuotes = !field.equals(field.strip())
+                || field.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+        if (!needsQuotes) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -65,6 +65,26 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the file name of {@code file} up to its first dot, e.g. {@code addressbook} for
+     * {@code data/addressbook.mv.db}.
+     */
+    public static String getFileNameStem(Path file) {
+        String fileName = file.getFileName().toString();
+        int dotIndex = fileName.indexOf('.');
+        return dotIndex == -1 ? fileName : fileName.substring(0, dotIndex);
+    }
+
+    /**
+     * Returns the path of a file in the same directory as {@code file} and with the same extension,
+     * but whose file name up to its first dot is {@code stem}.
+     */
+    public static Path replaceFileNameStem(Path file, String stem) {
+        String fileName = file.getFileName().toString();
+        int dotIndex = fileName.indexOf('.');
+        return file.resolveSibling(stem + (dotIndex == -1 ? "" : fileName.substring(dotIndex)));
+    }
+
     /**
      * Assumes file exists
      */
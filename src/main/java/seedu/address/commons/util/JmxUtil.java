@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Registers management beans with the platform MBean server, where JMX clients such as JConsole can read them.
+ */
+public class JmxUtil {
+
+    /** The domain of the names of the beans of this application. */
+    public static final String DOMAIN = "seedu.address";
+
+    private static final Logger logger = LogsCenter.getLogger(JmxUtil.class);
+
+    private JmxUtil() {
+    }
+
+    /**
+     * Returns the name of the bean of the given {@code type}, such as {@code seedu.address:type=Model}.
+     */
+    public static ObjectName getObjectName(String type) {
+        requireNonNull(type);
+        try {
+            return new ObjectName(DOMAIN, "type", type);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid bean type: " + type, e);
+        }
+    }
+
+    /**
+     * Registers {@code bean} under the name for {@code type}, replacing any bean registered under it before.
+     * Monitoring is not needed to run the application, so a failure is logged rather than thrown.
+     *
+     * @return true if the bean was registered.
+     */
+    public static boolean register(String type, Object bean) {
+        requireNonNull(bean);
+        ObjectName name = getObjectName(type);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(bean, name);
+            logger.fine("Registered management bean " + name);
+            return true;
+        } catch (JMException e) {
+            logger.warning("Could not register management bean " + name + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for executing a command, from parsing it to saving the address book afterwards.
+ * Its duration is the time taken to do so.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"TutBook", "Logic"})
+@Description("Parsing and executing a command, and saving the address book if it may have changed")
+class CommandEvent extends Event {
+
+    @Label("Command Word")
+    @Description("The word the command is registered as, or null if the command could not be parsed")
+    String commandWord;
+
+    @Label("Changes Address Book")
+    boolean isMutating;
+
+    @Label("Persons")
+    @Description("The number of persons in the address book after the command")
+    int personCount;
+
+    @Label("Classes")
+    @Description("The number of classes in the address book after the command")
+    int classCount;
+
+    @Label("Successful")
+    boolean isSuccessful;
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.LatencyHistogram;
+
+/**
+ * Records how long each phase of each command took, per command word, since the app started.
+ * <p>
+ * Timing is on unless turned off with {@link #setEnabled(boolean)}. While it is off, callers skip reading the
+ * clock by checking {@link #isEnabled()} first, so that the only cost left is that check.
+ * The durations are recorded and read on the thread that executes commands.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases that a command goes through, in order.
+     */
+    public enum Phase {
+        /** Turning the command text into a command. */
+        PARSE,
+        /** Running the command against the model. */
+        EXECUTE,
+        /** Saving the address book after a command that may have changed it. */
+        PERSIST,
+        /** Showing the result of the command in the window. */
+        UI_REFRESH
+    }
+
+    private static final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+    private static volatile boolean isEnabled = true;
+
+    private CommandMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Turns timing on or off. The durations recorded so far are kept either way.
+     */
+    public static void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    /**
+     * Records that {@code phase} of the command called {@code commandWord} took {@code nanos} nanoseconds.
+     * Does nothing if timing is off.
+     */
+    public static void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        if (!isEnabled) {
+            return;
+        }
+        histograms.computeIfAbsent(commandWord, word -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Returns the durations recorded for each phase of each command word, by command word in alphabetical order.
+     * The returned histograms are the ones being recorded into, and must not be changed.
+     */
+    public static Map<String, Map<Phase, LatencyHistogram>> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Returns the durations recorded for {@code phase} of the command called {@code commandWord}, if any.
+     */
+    public static Optional<LatencyHistogram> getHistogram(String commandWord, Phase phase) {
+        return Optional.ofNullable(histograms.get(commandWord)).map(phases -> phases.get(phase));
+    }
+
+    /**
+     * Forgets every duration recorded so far.
+     */
+    public static void clear() {
+        histograms.clear();
+    }
+}
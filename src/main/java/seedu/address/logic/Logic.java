@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -24,6 +26,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Records that showing the result of the last command executed took {@code nanos} nanoseconds.
+     */
+    void recordUiRefreshTime(long nanos);
+
+    /**
+     * Returns a property that is false while the address book is still being loaded.
+     * Commands are rejected until it becomes true.
+     */
+    ReadOnlyBooleanProperty readyProperty();
+
+    /**
+     * Returns the command words and aliases that start with {@code prefix}, in alphabetical order.
+     */
+    List<String> getCommandCompletions(String prefix);
+
     /**
      * Returns the AddressBook.
      *
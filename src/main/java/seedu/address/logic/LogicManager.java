@@ -1,18 +1,38 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry.CommandEntry;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookCache;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.classroom.ClassSession;
@@ -28,11 +48,26 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String ADDRESS_BOOK_LOADING_ERROR_FORMAT = "Could not load address book %1$s from %2$s";
+
+    public static final String MESSAGE_NOT_READY = "Still loading data from %1$s. Please try again in a moment.";
+
+    public static final String MESSAGE_SWITCH_IN_TRANSACTION =
+            "Cannot switch address books during a transaction. Commit or roll it back first.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookCache addressBookCache;
+    private final ReadOnlyBooleanWrapper ready = new ReadOnlyBooleanWrapper(true);
+    private boolean isUiRefreshRecorded;
+    private String lastCommandWord;
+    private String lastCommandText;
+    /** The phases of the last command, if whether it was slow is only decided once its UI refresh is recorded. */
+    private Map<Phase, Long> pendingPhaseNanos;
+    private Optional<Path> pendingSavedFile;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,16 +76,216 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookCache = new AddressBookCache(model.getUserPrefs().getAddressBookMemoryBudget());
+    }
+
+    /**
+     * Sets whether {@link #recordUiRefreshTime(long)} is called after each command that succeeds, as the main
+     * window does. If so, whether such a command was slow is decided once its UI refresh is recorded, so that the
+     * time taken to show its result counts too.
+     */
+    public void setUiRefreshRecorded(boolean isUiRefreshRecorded) {
+        this.isUiRefreshRecorded = isUiRefreshRecorded;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        // The UI refresh of the previous command was not recorded, e.g. because showing its result failed
+        recordPendingIfSlow();
+        CommandEvent event = new CommandEvent();
+        Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        boolean isSuccessful = false;
+        event.begin();
+        try {
+            CommandResult commandResult = execute(commandText, event, phaseNanos);
+            event.isSuccessful = true;
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            if (event.shouldCommit()) {
+                event.personCount = model.getAddressBook().getPersonList().size();
+                event.classCount = model.getAddressBook().getClassList().size();
+            }
+            event.commit();
+            Optional<Path> savedFile = phaseNanos.containsKey(Phase.PERSIST)
+                    ? Optional.of(storage.getAddressBookFilePath())
+                    : Optional.empty();
+            if (isSuccessful && isUiRefreshRecorded && SlowCommandLog.isEnabled()) {
+                pendingPhaseNanos = phaseNanos;
+                pendingSavedFile = savedFile;
+            } else {
+                SlowCommandLog.recordIfSlow(commandText, phaseNanos, model::getStatistics, savedFile);
+            }
+        }
+    }
 
-        CommandResult commandResult;
+    /**
+     * Similar to {@link #execute(String)}, but also describes the command in {@code event}, and puts the time
+     * taken by each phase in {@code phaseNanos} if commands are being timed.
+     */
+    private CommandResult execute(String commandText, CommandEvent event, Map<Phase, Long> phaseNanos)
+            throws CommandException, ParseException {
+        if (!ready.get()) {
+            throw new CommandException(String.format(MESSAGE_NOT_READY, model.getAddressBookFilePath()));
+        }
+
+        boolean isTimed = CommandMetrics.isEnabled() || SlowCommandLog.isEnabled();
+        long startTime = isTimed ? System.nanoTime() : 0;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = getCommandWord(command);
+        boolean isMutating = addressBookParser.getRegistry().isMutating(command);
+        lastCommandWord = commandWord;
+        lastCommandText = commandText;
+        event.commandWord = commandWord;
+        event.isMutating = isMutating;
+        if (isTimed) {
+            startTime = recordPhase(commandWord, Phase.PARSE, startTime, phaseNanos);
+        }
+
+        CommandResult commandResult;
+        try {
+            commandResult = executeAtomically(command);
+        } finally {
+            if (isTimed) {
+                startTime = recordPhase(commandWord, Phase.EXECUTE, startTime, phaseNanos);
+            }
+        }
+        if (commandResult.getAddressBookName().isPresent()) {
+            if (model.isInTransaction()) {
+                throw new CommandException(MESSAGE_SWITCH_IN_TRANSACTION);
+            }
+            switchAddressBook(commandResult.getAddressBookName().get());
+        }
+
+        // Read-only commands leave the address book as it was last saved, and the changes made during
+        // a transaction are saved when it is committed
+        if (isMutating && !model.isInTransaction()) {
+            saveAddressBook();
+            if (isTimed) {
+                recordPhase(commandWord, Phase.PERSIST, startTime, phaseNanos);
+            }
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public void recordUiRefreshTime(long nanos) {
+        if (lastCommandWord != null) {
+            CommandMetrics.record(lastCommandWord, Phase.UI_REFRESH, nanos);
+        }
+        if (pendingPhaseNanos != null) {
+            pendingPhaseNanos.put(Phase.UI_REFRESH, nanos);
+            recordPendingIfSlow();
+        }
+    }
+
+    /**
+     * Describes the last command in the slow command log if it was slow, if that is still to be decided.
+     */
+    private void recordPendingIfSlow() {
+        if (pendingPhaseNanos == null) {
+            return;
+        }
+        SlowCommandLog.recordIfSlow(lastCommandText, pendingPhaseNanos, model::getStatistics, pendingSavedFile);
+        pendingPhaseNanos = null;
+        pendingSavedFile = null;
+    }
+
+    /**
+     * Returns the word that {@code command} is registered under, whichever alias or abbreviation it was typed as.
+     */
+    private String getCommandWord(Command command) {
+        return addressBookParser.getRegistry().getEntry(command)
+                .map(CommandEntry::getCommandWord)
+                .orElse(command.getClass().getSimpleName());
+    }
+
+    /**
+     * Records that {@code phase} of the command called {@code commandWord} has taken from {@code startTime}
+     * until now, also in {@code phaseNanos}, and returns the time now, from which the next phase starts.
+     */
+    private static long recordPhase(String commandWord, Phase phase, long startTime, Map<Phase, Long> phaseNanos) {
+        long now = System.nanoTime();
+        CommandMetrics.record(commandWord, phase, now - startTime);
+        phaseNanos.put(phase, now - startTime);
+        return now;
+    }
 
+    /**
+     * Executes {@code command}, undoing whatever it changed in the address book if it fails part way.
+     * If it succeeds, what it changed is added to the history of changes that can be undone.
+     */
+    private CommandResult executeAtomically(Command command) throws CommandException {
+        ChangeLog changes = model.startChangeLog();
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            if (!changes.isEmpty()) {
+                logger.info(() -> "Undoing " + changes.size() + " change(s) made by the failed command");
+            }
+            changes.revert();
+            throw e;
+        } finally {
+            changes.stop();
+        }
+
+        if (!changes.isEmpty()) {
+            model.invalidateStatistics();
+        }
+
+        // Undoing and redoing move through the history rather than add to it
+        if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
+            model.addToHistory(changes);
+        }
+        return commandResult;
+    }
+
+    /**
+     * Loads the address book supplied by {@code loader} on a background thread, then hands it to the model
+     * through {@code uiExecutor}. Commands are rejected until the address book has been handed over.
+     * If {@code loader} fails, an empty address book is handed over instead, as when the data file
+     * cannot be read at startup.
+     */
+    public void loadAddressBookInBackground(Supplier<? extends ReadOnlyAddressBook> loader, Executor uiExecutor) {
+        loadAddressBook(loader, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-loader");
+            thread.setDaemon(true);
+            thread.start();
+        }, uiExecutor);
+    }
+
+    /**
+     * Similar to {@link #loadAddressBookInBackground(Supplier, Executor)}, but runs {@code loader}
+     * on {@code loaderExecutor}.
+     */
+    void loadAddressBook(Supplier<? extends ReadOnlyAddressBook> loader, Executor loaderExecutor,
+            Executor uiExecutor) {
+        requireAllNonNull(loader, loaderExecutor, uiExecutor);
+        ready.set(false);
+        loaderExecutor.execute(() -> {
+            long startTime = System.nanoTime();
+            ReadOnlyAddressBook loaded;
+            try {
+                loaded = loader.get();
+                logger.info(String.format("Loaded data from %1$s in %2$d ms", model.getAddressBookFilePath(),
+                        (System.nanoTime() - startTime) / 1_000_000));
+            } catch (RuntimeException e) {
+                logger.warning("Data file at " + model.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook: " + StringUtil.getDetails(e));
+                loaded = new AddressBook();
+            }
+            ReadOnlyAddressBook addressBook = loaded;
+            uiExecutor.execute(() -> {
+                model.setAddressBook(addressBook);
+                ready.set(true);
+            });
+        });
+    }
+
+    private void saveAddressBook() throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -58,8 +293,49 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Makes the address book called {@code name} the active one. It is taken from the cache of inactive address
+     * books if it is there, read from its file otherwise, or created empty if it has no file yet. The address
+     * book that was active until now is saved and cached, which may evict other inactive address books.
+     *
+     * @throws CommandException if the address book file exists but could not be loaded, or if the active
+     *     address book could not be saved.
+     */
+    private void switchAddressBook(String name) throws CommandException {
+        // Saved so that it can be read back after being evicted, even if no command has changed it yet
+        saveAddressBook();
+
+        Optional<ReadOnlyAddressBook> cached = addressBookCache.take(name);
+        ReadOnlyAddressBook addressBook;
+        if (cached.isPresent()) {
+            logger.fine(() -> "Address book " + name + " is already in memory");
+            addressBook = cached.get();
+        } else {
+            Path filePath = storage.getAddressBookFilePath(name);
+            try {
+                addressBook = storage.readAddressBook(filePath).orElseGet(AddressBook::new);
+            } catch (DataLoadingException e) {
+                throw new CommandException(String.format(ADDRESS_BOOK_LOADING_ERROR_FORMAT, name, filePath), e);
+            }
+        }
+
+        String previousName = FileUtil.getFileNameStem(storage.getAddressBookFilePath());
+        AddressBook previousAddressBook = new AddressBook(model.getAddressBook());
+        model.switchAddressBook(name, addressBook);
+        storage.setAddressBookName(name);
+        addressBookCache.put(previousName, previousAddressBook, AddressBookCache.estimateSize(addressBook));
+    }
+
+    @Override
+    public List<String> getCommandCompletions(String prefix) {
+        return addressBookParser.getRegistry().getCompletions(prefix);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty readyProperty() {
+        return ready.getReadOnlyProperty();
     }
 
     @Override
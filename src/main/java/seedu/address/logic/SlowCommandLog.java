@@ -0,0 +1,108 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.ModelStatistics;
+
+/**
+ * Describes each command that took longer than a threshold in a log of its own, so that a stall can be looked
+ * into after the fact. An entry gives the command text, the time taken by each phase, the size of the address
+ * book at the time and, if the command saved it, the size of the data file.
+ * <p>
+ * The log is off unless a threshold is set with {@link #setThresholdMillis(long)}. The address book is only
+ * counted for commands that are slow, so the only cost to other commands is reading the clock.
+ */
+public class SlowCommandLog {
+
+    public static final String MESSAGE_COMMAND = "[%1$s] took %2$.1f ms";
+    public static final String MESSAGE_PHASE = "%1$s: %2$.1f ms";
+    public static final String MESSAGE_MODEL = "  model: %1$d persons (%2$d students, %3$d tutors, %4$d parents), "
+            + "%5$d classes, %6$d sessions, %7$d attendance marks, about %8$s";
+    public static final String MESSAGE_DATA_FILE = "  data file: %1$s, %2$s";
+    public static final String MESSAGE_DATA_FILE_SIZE_UNKNOWN = "size unknown";
+
+    private static volatile long thresholdNanos = -1;
+
+    private SlowCommandLog() {
+    }
+
+    public static boolean isEnabled() {
+        return thresholdNanos >= 0;
+    }
+
+    /**
+     * Describes commands whose phases take at least {@code millis} milliseconds in total.
+     * A negative threshold turns the log off.
+     */
+    public static void setThresholdMillis(long millis) {
+        thresholdNanos = millis < 0 ? -1 : millis * 1_000_000;
+    }
+
+    /**
+     * Describes the command {@code commandText} in the log if {@code phaseNanos}, the nanoseconds taken by each
+     * phase, add up to at least the threshold. Does nothing if the log is off.
+     *
+     * @param statistics supplies the size of the address book, and is only called if the command is slow.
+     * @param savedFile the data file, if the command saved the address book to it.
+     */
+    public static void recordIfSlow(String commandText, Map<Phase, Long> phaseNanos,
+            Supplier<ModelStatistics> statistics, Optional<Path> savedFile) {
+        requireAllNonNull(commandText, phaseNanos, statistics, savedFile);
+        long threshold = thresholdNanos;
+        if (threshold < 0 || phaseNanos.isEmpty() || getTotalNanos(phaseNanos) < threshold) {
+            return;
+        }
+        LogsCenter.getSlowCommandLogger().info(format(commandText, phaseNanos, statistics.get(), savedFile));
+    }
+
+    /**
+     * Returns the entry that describes the command {@code commandText}.
+     */
+    static String format(String commandText, Map<Phase, Long> phaseNanos, ModelStatistics statistics,
+            Optional<Path> savedFile) {
+        StringBuilder entry = new StringBuilder(String.format(Locale.ROOT, MESSAGE_COMMAND, commandText,
+                toMillis(getTotalNanos(phaseNanos))));
+
+        StringJoiner phases = new StringJoiner(", ", "\n  ", "");
+        phaseNanos.forEach((phase, nanos) -> phases.add(String.format(Locale.ROOT, MESSAGE_PHASE,
+                phase.name().toLowerCase(Locale.ROOT).replace('_', ' '), toMillis(nanos))));
+        entry.append(phases);
+
+        entry.append('\n').append(String.format(MESSAGE_MODEL, statistics.getPersonCount(),
+                statistics.getStudentCount(), statistics.getTutorCount(), statistics.getParentCount(),
+                statistics.getClassCount(), statistics.getSessionCount(), statistics.getAttendanceCount(),
+                StringUtil.formatBytes(statistics.getTotalBytes())));
+
+        savedFile.ifPresent(path -> entry.append('\n').append(String.format(MESSAGE_DATA_FILE, path,
+                getFileSize(path))));
+        return entry.toString();
+    }
+
+    private static long getTotalNanos(Map<Phase, Long> phaseNanos) {
+        return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String getFileSize(Path path) {
+        try {
+            return StringUtil.formatBytes(Files.size(path));
+        } catch (IOException e) {
+            return MESSAGE_DATA_FILE_SIZE_UNKNOWN;
+        }
+    }
+}
@@ -55,7 +55,7 @@ public class AddClassCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing AddClassCommand for class: " + classNameRaw
+        LOGGER.info(() -> "Executing AddClassCommand for class: " + classNameRaw
                 + (tutorNameRaw != null ? " with tutor: " + tutorNameRaw : ""));
 
         ClassName className = new ClassName(classNameRaw);
@@ -76,7 +76,7 @@ public class AddClassCommand extends Command {
 
         model.addClass(newClass);
         final String displayName = newClass.getClassName().toString();
-        LOGGER.info("Successfully added class: " + displayName);
+        LOGGER.info(() -> "Successfully added class: " + displayName);
         return new CommandResult(String.format(MESSAGE_SUCCESS, displayName),
                 CommandResult.DisplayType.CLASSES);
     }
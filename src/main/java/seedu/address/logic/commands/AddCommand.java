@@ -59,7 +59,7 @@ public class AddCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing AddCommand for person: " + toAdd.getName());
+        LOGGER.info(() -> "Executing AddCommand for person: " + toAdd.getName());
 
         if (model.hasPerson(toAdd)) {
             LOGGER.warning("Attempted to add duplicate person: " + toAdd.getName());
@@ -67,7 +67,7 @@ public class AddCommand extends Command {
         }
 
         model.addPerson(toAdd);
-        LOGGER.info("Successfully added person: " + toAdd.getName());
+        LOGGER.info(() -> "Successfully added person: " + toAdd.getName());
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -0,0 +1,203 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+
+/**
+ * Adds a series of numbered sessions that repeat at a fixed number of days to a class in the address book.
+ */
+public class AddRecurringSessionsCommand extends Command {
+
+    public static final String COMMAND_WORD = "addrecurring";
+
+    public static final int DEFAULT_INTERVAL_DAYS = 7;
+    public static final int MAX_COUNT = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds sessions that repeat every few days to a "
+            + "class. The sessions are named SESSION_NAME 1, SESSION_NAME 2 and so on. "
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS_NAME "
+            + PREFIX_SESSION + "SESSION_NAME "
+            + PREFIX_DATETIME + "FIRST_DATETIME "
+            + PREFIX_COUNT + "COUNT (1 to " + MAX_COUNT + ") "
+            + "[" + PREFIX_EVERY + "DAYS (default " + DEFAULT_INTERVAL_DAYS + ")] "
+            + "[" + PREFIX_LOCATION + "LOCATION]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "Math101 "
+            + PREFIX_SESSION + "Week "
+            + PREFIX_DATETIME + "2024-01-08 14:30 "
+            + PREFIX_COUNT + "13 "
+            + PREFIX_LOCATION + "COM1-B103";
+
+    public static final String MESSAGE_SUCCESS = "Added %1$d sessions to class %2$s: %3$s to %4$s";
+    public static final String MESSAGE_DUPLICATE_SESSIONS = "These session names already exist for this class: %s";
+    public static final String MESSAGE_DUPLICATE_DATETIMES =
+            "Sessions already exist at these date/times for this class: %s";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(AddRecurringSessionsCommand.class);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final String className;
+    private final String sessionName;
+    private final LocalDateTime firstDateTime;
+    private final int count;
+    private final int intervalDays;
+    private final String location;
+
+    /**
+     * Creates an AddRecurringSessionsCommand to add {@code count} sessions to the specified class, named
+     * {@code sessionName} followed by their number, the first at {@code firstDateTime} and each of the others
+     * {@code intervalDays} days after the one before.
+     *
+     * @param location The location of every session (can be null).
+     */
+    public AddRecurringSessionsCommand(String className, String sessionName, LocalDateTime firstDateTime,
+            int count, int intervalDays, String location) {
+        requireNonNull(className);
+        requireNonNull(sessionName);
+        requireNonNull(firstDateTime);
+        this.className = className;
+        this.sessionName = sessionName;
+        this.firstDateTime = firstDateTime;
+        this.count = count;
+        this.intervalDays = intervalDays;
+        this.location = location;
+    }
+
+    /**
+     * Returns the name of the session numbered {@code number}.
+     */
+    public static String getSessionName(String sessionName, int number) {
+        return sessionName + " " + number;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LOGGER.info(() -> "Executing AddRecurringSessionsCommand for " + count + " sessions " + sessionName
+                + " in class: " + className + " from " + firstDateTime + " every " + intervalDays + " days");
+
+        TuitionClass tuitionClass = model.getClassByName(className);
+        if (tuitionClass == null) {
+            LOGGER.warning("Class not found: " + className);
+            throw new CommandException(AddSessionCommand.MESSAGE_CLASS_NOT_EXIST);
+        }
+
+        Map<String, LocalDateTime> newSessions = new LinkedHashMap<>();
+        for (int number = 1; number <= count; number++) {
+            newSessions.put(getSessionName(sessionName, number), firstDateTime.plusDays((long) intervalDays
+                    * (number - 1)));
+        }
+        checkNoConflicts(tuitionClass, newSessions);
+
+        List<ClassSession> added = tuitionClass.addSessions(newSessions, location);
+        LOGGER.info(() -> "Successfully added " + added.size() + " sessions to class: " + className);
+
+        // Update the UI by refreshing the session list
+        model.setClass(tuitionClass, tuitionClass);
+        model.updateSessionListForClass(tuitionClass);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, added.size(), tuitionClass.getName(),
+                added.get(0).getSessionName(), added.get(added.size() - 1).getSessionName()),
+                CommandResult.DisplayType.SESSIONS);
+    }
+
+    /**
+     * Checks the names and date/times of {@code newSessions} against the existing sessions of
+     * {@code tuitionClass} in a single pass over them.
+     *
+     * @throws CommandException if a name or date/time is already taken.
+     */
+    private static void checkNoConflicts(TuitionClass tuitionClass, Map<String, LocalDateTime> newSessions)
+            throws CommandException {
+        Set<String> existingNames = new HashSet<>();
+        Set<LocalDateTime> existingDateTimes = new HashSet<>();
+        for (ClassSession session : tuitionClass.getAllSessions()) {
+            existingNames.add(normalise(session.getSessionName()));
+            existingDateTimes.add(session.getDateTime());
+        }
+
+        List<String> duplicateNames = new ArrayList<>();
+        List<String> duplicateDateTimes = new ArrayList<>();
+        newSessions.forEach((name, dateTime) -> {
+            if (existingNames.contains(normalise(name))) {
+                duplicateNames.add(name);
+            }
+            if (existingDateTimes.contains(dateTime)) {
+                duplicateDateTimes.add(dateTime.format(DATE_TIME_FORMATTER));
+            }
+        });
+        if (!duplicateNames.isEmpty()) {
+            LOGGER.warning("Duplicate session names in class " + tuitionClass.getName() + ": " + duplicateNames);
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_SESSIONS, String.join(", ", duplicateNames)));
+        }
+        if (!duplicateDateTimes.isEmpty()) {
+            LOGGER.warning("Duplicate datetimes in class " + tuitionClass.getName() + ": " + duplicateDateTimes);
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_DATETIMES,
+                    String.join(", ", duplicateDateTimes)));
+        }
+    }
+
+    /**
+     * Returns {@code sessionName} in the form that {@link TuitionClass#hasSessionName(String)} compares.
+     */
+    private static String normalise(String sessionName) {
+        return sessionName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddRecurringSessionsCommand)) {
+            return false;
+        }
+
+        AddRecurringSessionsCommand otherCommand = (AddRecurringSessionsCommand) other;
+        return className.equals(otherCommand.className)
+                && sessionName.equals(otherCommand.sessionName)
+                && firstDateTime.equals(otherCommand.firstDateTime)
+                && count == otherCommand.count
+                && intervalDays == otherCommand.intervalDays
+                && Objects.equals(location, otherCommand.location);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("className", className)
+                .add("sessionName", sessionName)
+                .add("firstDateTime", firstDateTime)
+                .add("count", count)
+                .add("intervalDays", intervalDays)
+                .add("location", location)
+                .toString();
+    }
+}
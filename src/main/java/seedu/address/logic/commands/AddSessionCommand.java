@@ -76,7 +76,7 @@ public class AddSessionCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing AddSessionCommand for session: " + sessionName + " in class: " + className
+        LOGGER.info(() -> "Executing AddSessionCommand for session: " + sessionName + " in class: " + className
                 + " at " + dateTime + (location != null ? " at " + location : ""));
 
         // Find the class by name
@@ -107,7 +107,7 @@ public class AddSessionCommand extends Command {
 
         // Add session to the class
         ClassSession session = tuitionClass.addSession(sessionName, dateTime, location);
-        LOGGER.info("Successfully added session: " + sessionName + " to class: " + className);
+        LOGGER.info(() -> "Successfully added session: " + sessionName + " to class: " + className);
 
         // Update the UI by refreshing the session list
         model.setClass(tuitionClass, tuitionClass);
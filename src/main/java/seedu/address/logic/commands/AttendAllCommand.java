@@ -0,0 +1,167 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Student;
+
+/**
+ * Marks attendance for many students of a class session at once.
+ * Either the given students are marked, or every enrolled student except the given ones.
+ */
+public class AttendAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks attendance for many students in a session. "
+            + "Marks the named students, or every student in the class except those given with "
+            + PREFIX_EXCEPT + ", or every student in the class if no names are given.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS_NAME "
+            + PREFIX_SESSION + "SESSION_NAME "
+            + PREFIX_STATUS + "STATUS (PRESENT or ABSENT) "
+            + "[" + PREFIX_NAME + "NAME]... or [" + PREFIX_EXCEPT + "NAME]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "MATH101 "
+            + PREFIX_SESSION + "Session 1 "
+            + PREFIX_STATUS + "PRESENT "
+            + PREFIX_EXCEPT + "John Doe";
+
+    public static final String MESSAGE_SUCCESS = "Marked %1$d student(s) as %2$s in class %3$s, session %4$s";
+    public static final String MESSAGE_STUDENTS_NOT_FOUND =
+            "These students are not found or not enrolled in the class: %s";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students to mark in class %s";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(AttendAllCommand.class);
+
+    private final String className;
+    private final String sessionName;
+    private final Boolean present;
+    private final Set<Name> names;
+    private final boolean isExcludingNames;
+
+    /**
+     * Creates an AttendAllCommand to mark attendance for several students of a session.
+     *
+     * @param className        the name of the class containing the session
+     * @param sessionName      the name of the session within the class
+     * @param present          {@code true} if marking present, {@code false} if marking absent
+     * @param names            the names of the students to mark, or to leave unmarked if {@code isExcludingNames}
+     * @param isExcludingNames {@code true} if every student except those in {@code names} should be marked
+     */
+    public AttendAllCommand(String className, String sessionName, Boolean present, Set<Name> names,
+            boolean isExcludingNames) {
+        this.className = requireNonNull(className, "className cannot be null");
+        this.sessionName = requireNonNull(sessionName, "sessionName cannot be null");
+        this.present = requireNonNull(present, "present cannot be null");
+        this.names = Collections.unmodifiableSet(new LinkedHashSet<>(requireNonNull(names, "names cannot be null")));
+        this.isExcludingNames = isExcludingNames;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model, "model cannot be null");
+        String status = present ? "PRESENT" : "ABSENT";
+        LOGGER.info(() -> "Executing AttendAllCommand in class: " + className + ", session: " + sessionName
+                + ", status: " + status);
+
+        TuitionClass tuitionClass = model.getClassByName(className);
+        if (tuitionClass == null) {
+            LOGGER.warning("Class not found: " + className);
+            throw new CommandException(String.format(AttendCommand.MESSAGE_SESSION_NOT_FOUND, sessionName, className));
+        }
+        ClassSession session = tuitionClass.getSession(sessionName).orElseThrow(() -> {
+            LOGGER.warning("Session not found: " + sessionName + " in class: " + className);
+            return new CommandException(String.format(AttendCommand.MESSAGE_SESSION_NOT_FOUND, sessionName,
+                    className));
+        });
+
+        // A single pass over the roster, so that each name is then looked up in constant time
+        Map<Name, Student> roster = new LinkedHashMap<>();
+        for (Student student : tuitionClass.getStudents()) {
+            roster.put(student.getName(), student);
+        }
+
+        List<Name> unknownNames = names.stream()
+                .filter(name -> !roster.containsKey(name))
+                .collect(Collectors.toList());
+        if (!unknownNames.isEmpty()) {
+            LOGGER.warning("Students not found or not enrolled in class " + className + ": " + unknownNames);
+            throw new CommandException(String.format(MESSAGE_STUDENTS_NOT_FOUND, unknownNames.stream()
+                    .map(Name::toString)
+                    .collect(Collectors.joining(", "))));
+        }
+
+        List<Student> toMark = new ArrayList<>();
+        if (isExcludingNames) {
+            roster.forEach((name, student) -> {
+                if (!names.contains(name)) {
+                    toMark.add(student);
+                }
+            });
+        } else {
+            names.forEach(name -> toMark.add(roster.get(name)));
+        }
+        if (toMark.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, tuitionClass.getName()));
+        }
+
+        session.markAll(toMark, present);
+        model.setSession(session, session);
+        LOGGER.info(() -> "Marked " + toMark.size() + " student(s) as " + status);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toMark.size(), status, tuitionClass.getName(),
+                session.getSessionName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendAllCommand)) {
+            return false;
+        }
+
+        AttendAllCommand otherCommand = (AttendAllCommand) other;
+        return className.equals(otherCommand.className)
+                && sessionName.equals(otherCommand.sessionName)
+                && present.equals(otherCommand.present)
+                && names.equals(otherCommand.names)
+                && isExcludingNames == otherCommand.isExcludingNames;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("className", className)
+                .add("sessionName", sessionName)
+                .add("present", present)
+                .add("names", names)
+                .add("isExcludingNames", isExcludingNames)
+                .toString();
+    }
+}
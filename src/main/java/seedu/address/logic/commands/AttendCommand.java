@@ -79,7 +79,7 @@ public class AttendCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model, "model cannot be null");
-        LOGGER.info("Executing AttendCommand for student: " + name + " in class: " + className
+        LOGGER.info(() -> "Executing AttendCommand for student: " + name + " in class: " + className
                 + ", session: " + sessionName + ", status: " + (present ? "PRESENT" : "ABSENT"));
 
         // Find the class and session
@@ -121,7 +121,8 @@ public class AttendCommand extends Command {
         } else {
             session.markAbsent(student);
         }
-        LOGGER.info("Successfully marked attendance for student: " + name + " as " + (present ? "PRESENT" : "ABSENT"));
+        LOGGER.info(() -> "Successfully marked attendance for student: " + name + " as "
+                + (present ? "PRESENT" : "ABSENT"));
 
         // Update just this session in the observable session list for UI refresh
         // The attendance data is automatically saved to JSON since session is part of tuitionClass
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a transaction, so that the changes made by the commands that follow can be kept together with
+ * {@link CommitCommand} or undone together with {@link RollbackCommand}.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Starts a transaction. Changes made from now on "
+            + "are only saved when you commit them, and can all be undone with rollback.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Started a transaction. Use " + CommitCommand.COMMAND_WORD
+            + " to save your changes, or " + RollbackCommand.COMMAND_WORD + " to undo them.";
+    public static final String MESSAGE_ALREADY_IN_TRANSACTION =
+            "A transaction has already been started. Commit or roll it back first.";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(BeginCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_ALREADY_IN_TRANSACTION);
+        }
+
+        model.beginTransaction();
+        LOGGER.info("Transaction started");
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof BeginCommand;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -29,14 +30,26 @@ public class CommandResult {
     /** Which panel should be displayed on the right side. */
     private final DisplayType displayType;
 
+    /** Name of the address book the application should switch to, or null to stay on the current one. */
+    private final String addressBookName;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, DisplayType displayType) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, DisplayType displayType,
+            String addressBookName) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.displayType = displayType;
+        this.addressBookName = addressBookName;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, DisplayType displayType) {
+        this(feedbackToUser, showHelp, exit, displayType, null);
     }
 
     /**
@@ -77,6 +90,10 @@ public class CommandResult {
         return displayType;
     }
 
+    public Optional<String> getAddressBookName() {
+        return Optional.ofNullable(addressBookName);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +109,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && displayType == otherCommandResult.displayType;
+                && displayType == otherCommandResult.displayType
+                && Objects.equals(addressBookName, otherCommandResult.addressBookName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, displayType);
+        return Objects.hash(feedbackToUser, showHelp, exit, displayType, addressBookName);
     }
 
     @Override
@@ -107,6 +125,7 @@ public class CommandResult {
                 .add("showHelp", showHelp)
                 .add("exit", exit)
                 .add("displayType", displayType)
+                .add("addressBookName", addressBookName)
                 .toString();
     }
 
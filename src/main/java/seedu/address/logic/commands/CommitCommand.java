@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the current transaction, keeping its changes. They are then saved in one go.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Ends the current transaction and saves "
+            + "the changes made since it was started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Committed the transaction";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction to commit. "
+            + "Start one with " + BeginCommand.COMMAND_WORD + ".";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(CommitCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+
+        model.commitTransaction();
+        LOGGER.info("Transaction committed");
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof CommitCommand;
+    }
+}
@@ -40,7 +40,7 @@ public class DeleteClassCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing DeleteClassCommand for class: " + className);
+        LOGGER.info(() -> "Executing DeleteClassCommand for class: " + className);
 
         // Find the actual class from the model (not a new empty instance)
         TuitionClass classToDelete = model.getFilteredClassList().stream()
@@ -54,7 +54,7 @@ public class DeleteClassCommand extends Command {
         }
 
         model.deleteClass(classToDelete);
-        LOGGER.info("Successfully deleted class: " + className);
+        LOGGER.info(() -> "Successfully deleted class: " + className);
 
         // Update the filtered person list to refresh UI display of students and tutors
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
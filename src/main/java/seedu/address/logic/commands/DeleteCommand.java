@@ -38,7 +38,7 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing DeleteCommand for index: " + targetIndex.getOneBased());
+        LOGGER.info(() -> "Executing DeleteCommand for index: " + targetIndex.getOneBased());
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -48,9 +48,9 @@ public class DeleteCommand extends Command {
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        LOGGER.info("Deleting person: " + personToDelete.getName());
+        LOGGER.info(() -> "Deleting person: " + personToDelete.getName());
         model.deletePerson(personToDelete);
-        LOGGER.info("Successfully deleted person: " + personToDelete.getName());
+        LOGGER.info(() -> "Successfully deleted person: " + personToDelete.getName());
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
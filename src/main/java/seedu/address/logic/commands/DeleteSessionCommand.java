@@ -69,7 +69,7 @@ public class DeleteSessionCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model, "Model cannot be null");
-        LOGGER.info("Executing DeleteSessionCommand for session: " + sessionName + " in class: " + className);
+        LOGGER.info(() -> "Executing DeleteSessionCommand for session: " + sessionName + " in class: " + className);
 
         // Find the class by name
         List<TuitionClass> classList = model.getFilteredClassList();
@@ -96,7 +96,8 @@ public class DeleteSessionCommand extends Command {
 
         // Remove the session
         tuitionClass.removeSession(sessionToDelete);
-        LOGGER.info("Successfully deleted session: " + sessionToDelete.getSessionName() + " from class: " + className);
+        LOGGER.info(() -> "Successfully deleted session: " + sessionToDelete.getSessionName()
+                + " from class: " + className);
 
         // Update the UI by refreshing the session list
         model.setClass(tuitionClass, tuitionClass);
@@ -51,7 +51,7 @@ public class EditClassCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing EditClassCommand from: " + oldClassName + " to: " + newClassName);
+        LOGGER.info(() -> "Executing EditClassCommand from: " + oldClassName + " to: " + newClassName);
 
         TuitionClass oldClass = model.getFilteredClassList().stream()
                 .filter(c -> c.getName().value.equalsIgnoreCase(oldClassName))
@@ -74,7 +74,7 @@ public class EditClassCommand extends Command {
 
         model.setClass(oldClass, newClass);
         model.updateFilteredClassList(PREDICATE_SHOW_ALL_CLASSES);
-        LOGGER.info("Successfully edited class from: " + oldClass.getName() + " to: " + newClassName);
+        LOGGER.info(() -> "Successfully edited class from: " + oldClass.getName() + " to: " + newClassName);
 
         return new CommandResult(String.format(MESSAGE_EDIT_CLASS_SUCCESS, oldClass.getName(), newClassName),
                 CommandResult.DisplayType.CLASSES);
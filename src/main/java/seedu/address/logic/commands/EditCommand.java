@@ -91,7 +91,7 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing EditCommand for index: " + index.getOneBased());
+        LOGGER.info(() -> "Executing EditCommand for index: " + index.getOneBased());
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (index.getZeroBased() >= lastShownList.size()) {
@@ -101,7 +101,7 @@ public class EditCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
-        LOGGER.info("Editing person: " + personToEdit.getName());
+        LOGGER.info(() -> "Editing person: " + personToEdit.getName());
         Person editedPerson = createEditedPerson(personToEdit,
                         editPersonDescriptor);
 
@@ -125,7 +125,7 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
 
-        LOGGER.info("Successfully edited person: " + personToEdit.getName() + " -> " + editedPerson.getName());
+        LOGGER.info(() -> "Successfully edited person: " + personToEdit.getName() + " -> " + editedPerson.getName());
 
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS,
                         Messages.format(editedPerson)));
@@ -0,0 +1,376 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Attendance;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Student;
+
+/**
+ * Exports the attendance records of a class, a date range or the whole centre to a CSV or JSON Lines file.
+ * <p>
+ * The sessions to export and their attendance are copied when the command executes, on the thread that changes
+ * the model, into compact rows that hold only what is written. The file is then written from those rows on a
+ * background thread, so that formatting and writing long histories does not block the UI, and the worker never
+ * reads the model. The file is written under a temporary name and only moved into place once it is complete.
+ * An export that fails is reported through the listener set with {@link #setFailureListener(Consumer)}.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports attendance records to a file. "
+            + "The file format is chosen by the file extension: .csv for CSV, .jsonl for JSON Lines.\n"
+            + "Parameters: FILE_PATH "
+            + "[" + PREFIX_CLASS + "CLASS] "
+            + "[" + PREFIX_FROM + "FROM_DATE] "
+            + "[" + PREFIX_TO + "TO_DATE]\n"
+            + "Example: " + COMMAND_WORD + " reports/math-jan.csv "
+            + PREFIX_CLASS + "Sec3-Math "
+            + PREFIX_FROM + "2025-01-01 "
+            + PREFIX_TO + "2025-01-31";
+
+    public static final String MESSAGE_SUCCESS = "Exporting attendance of %1$d session(s) to %2$s in the background";
+    public static final String MESSAGE_CLASS_NOT_FOUND = "The specified class does not exist.";
+    public static final String MESSAGE_NO_SESSIONS = "There are no sessions to export.";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export attendance to %1$s: %2$s";
+
+    public static final String COLUMN_CLASS = "class";
+    public static final String COLUMN_SESSION = "session";
+    public static final String COLUMN_DATE_TIME = "dateTime";
+    public static final String COLUMN_LOCATION = "location";
+    public static final String COLUMN_STUDENT = "student";
+    public static final String COLUMN_STATUS = "status";
+    public static final String COLUMN_MARKED_AT = "markedAt";
+    public static final String STATUS_PRESENT = "present";
+    public static final String STATUS_ABSENT = "absent";
+
+    static final String TEMPORARY_FILE_SUFFIX = ".part";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final Logger LOGGER = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * Runs exports one at a time. The worker thread is not a daemon, so an export that is still running when
+     * the app exits is allowed to finish. The app shuts it down with {@link #shutdownExports()} when it exits.
+     */
+    private static final ExecutorService EXPORT_EXECUTOR = createExportExecutor();
+
+    private static volatile Consumer<String> failureListener = message -> { };
+
+    /**
+     * Supported export file formats.
+     */
+    public enum Format {
+        CSV, JSON_LINES
+    }
+
+    private final Path filePath;
+    private final Format format;
+    private final String className;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Executor executor;
+
+    /**
+     * Creates an ExportCommand that writes the matching attendance to {@code filePath}.
+     * {@code className}, {@code fromDate} and {@code toDate} may be null to leave that filter out.
+     */
+    public ExportCommand(Path filePath, Format format, String className, LocalDate fromDate, LocalDate toDate) {
+        this(filePath, format, className, fromDate, toDate, EXPORT_EXECUTOR);
+    }
+
+    /**
+     * Creates an ExportCommand that writes the file on the given {@code executor}.
+     */
+    ExportCommand(Path filePath, Format format, String className, LocalDate fromDate, LocalDate toDate,
+            Executor executor) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(executor);
+        this.filePath = filePath;
+        this.format = format;
+        this.className = className;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.executor = executor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<TuitionClass> classes;
+        if (className != null) {
+            TuitionClass tuitionClass = model.getClassByName(className);
+            if (tuitionClass == null) {
+                throw new CommandException(MESSAGE_CLASS_NOT_FOUND);
+            }
+            classes = List.of(tuitionClass);
+        } else {
+            classes = model.getAddressBook().getClassList();
+        }
+
+        List<SessionRecord> sessions = new ArrayList<>();
+        for (TuitionClass tuitionClass : classes) {
+            for (ClassSession session : tuitionClass.getAllSessions()) {
+                if (isInRange(session.getDateTime().toLocalDate())) {
+                    sessions.add(SessionRecord.of(tuitionClass.getName().value, session));
+                }
+            }
+        }
+        if (sessions.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_SESSIONS);
+        }
+        sessions.sort(Comparator.comparing((SessionRecord s) -> s.dateTime)
+                .thenComparing(s -> s.className)
+                .thenComparing(s -> s.sessionName));
+
+        LOGGER.info(() -> "Exporting attendance of " + sessions.size() + " session(s) to " + filePath);
+        executor.execute(() -> writeInBackground(sessions));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sessions.size(), filePath));
+    }
+
+    private boolean isInRange(LocalDate date) {
+        return (fromDate == null || !date.isBefore(fromDate)) && (toDate == null || !date.isAfter(toDate));
+    }
+
+    private void writeInBackground(List<SessionRecord> sessions) {
+        long startTime = System.nanoTime();
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            long rowCount;
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+                rowCount = format == Format.CSV ? writeCsv(writer, sessions) : writeJsonLines(writer, sessions);
+            }
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info(String.format("Exported %d attendance row(s) to %s in %d ms", rowCount, filePath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        } catch (IOException | RuntimeException e) {
+            String message = String.format(MESSAGE_EXPORT_FAILED, filePath, e);
+            LOGGER.warning(message);
+            failureListener.accept(message);
+            try {
+                Files.deleteIfExists(temporaryPath);
+            } catch (IOException deleteError) {
+                LOGGER.warning("Could not delete " + temporaryPath + ": " + deleteError);
+            }
+        }
+    }
+
+    private static long writeCsv(Writer writer, List<SessionRecord> sessions) throws IOException {
+        writer.write(String.join(",", COLUMN_CLASS, COLUMN_SESSION, COLUMN_DATE_TIME, COLUMN_LOCATION,
+                COLUMN_STUDENT, COLUMN_STATUS, COLUMN_MARKED_AT));
+        writer.write('\n');
+        long rowCount = 0;
+        for (SessionRecord session : sessions) {
+            String sessionColumns = String.join(",", CsvUtil.escape(session.className),
+                    CsvUtil.escape(session.sessionName), session.dateTime.format(FORMATTER),
+                    CsvUtil.escape(Objects.toString(session.location, "")));
+            for (AttendanceRow row : session.rows) {
+                writer.write(sessionColumns);
+                writer.write(',');
+                writer.write(CsvUtil.escape(row.studentName));
+                writer.write(',');
+                writer.write(row.isPresent ? STATUS_PRESENT : STATUS_ABSENT);
+                writer.write(',');
+                writer.write(Objects.toString(row.markedAt, ""));
+                writer.write('\n');
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    private static long writeJsonLines(Writer writer, List<SessionRecord> sessions) throws IOException {
+        long rowCount = 0;
+        JsonFactory factory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (JsonGenerator generator = factory.setRootValueSeparator("\n").createGenerator(writer)) {
+            for (SessionRecord session : sessions) {
+                String dateTime = session.dateTime.format(FORMATTER);
+                for (AttendanceRow row : session.rows) {
+                    generator.writeStartObject();
+                    generator.writeStringField(COLUMN_CLASS, session.className);
+                    generator.writeStringField(COLUMN_SESSION, session.sessionName);
+                    generator.writeStringField(COLUMN_DATE_TIME, dateTime);
+                    generator.writeStringField(COLUMN_LOCATION, session.location);
+                    generator.writeStringField(COLUMN_STUDENT, row.studentName);
+                    generator.writeStringField(COLUMN_STATUS, row.isPresent ? STATUS_PRESENT : STATUS_ABSENT);
+                    generator.writeStringField(COLUMN_MARKED_AT, row.markedAt);
+                    generator.writeEndObject();
+                    rowCount++;
+                }
+            }
+        }
+        if (rowCount > 0) {
+            writer.write('\n');
+        }
+        return rowCount;
+    }
+
+    /**
+     * Returns the time the attendance was marked, or null if it was never marked.
+     */
+    private static String formatMarkedAt(Attendance attendance) {
+        LocalDateTime timestamp = attendance.getTimestamp();
+        return timestamp == null || timestamp.equals(LocalDateTime.MIN) ? null : timestamp.format(FORMATTER);
+    }
+
+    /**
+     * Tells {@code listener} why each export that fails from now on failed, so that the user can be told.
+     * The listener is called on the worker thread.
+     */
+    public static void setFailureListener(Consumer<String> listener) {
+        requireNonNull(listener);
+        failureListener = listener;
+    }
+
+    /**
+     * Blocks until every export started so far has been written, e.g. before a headless run exits.
+     */
+    public static void awaitPendingExports() throws InterruptedException {
+        try {
+            // Exports run one at a time in order, so an empty task finishes after all earlier ones
+            EXPORT_EXECUTOR.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Blocks until every export started so far has been written, then stops the worker thread so that it does not
+     * keep the JVM running. No export can be started after this.
+     */
+    public static void shutdownExports() throws InterruptedException {
+        try {
+            awaitPendingExports();
+        } finally {
+            EXPORT_EXECUTOR.shutdown();
+        }
+    }
+
+    private static ExecutorService createExportExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "attendance-export"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && Objects.equals(className, otherExportCommand.className)
+                && Objects.equals(fromDate, otherExportCommand.fromDate)
+                && Objects.equals(toDate, otherExportCommand.toDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("className", className)
+                .add("fromDate", fromDate)
+                .add("toDate", toDate)
+                .toString();
+    }
+
+    /**
+     * One session as it was when the export was requested, with its attendance by student name.
+     */
+    private static class SessionRecord {
+        private final String className;
+        private final String sessionName;
+        private final LocalDateTime dateTime;
+        private final String location;
+        private final List<AttendanceRow> rows;
+
+        private SessionRecord(String className, ClassSession session, List<AttendanceRow> rows) {
+            this.className = className;
+            this.sessionName = session.getSessionName();
+            this.dateTime = session.getDateTime();
+            this.location = session.getLocation();
+            this.rows = rows;
+        }
+
+        /**
+         * Copies {@code session} of the class called {@code className}. Must be called on the thread that changes
+         * the model.
+         */
+        static SessionRecord of(String className, ClassSession session) {
+            Map<Student, Attendance> attendance = session.getAttendanceRecord();
+            List<AttendanceRow> rows = new ArrayList<>(attendance.size());
+            attendance.forEach((student, mark) -> rows.add(new AttendanceRow(student.getName().fullName,
+                    mark.isPresent(), formatMarkedAt(mark))));
+            rows.sort(Comparator.comparing(row -> row.studentName));
+            return new SessionRecord(className, session, rows);
+        }
+    }
+
+    /**
+     * The attendance of one student at one session, as written to the file.
+     */
+    private static class AttendanceRow {
+        private final String studentName;
+        private final boolean isPresent;
+        /** The time the attendance was marked, or null if it was never marked. */
+        private final String markedAt;
+
+        AttendanceRow(String studentName, boolean isPresent, String markedAt) {
+            this.studentName = studentName;
+            this.isPresent = isPresent;
+            this.markedAt = markedAt;
+        }
+    }
+
+}
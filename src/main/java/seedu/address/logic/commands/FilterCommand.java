@@ -41,11 +41,11 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing FilterCommand for role: " + role.name().toLowerCase());
+        LOGGER.info(() -> "Executing FilterCommand for role: " + role.name().toLowerCase());
 
         model.updateFilteredPersonList(predicate);
         int size = model.getFilteredPersonList().size();
-        LOGGER.info("Filter result: " + size + " persons found for role " + role.name().toLowerCase());
+        LOGGER.info(() -> "Filter result: " + size + " persons found for role " + role.name().toLowerCase());
 
         if (size == 0) {
             // Keep the filter applied (so UI shows empty list), but tell user clearly.
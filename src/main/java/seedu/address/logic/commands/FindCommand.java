@@ -34,11 +34,11 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        LOGGER.info("Executing FindCommand with keywords: " + predicate.toString());
+        LOGGER.info(() -> "Executing FindCommand with keywords: " + predicate.toString());
 
         model.updateFilteredPersonList(predicate);
         int resultCount = model.getFilteredPersonList().size();
-        LOGGER.info("Found " + resultCount + " persons matching search criteria");
+        LOGGER.info(() -> "Found " + resultCount + " persons matching search criteria");
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, resultCount));
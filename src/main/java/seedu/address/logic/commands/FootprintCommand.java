@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelStatistics;
+
+/**
+ * Shows an estimate of the memory taken by each kind of entity in the address book, and how much of the JVM heap
+ * is in use.
+ */
+public class FootprintCommand extends Command {
+
+    public static final String COMMAND_WORD = "footprint";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows an estimate of the memory taken by the "
+            + "persons, classes, sessions, attendance records, tags and lists in the address book.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_HEADER = "Estimated memory used by the address book:";
+    public static final String MESSAGE_COUNTED_ENTRY = "  %1$s: %2$s (%3$d)";
+    public static final String MESSAGE_ENTRY = "  %1$s: %2$s";
+    public static final String MESSAGE_HEAP = "JVM heap in use: %1$s of at most %2$s";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(FootprintCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ModelStatistics statistics = model.getStatistics();
+
+        StringBuilder report = new StringBuilder(MESSAGE_HEADER);
+        appendEntry(report, "Students", statistics.getStudentBytes(), statistics.getStudentCount());
+        appendEntry(report, "Tutors", statistics.getTutorBytes(), statistics.getTutorCount());
+        appendEntry(report, "Parents", statistics.getParentBytes(), statistics.getParentCount());
+        appendEntry(report, "Classes", statistics.getClassBytes(), statistics.getClassCount());
+        appendEntry(report, "Sessions", statistics.getSessionBytes(), statistics.getSessionCount());
+        appendEntry(report, "Attendance records", statistics.getAttendanceBytes(), statistics.getAttendanceCount());
+        appendEntry(report, "Tags", statistics.getTagBytes(), statistics.getTagCount());
+        appendEntry(report, "JavaFX lists", statistics.getFxListBytes());
+        appendEntry(report, "Person index", statistics.getIndexBytes());
+        appendEntry(report, "Total", statistics.getTotalBytes());
+
+        Runtime runtime = Runtime.getRuntime();
+        report.append('\n').append(String.format(MESSAGE_HEAP,
+                StringUtil.formatBytes(runtime.totalMemory() - runtime.freeMemory()),
+                StringUtil.formatBytes(runtime.maxMemory())));
+        LOGGER.info(() -> "Estimated the memory used by the address book: " + statistics);
+        return new CommandResult(report.toString());
+    }
+
+    private static void appendEntry(StringBuilder report, String name, long bytes, long count) {
+        report.append('\n').append(String.format(MESSAGE_COUNTED_ENTRY, name, StringUtil.formatBytes(bytes), count));
+    }
+
+    private static void appendEntry(StringBuilder report, String name, long bytes) {
+        report.append('\n').append(String.format(MESSAGE_ENTRY, name, StringUtil.formatBytes(bytes)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof FootprintCommand;
+    }
+}
@@ -1,21 +1,67 @@
 package seedu.address.logic.commands;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 
 /**
- * Format full help instructions for every command for display.
+ * Format full help instructions for every command for display, or shows the usage of a single command.
  */
 public class HelpCommand extends Command {
 
     public static final String COMMAND_WORD = "help";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions, "
+            + "or the usage of a single command if its command word is given.\n"
+            + "Parameters: [COMMAND_WORD]\n"
+            + "Example: " + COMMAND_WORD + " addsession";
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    private final String usage;
+
+    /**
+     * Creates a HelpCommand that opens the help window.
+     */
+    public HelpCommand() {
+        this.usage = null;
+    }
+
+    /**
+     * Creates a HelpCommand that shows {@code usage} instead of opening the help window.
+     */
+    public HelpCommand(String usage) {
+        this.usage = Objects.requireNonNull(usage);
+    }
+
     @Override
     public CommandResult execute(Model model) {
+        if (usage != null) {
+            return new CommandResult(usage);
+        }
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HelpCommand)) {
+            return false;
+        }
+
+        HelpCommand otherHelpCommand = (HelpCommand) other;
+        return Objects.equals(usage, otherHelpCommand.usage);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("usage", usage)
+                .toString();
+    }
 }
@@ -0,0 +1,391 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Imports persons, and optionally their class enrolments and parent links, from a CSV file.
+ * <p>
+ * The file is read in batches of lines that are validated in parallel, so large files are never held in
+ * memory as text. Every invalid row is reported together with its line number, and the import only
+ * changes the address book if all rows are valid.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String COLUMN_CLASSES = "classes";
+    public static final String COLUMN_PARENTS = "parents";
+    public static final String LIST_SEPARATOR = ";";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports persons from a CSV file. "
+            + "Parameters: FILE_PATH\n"
+            + "The first line must be a header naming the columns "
+            + String.join(", ", COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS, COLUMN_ROLE)
+            + " and optionally " + String.join(", ", COLUMN_TAGS, COLUMN_CLASSES, COLUMN_PARENTS)
+            + ". Multiple tags, classes or parents are separated by '" + LIST_SEPARATOR + "'.\n"
+            + "Example: " + COMMAND_WORD + " data/new-branch.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s), %2$d class enrolment(s) "
+            + "and %3$d parent link(s) from %4$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_FILE_ERROR = "Could not read file %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "File %1$s has no header line";
+    public static final String MESSAGE_MISSING_COLUMNS = "Header is missing column(s): %1$s";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Header has unknown column: %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Header has column %1$s more than once";
+    public static final String MESSAGE_INVALID_ROWS = "Nothing was imported. %1$d row(s) are invalid:\n%2$s";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "... and %1$d more";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "%1$s is already imported on line %2$d";
+    public static final String MESSAGE_DUPLICATE_PERSON = "%1$s already exists in the address book";
+    public static final String MESSAGE_ONLY_STUDENTS = "Only students can have %1$s";
+    public static final String MESSAGE_CLASS_NOT_EXIST = "Class %1$s does not exist";
+    public static final String MESSAGE_PARENT_NOT_EXIST = "Parent %1$s does not exist";
+
+    /** Number of lines read from the file before they are validated together. */
+    public static final int BATCH_SIZE = 4096;
+    /** Maximum number of invalid rows listed in the error message. */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS, COLUMN_ROLE);
+    private static final List<String> OPTIONAL_COLUMNS = List.of(COLUMN_TAGS, COLUMN_CLASSES, COLUMN_PARENTS);
+
+    private static final Logger LOGGER = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LOGGER.info(() -> "Executing ImportCommand for file: " + filePath);
+
+        List<ImportRow> rows = new ArrayList<>();
+        TreeMap<Integer, List<String>> errors = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            Map<String, Integer> columns = readHeader(reader.readLine());
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            int firstLineOfBatch = 2;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.add(line);
+                if (batch.size() == BATCH_SIZE) {
+                    validateBatch(batch, firstLineOfBatch, columns, rows, errors);
+                    firstLineOfBatch += batch.size();
+                    batch.clear();
+                }
+            }
+            validateBatch(batch, firstLineOfBatch, columns, rows, errors);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, e.getMessage()), e);
+        }
+
+        resolveAgainstModel(model, rows, errors);
+        if (!errors.isEmpty()) {
+            LOGGER.warning("Import of " + filePath + " rejected with " + errors.size() + " invalid row(s)");
+            throw new CommandException(formatErrors(errors));
+        }
+
+        return commit(model, rows);
+    }
+
+    /**
+     * Returns the index of each column named in the {@code header} line.
+     */
+    private Map<String, Integer> readHeader(String header) throws CommandException {
+        if (header == null) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+        }
+
+        List<String> names;
+        try {
+            // Spreadsheet programs often start UTF-8 files with a byte order mark
+            names = CsvUtil.splitLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_ROW_ERROR, 1, e.getMessage()));
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase();
+            if (!REQUIRED_COLUMNS.contains(name) && !OPTIONAL_COLUMNS.contains(name)) {
+                throw new CommandException(String.format(MESSAGE_UNKNOWN_COLUMN, names.get(i).trim()));
+            }
+            if (columns.put(name, i) != null) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+            }
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missing)));
+        }
+        return columns;
+    }
+
+    /**
+     * Validates the lines of one batch in parallel and appends the results in file order.
+     */
+    private static void validateBatch(List<String> batch, int firstLineNumber, Map<String, Integer> columns,
+            List<ImportRow> rows, Map<Integer, List<String>> errors) {
+        List<ImportRow> parsedRows = IntStream.range(0, batch.size())
+                .parallel()
+                .filter(i -> !batch.get(i).isBlank())
+                .mapToObj(i -> parseRow(batch.get(i), firstLineNumber + i, columns))
+                .collect(Collectors.toList());
+        for (ImportRow row : parsedRows) {
+            if (row.person != null) {
+                rows.add(row);
+            } else {
+                row.addErrorTo(errors, row.invalidReason);
+            }
+        }
+    }
+
+    /**
+     * Parses and validates the fields of a single non-blank {@code line}.
+     * The returned row has no person if the line is invalid.
+     */
+    private static ImportRow parseRow(String line, int lineNumber, Map<String, Integer> columns) {
+        try {
+            List<String> fields = CsvUtil.splitLine(line);
+            if (fields.size() != columns.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT,
+                        columns.size(), fields.size()));
+            }
+
+            Name name = ParserUtil.parseName(field(fields, columns, COLUMN_NAME));
+            Phone phone = ParserUtil.parsePhone(field(fields, columns, COLUMN_PHONE));
+            Email email = ParserUtil.parseEmail(field(fields, columns, COLUMN_EMAIL));
+            Address address = ParserUtil.parseAddress(field(fields, columns, COLUMN_ADDRESS));
+            PersonType role = ParserUtil.parsePersonType(field(fields, columns, COLUMN_ROLE));
+            Set<Tag> tags = ParserUtil.parseTags(splitList(field(fields, columns, COLUMN_TAGS)));
+            List<String> classNames = splitList(field(fields, columns, COLUMN_CLASSES));
+            List<String> parentNames = splitList(field(fields, columns, COLUMN_PARENTS));
+            if (role != PersonType.STUDENT && !classNames.isEmpty()) {
+                throw new IllegalValueException(String.format(MESSAGE_ONLY_STUDENTS, COLUMN_CLASSES));
+            }
+            if (role != PersonType.STUDENT && !parentNames.isEmpty()) {
+                throw new IllegalValueException(String.format(MESSAGE_ONLY_STUDENTS, COLUMN_PARENTS));
+            }
+
+            Person person = Person.newPerson(name, phone, email, address, tags, role);
+            return new ImportRow(lineNumber, person, classNames, parentNames, null);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            return new ImportRow(lineNumber, null, List.of(), List.of(), e.getMessage());
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null ? "" : fields.get(index).trim();
+    }
+
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(LIST_SEPARATOR))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks the rows against each other and against the address book in {@code model}, resolving
+     * the classes and parents they refer to.
+     */
+    private static void resolveAgainstModel(Model model, List<ImportRow> rows, Map<Integer, List<String>> errors) {
+        Map<String, Person> existingPersons = new HashMap<>();
+        for (Person person : model.getPersonList()) {
+            existingPersons.put(person.getName().fullName.toLowerCase(), person);
+        }
+        Map<String, TuitionClass> classes = new HashMap<>();
+        for (TuitionClass tuitionClass : model.getAddressBook().getClassList()) {
+            classes.put(tuitionClass.getName().value.toLowerCase(), tuitionClass);
+        }
+
+        Map<String, ImportRow> importedPersons = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            String key = row.person.getName().fullName.toLowerCase();
+            ImportRow earlierRow = importedPersons.putIfAbsent(key, row);
+            if (earlierRow != null) {
+                row.addErrorTo(errors, String.format(MESSAGE_DUPLICATE_IN_FILE,
+                        row.person.getName(), earlierRow.lineNumber));
+            } else if (existingPersons.containsKey(key)) {
+                row.addErrorTo(errors, String.format(MESSAGE_DUPLICATE_PERSON, row.person.getName()));
+            }
+        }
+
+        for (ImportRow row : rows) {
+            for (String className : row.classNames) {
+                TuitionClass tuitionClass = classes.get(className.toLowerCase());
+                if (tuitionClass == null) {
+                    row.addErrorTo(errors, String.format(MESSAGE_CLASS_NOT_EXIST, className));
+                } else {
+                    row.classes.add(tuitionClass);
+                }
+            }
+            for (String parentName : row.parentNames) {
+                String key = parentName.toLowerCase();
+                Person parent = importedPersons.containsKey(key)
+                        ? importedPersons.get(key).person
+                        : existingPersons.get(key);
+                if (!(parent instanceof Parent)) {
+                    row.addErrorTo(errors, String.format(MESSAGE_PARENT_NOT_EXIST, parentName));
+                } else {
+                    row.parents.add((Parent) parent);
+                }
+            }
+        }
+    }
+
+    private static String formatErrors(Map<Integer, List<String>> errors) {
+        String listed = errors.entrySet().stream()
+                .limit(MAX_REPORTED_ERRORS)
+                .map(error -> String.format(MESSAGE_ROW_ERROR, error.getKey(), String.join("; ", error.getValue())))
+                .collect(Collectors.joining("\n"));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            listed += "\n" + String.format(MESSAGE_MORE_INVALID_ROWS, errors.size() - MAX_REPORTED_ERRORS);
+        }
+        return String.format(MESSAGE_INVALID_ROWS, errors.size(), listed);
+    }
+
+    /**
+     * Adds all validated rows to the {@code model}, touching each affected class only once.
+     */
+    private CommandResult commit(Model model, List<ImportRow> rows) {
+        model.addPersons(rows.stream().map(row -> row.person).collect(Collectors.toList()));
+
+        int links = 0;
+        Map<TuitionClass, List<Student>> newStudentsByClass = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            if (!(row.person instanceof Student)) {
+                continue;
+            }
+            Student student = (Student) row.person;
+            // The students are new, so they can only be in a class already if their row names it twice
+            for (TuitionClass tuitionClass : new LinkedHashSet<>(row.classes)) {
+                newStudentsByClass.computeIfAbsent(tuitionClass, unused -> new ArrayList<>()).add(student);
+            }
+            for (Parent parent : row.parents) {
+                parent.addChild(student);
+                links++;
+            }
+        }
+
+        int enrolments = 0;
+        for (Map.Entry<TuitionClass, List<Student>> entry : newStudentsByClass.entrySet()) {
+            model.addStudentsToClass(entry.getValue(), entry.getKey());
+            enrolments += entry.getValue().size();
+        }
+        if (!newStudentsByClass.isEmpty()) {
+            model.updateFilteredClassList(Model.PREDICATE_SHOW_ALL_CLASSES);
+        }
+
+        LOGGER.info(() -> "Imported " + rows.size() + " person(s) from " + filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rows.size(), enrolments, links, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A parsed CSV row together with the classes and parents it refers to.
+     * A row that failed validation has no person and carries the reason instead.
+     */
+    private static class ImportRow {
+        private final int lineNumber;
+        private final Person person;
+        private final List<String> classNames;
+        private final List<String> parentNames;
+        private final String invalidReason;
+        private final List<TuitionClass> classes = new ArrayList<>();
+        private final List<Parent> parents = new ArrayList<>();
+
+        ImportRow(int lineNumber, Person person, List<String> classNames, List<String> parentNames,
+                String invalidReason) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.classNames = classNames;
+            this.parentNames = parentNames;
+            this.invalidReason = invalidReason;
+        }
+
+        void addErrorTo(Map<Integer, List<String>> errors, String message) {
+            errors.computeIfAbsent(lineNumber, k -> new ArrayList<>()).add(message);
+        }
+    }
+}
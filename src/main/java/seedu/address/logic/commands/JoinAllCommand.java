@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Student;
+
+/**
+ * Adds many students to a class in the address book at once.
+ */
+public class JoinAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "joinall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds many students to a class at once. "
+            + "Adds the named students and every student with one of the given tags.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "Math101 "
+            + PREFIX_NAME + "John Doe "
+            + PREFIX_NAME + "Jane Doe "
+            + PREFIX_TAG + "sec3";
+
+    public static final String MESSAGE_SUCCESS = "Added %1$d student(s) to class %2$s";
+    public static final String MESSAGE_NO_STUDENTS = "No students match the given names or tags";
+    public static final String MESSAGE_ALL_ALREADY_IN_CLASS = "All the selected students are already in class %s";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(JoinAllCommand.class);
+
+    private final String className;
+    private final StudentSelector selector;
+
+    /**
+     * Creates a JoinAllCommand to add the students chosen by {@code selector} to the class called
+     * {@code className}.
+     */
+    public JoinAllCommand(String className, StudentSelector selector) {
+        requireNonNull(className);
+        requireNonNull(selector);
+        this.className = className;
+        this.selector = selector;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LOGGER.info(() -> "Executing JoinAllCommand for class: " + className);
+
+        TuitionClass tuitionClass = model.getClassByName(className);
+        if (tuitionClass == null) {
+            LOGGER.warning("Class not found: " + className);
+            throw new CommandException(JoinClassCommand.MESSAGE_CLASS_NOT_EXIST);
+        }
+
+        List<Student> selected = selector.select(model);
+        if (selected.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS);
+        }
+        Set<Student> enrolled = new HashSet<>(tuitionClass.getStudents());
+        List<Student> toAdd = selected.stream()
+                .filter(student -> !enrolled.contains(student))
+                .collect(Collectors.toList());
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ALL_ALREADY_IN_CLASS, tuitionClass.getName()));
+        }
+
+        model.addStudentsToClass(toAdd, tuitionClass);
+        model.updateFilteredClassList(Model.PREDICATE_SHOW_ALL_CLASSES);
+        LOGGER.info(() -> "Successfully added " + toAdd.size() + " student(s) to class " + tuitionClass.getName());
+
+        String message = String.format(MESSAGE_SUCCESS, toAdd.size(), tuitionClass.getName());
+        if (toAdd.size() < selected.size()) {
+            message += String.format(" (%1$d already in the class)", selected.size() - toAdd.size());
+        }
+        return new CommandResult(message, CommandResult.DisplayType.CLASSES);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JoinAllCommand)) {
+            return false;
+        }
+
+        JoinAllCommand otherCommand = (JoinAllCommand) other;
+        return className.equals(otherCommand.className) && selector.equals(otherCommand.selector);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("className", className)
+                .add("selector", selector)
+                .toString();
+    }
+}
@@ -66,7 +66,7 @@ public class JoinClassCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing JoinClassCommand for person: " + personName + " to class: " + className);
+        LOGGER.info(() -> "Executing JoinClassCommand for person: " + personName + " to class: " + className);
 
         // Find the person by name (case-insensitive)
         List<Person> personList = model.getPersonList();
@@ -104,7 +104,7 @@ public class JoinClassCommand extends Command {
             }
             model.addStudentToClass(studentToJoin, tuitionClass);
             model.updateFilteredClassList(Model.PREDICATE_SHOW_ALL_CLASSES);
-            LOGGER.info("Successfully added student " + toJoinName + " to class " + actualClassName);
+            LOGGER.info(() -> "Successfully added student " + toJoinName + " to class " + actualClassName);
             return new CommandResult(String.format(MESSAGE_SUCCESS, "Student", actualClassName, toJoinName),
                     CommandResult.DisplayType.CLASSES);
         } else if (toJoin instanceof Tutor) {
@@ -115,7 +115,7 @@ public class JoinClassCommand extends Command {
             }
             model.assignTutorToClass(tutorToJoin, tuitionClass);
             model.updateFilteredClassList(Model.PREDICATE_SHOW_ALL_CLASSES);
-            LOGGER.info("Successfully assigned tutor " + personName + " to class " + actualClassName);
+            LOGGER.info(() -> "Successfully assigned tutor " + personName + " to class " + actualClassName);
             return new CommandResult(String.format(MESSAGE_SUCCESS, "Tutor", actualClassName, toJoinName),
                     CommandResult.DisplayType.CLASSES);
         } else {
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of each command has taken since the app started.
+ */
+public class LatencyCommand extends Command {
+
+    public static final String COMMAND_WORD = "latency";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the 50th, 95th and 99th percentile and "
+            + "the longest time taken to parse, execute, save and display each command since the app started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_HEADER = "Time taken since startup, in ms (p50 / p95 / p99 / max):";
+    public static final String MESSAGE_COMMAND = "%1$s (%2$d run(s))";
+    public static final String MESSAGE_PHASE = "  %1$s: %2$.3f / %3$.3f / %4$.3f / %5$.3f";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet";
+    public static final String MESSAGE_DISABLED = "Command timing is turned off. "
+            + "Set commandMetricsEnabled to true in config.json and restart the app to turn it on.";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(LatencyCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, Map<Phase, LatencyHistogram>> histograms = CommandMetrics.getHistograms();
+        if (histograms.isEmpty()) {
+            return new CommandResult(CommandMetrics.isEnabled() ? MESSAGE_NO_COMMANDS : MESSAGE_DISABLED);
+        }
+
+        StringBuilder report = new StringBuilder(MESSAGE_HEADER);
+        histograms.forEach((commandWord, phases) -> {
+            long runs = phases.containsKey(Phase.EXECUTE) ? phases.get(Phase.EXECUTE).getCount() : 0;
+            report.append('\n').append(String.format(MESSAGE_COMMAND, commandWord, runs));
+            phases.forEach((phase, histogram) -> report.append('\n').append(String.format(Locale.ROOT,
+                    MESSAGE_PHASE, phase.name().toLowerCase(Locale.ROOT).replace('_', ' '),
+                    toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(95)),
+                    toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMax()))));
+        });
+        LOGGER.info(() -> "Showed the time taken by " + histograms.size() + " command(s)");
+        return new CommandResult(report.toString());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof LatencyCommand;
+    }
+}
@@ -72,7 +72,7 @@ public class LinkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing LinkCommand to link parent: " + parentName + " with child: " + childName);
+        LOGGER.info(() -> "Executing LinkCommand to link parent: " + parentName + " with child: " + childName);
 
         // Find the parent by name
         List<Person> personList = model.getPersonList();
@@ -124,7 +124,7 @@ public class LinkCommand extends Command {
 
         // Establish bidirectional relationship
         parent.addChild(child);
-        LOGGER.info("Linked parent '" + parent.getName() + "' with child '" + child.getName());
+        LOGGER.info(() -> "Linked parent '" + parent.getName() + "' with child '" + child.getName());
         return new CommandResult(String.format(MESSAGE_SUCCESS, parent.getName(),
                 child.getName(), PREFIX_NAME, parent.getName()));
     }
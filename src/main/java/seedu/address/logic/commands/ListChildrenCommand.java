@@ -42,7 +42,7 @@ public class ListChildrenCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing ListChildrenCommand for parent: " + parentName);
+        LOGGER.info(() -> "Executing ListChildrenCommand for parent: " + parentName);
         List<Person> personList = model.getPersonList();
 
         Parent parent = personList.stream()
@@ -60,7 +60,7 @@ public class ListChildrenCommand extends Command {
         List<Student> children = parent.getChildren();
 
         if (children.isEmpty()) {
-            LOGGER.info("Parent has no children: " + parentName);
+            LOGGER.info(() -> "Parent has no children: " + parentName);
             // Show empty list in UI
             model.updateFilteredPersonList(p -> false);
             return new CommandResult(String.format(MESSAGE_SUCCESS, parentName) + "\n[No children]");
@@ -69,7 +69,7 @@ public class ListChildrenCommand extends Command {
         // Filter to show only the children in the UI
         model.updateFilteredPersonList(children::contains);
         int childCount = children.size();
-        LOGGER.info("Found " + childCount + " child(ren) for parent: " + parentName);
+        LOGGER.info(() -> "Found " + childCount + " child(ren) for parent: " + parentName);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, parentName) + " (" + childCount + " shown)");
     }
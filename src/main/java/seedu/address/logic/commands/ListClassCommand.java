@@ -17,6 +17,10 @@ import seedu.address.model.person.Student;
 public class ListClassCommand extends Command {
 
     public static final String COMMAND_WORD = "listclass";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all classes with their students.\n"
+            + "Example: " + COMMAND_WORD;
+
     public static final String MESSAGE_SUCCESS = "Listed all classes with their students";
 
     private static final Logger LOGGER = LogsCenter.getLogger(ListClassCommand.class);
@@ -27,7 +31,7 @@ public class ListClassCommand extends Command {
         LOGGER.info("Executing ListClassCommand");
 
         List<TuitionClass> classList = model.getFilteredClassList();
-        LOGGER.info("Found " + classList.size() + " classes");
+        LOGGER.info(() -> "Found " + classList.size() + " classes");
 
         String output;
         if (classList.isEmpty()) {
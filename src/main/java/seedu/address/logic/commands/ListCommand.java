@@ -15,6 +15,9 @@ public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons in the address book.\n"
+            + "Example: " + COMMAND_WORD;
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
     private static final Logger LOGGER = LogsCenter.getLogger(ListCommand.class);
@@ -26,7 +29,7 @@ public class ListCommand extends Command {
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         int personCount = model.getFilteredPersonList().size();
-        LOGGER.info("Listed " + personCount + " persons");
+        LOGGER.info(() -> "Listed " + personCount + " persons");
 
         return new CommandResult(MESSAGE_SUCCESS);
     }
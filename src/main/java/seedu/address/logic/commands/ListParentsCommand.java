@@ -44,7 +44,7 @@ public class ListParentsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing ListParentsCommand" + (childName != null ? " for child: " + childName : ""));
+        LOGGER.info(() -> "Executing ListParentsCommand" + (childName != null ? " for child: " + childName : ""));
         List<Person> personList = model.getPersonList();
 
         Student child = personList.stream()
@@ -62,7 +62,7 @@ public class ListParentsCommand extends Command {
         List<Parent> parents = child.getParents();
 
         if (parents.isEmpty()) {
-            LOGGER.info("Child has no parents: " + child.getName());
+            LOGGER.info(() -> "Child has no parents: " + child.getName());
             // Show empty list in UI
             model.updateFilteredPersonList(p -> false);
             return new CommandResult(String.format(MESSAGE_SUCCESS, child.getName()) + "\n[No parents]");
@@ -71,7 +71,7 @@ public class ListParentsCommand extends Command {
         // Filter to show only the parents in the UI
         model.updateFilteredPersonList(parents::contains);
         int parentCount = parents.size();
-        LOGGER.info("Found " + parentCount + " parent(s) for child: " + child.getName());
+        LOGGER.info(() -> "Found " + parentCount + " parent(s) for child: " + child.getName());
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, childName) + " (" + parentCount + " shown)");
     }
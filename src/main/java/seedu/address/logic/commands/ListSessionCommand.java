@@ -50,7 +50,7 @@ public class ListSessionCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model, "model cannot be null");
-        LOGGER.info("Executing ListSessionCommand for class: " + className);
+        LOGGER.info(() -> "Executing ListSessionCommand for class: " + className);
 
         List<TuitionClass> classList = model.getFilteredClassList();
 
@@ -65,7 +65,7 @@ public class ListSessionCommand extends Command {
         }
 
         List<ClassSession> sessions = tuitionClass.getAllSessions();
-        LOGGER.info("Found " + sessions.size() + " sessions for class: " + tuitionClass.getName());
+        LOGGER.info(() -> "Found " + sessions.size() + " sessions for class: " + tuitionClass.getName());
 
         // Update the observable session list in the model (sorted by datetime descending)
         model.updateSessionListForClass(tuitionClass);
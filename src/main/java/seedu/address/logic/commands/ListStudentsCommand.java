@@ -52,7 +52,7 @@ public class ListStudentsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model, "model cannot be null");
-        LOGGER.info("Executing ListStudentsCommand for class: " + className);
+        LOGGER.info(() -> "Executing ListStudentsCommand for class: " + className);
 
         List<TuitionClass> classList = model.getFilteredClassList();
 
@@ -67,7 +67,7 @@ public class ListStudentsCommand extends Command {
         }
 
         List<Student> students = tuitionClass.getStudents();
-        LOGGER.info("Found " + students.size() + " students in class: " + tuitionClass.getName());
+        LOGGER.info(() -> "Found " + students.size() + " students in class: " + tuitionClass.getName());
 
         // Convert students to Person list for display
         List<Person> studentPersons = new ArrayList<>(students);
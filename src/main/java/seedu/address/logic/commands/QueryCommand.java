@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.query.Query;
+import seedu.address.logic.query.QueryPlan;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the persons matching a combination of roles, tags, classes, relationships and names.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons matching a combination of "
+            + "conditions joined with AND, OR and NOT, grouped with parentheses. "
+            + "Conditions next to each other must both hold.\n"
+            + "Conditions: "
+            + PREFIX_PERSON_TYPE + "ROLE "
+            + PREFIX_TAG + "TAG "
+            + PREFIX_CLASS + "CLASS_NAME "
+            + PREFIX_PARENT + "PARENT_NAME (children of) "
+            + PREFIX_CHILD + "CHILD_NAME (parents of) "
+            + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_PERSON_TYPE + "student AND (" + PREFIX_CLASS + "Math101 OR " + PREFIX_TAG + "scholar) "
+            + "AND NOT " + PREFIX_NAME + "alex";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(QueryCommand.class);
+
+    private final Query query;
+
+    /**
+     * Creates a QueryCommand that lists the persons matching {@code query}.
+     */
+    public QueryCommand(Query query) {
+        this.query = requireNonNull(query);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LOGGER.info(() -> "Executing QueryCommand for: " + query);
+
+        QueryPlan plan = query.plan(model);
+        LOGGER.info(() -> "Query plan: " + plan);
+        Set<Person> matches = plan.execute(model);
+
+        model.updateFilteredPersonList(matches::contains);
+        LOGGER.info(() -> "Found " + matches.size() + " persons matching the query");
+
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matches.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherCommand = (QueryCommand) other;
+        return query.equals(otherCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
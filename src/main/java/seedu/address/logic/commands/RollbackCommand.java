@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the current transaction, undoing the changes made since it was started.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Ends the current transaction and undoes "
+            + "the changes made since it was started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Rolled back the transaction";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction to roll back. "
+            + "Start one with " + BeginCommand.COMMAND_WORD + ".";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(RollbackCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+
+        model.rollbackTransaction();
+        LOGGER.info("Transaction rolled back");
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof RollbackCommand;
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file in order, one command per line.
+ * <p>
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. The commands are executed
+ * directly against the model, so the address book is only saved once, after the whole script has run.
+ * A command that fails leaves the address book as it was before that command, and in
+ * {@link Mode#ATOMIC} mode, as it was before the script.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, "
+            + "one command per line. Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH [mode/MODE]\n"
+            + "MODE is " + Mode.STOP.keyword + " (default) to stop at the first failing command, "
+            + Mode.CONTINUE.keyword + " to run the remaining commands anyway, or "
+            + Mode.ATOMIC.keyword + " to stop and also undo the commands that already ran.\n"
+            + "Example: " + COMMAND_WORD + " scripts/new-term.txt mode/" + Mode.CONTINUE.keyword;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s: %3$d succeeded, %4$d failed";
+    public static final String MESSAGE_STOPPED = "Stopped at line %1$d. The remaining lines were not run.";
+    public static final String MESSAGE_ROLLED_BACK = "Undid the changes made by the lines before line %1$d.";
+    public static final String MESSAGE_LINE_SUCCESS = "Line %1$d: OK";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "%1$s cannot be used in a script";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_FILE_ERROR = "Could not read file %1$s: %2$s";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(RunCommand.class);
+
+    /**
+     * What to do when a command in the script fails.
+     */
+    public enum Mode {
+        STOP("stop"),
+        CONTINUE("continue"),
+        ATOMIC("atomic");
+
+        private final String keyword;
+
+        Mode(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+
+    private final Path filePath;
+    private final Mode mode;
+
+    /**
+     * Creates a RunCommand to run the script at {@code filePath} in the given {@code mode}.
+     */
+    public RunCommand(Path filePath, Mode mode) {
+        requireNonNull(filePath);
+        requireNonNull(mode);
+        this.filePath = filePath;
+        this.mode = mode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LOGGER.info(() -> "Executing RunCommand for file: " + filePath + " in mode " + mode.keyword);
+
+        AddressBookParser parser = new AddressBookParser();
+        List<String> report = new ArrayList<>();
+        int succeeded = 0;
+        int failed = 0;
+        long startTime = System.nanoTime();
+        // only an atomic script is undone as a whole, so only then are its changes worth keeping
+        ChangeLog scriptChanges = mode == Mode.ATOMIC ? model.startChangeLog() : null;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    runLine(parser, commandText, model);
+                    report.add(String.format(MESSAGE_LINE_SUCCESS, lineNumber));
+                    succeeded++;
+                } catch (ParseException | CommandException | RuntimeException e) {
+                    if (e instanceof RuntimeException) {
+                        int failedLine = lineNumber;
+                        LOGGER.log(Level.WARNING, e, () -> "Line " + failedLine + " of " + filePath
+                                + " failed unexpectedly: " + commandText);
+                    }
+                    report.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+                    failed++;
+                    if (mode == Mode.ATOMIC) {
+                        scriptChanges.revert();
+                        report.add(String.format(MESSAGE_ROLLED_BACK, lineNumber));
+                    }
+                    if (mode != Mode.CONTINUE) {
+                        report.add(String.format(MESSAGE_STOPPED, lineNumber));
+                        break;
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, e.getMessage()), e);
+        } finally {
+            if (scriptChanges != null) {
+                scriptChanges.stop();
+            }
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        int ran = succeeded + failed;
+        LOGGER.info(String.format("Ran %1$d command(s) from %2$s in %3$d ms (%4$.0f commands/s)", ran, filePath,
+                elapsedNanos / 1_000_000, ran * 1e9 / elapsedNanos));
+
+        String summary = String.format(MESSAGE_SUCCESS, ran, filePath, succeeded, failed);
+        return new CommandResult(summary + "\n" + String.join("\n", report));
+    }
+
+    /**
+     * Parses and executes a single line of the script, undoing whatever it changed if it fails.
+     */
+    private static void runLine(AddressBookParser parser, String commandText, Model model)
+            throws ParseException, CommandException {
+        Command command = parser.parseCommand(commandText);
+        // Nested scripts could run forever, switching address books needs the storage, and a script
+        // is already undone as a whole, in atomic mode or by undo
+        if (command instanceof RunCommand || command instanceof SwitchCommand || command instanceof BeginCommand
+                || command instanceof CommitCommand || command instanceof RollbackCommand
+                || command instanceof UndoCommand || command instanceof RedoCommand) {
+            throw new CommandException(String.format(MESSAGE_NOT_IN_SCRIPT, commandText.split("\\s+")[0]));
+        }
+
+        ChangeLog lineChanges = model.startChangeLog();
+        try {
+            command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            lineChanges.revert();
+            throw e;
+        } finally {
+            lineChanges.stop();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && mode == otherRunCommand.mode;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("mode", mode)
+                .toString();
+    }
+}
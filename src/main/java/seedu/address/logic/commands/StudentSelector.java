@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Selects the students that a bulk command acts on: the students with any of the given names, together with
+ * the students that have any of the given tags.
+ */
+public class StudentSelector {
+
+    public static final String MESSAGE_PERSONS_NOT_FOUND = "These persons do not exist in the address book: %s";
+    public static final String MESSAGE_NOT_STUDENTS = "Only students can be selected by name: %s";
+
+    private final Set<Name> names;
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a StudentSelector for the students called any of {@code names} or tagged with any of {@code tags}.
+     */
+    public StudentSelector(Set<Name> names, Set<Tag> tags) {
+        requireNonNull(names);
+        requireNonNull(tags);
+        this.names = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+        this.tags = Collections.unmodifiableSet(new LinkedHashSet<>(tags));
+    }
+
+    /**
+     * Returns the selected students in the order they appear in the address book, found in a single pass
+     * over its persons.
+     *
+     * @throws CommandException if a given name belongs to nobody or to someone who is not a student.
+     */
+    public List<Student> select(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Student> selected = new ArrayList<>();
+        Set<Name> foundNames = new HashSet<>();
+        List<String> nonStudentNames = new ArrayList<>();
+        for (Person person : model.getPersonList()) {
+            boolean isNamed = names.contains(person.getName());
+            if (isNamed) {
+                foundNames.add(person.getName());
+            }
+            if (!(person instanceof Student)) {
+                if (isNamed) {
+                    nonStudentNames.add(person.getName().fullName);
+                }
+                continue;
+            }
+            if (isNamed || !Collections.disjoint(tags, person.getTags())) {
+                selected.add((Student) person);
+            }
+        }
+
+        List<String> unknownNames = names.stream()
+                .filter(name -> !foundNames.contains(name))
+                .map(name -> name.fullName)
+                .collect(Collectors.toList());
+        if (!unknownNames.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_PERSONS_NOT_FOUND, String.join(", ", unknownNames)));
+        }
+        if (!nonStudentNames.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOT_STUDENTS, String.join(", ", nonStudentNames)));
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentSelector)) {
+            return false;
+        }
+
+        StudentSelector otherSelector = (StudentSelector) other;
+        return names.equals(otherSelector.names) && tags.equals(otherSelector.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(names, tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("names", names)
+                .add("tags", tags)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Switches to another named address book, creating it if it does not exist yet.
+ * <p>
+ * The address book is loaded by {@link seedu.address.logic.LogicManager} once this command has executed.
+ */
+public class SwitchCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the address book with the given name. "
+            + "A new, empty address book is created if there is none with that name.\n"
+            + "Parameters: NAME (letters, digits, '-' and '_' only)\n"
+            + "Example: " + COMMAND_WORD + " branch-east";
+
+    public static final String MESSAGE_CONSTRAINTS = "Address book names should only contain letters, digits, "
+            + "'-' and '_', start with a letter or digit, and be at most 50 characters long";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}_-]{0,49}";
+
+    public static final String MESSAGE_SUCCESS = "Switched to address book %1$s";
+    public static final String MESSAGE_ALREADY_ACTIVE = "Address book %1$s is already in use";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(SwitchCommand.class);
+
+    private final String name;
+
+    /**
+     * Creates a SwitchCommand to switch to the address book called {@code name}.
+     */
+    public SwitchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    /**
+     * Returns true if {@code name} is a valid address book name.
+     */
+    public static boolean isValidName(String name) {
+        return name.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (FileUtil.getFileNameStem(model.getAddressBookFilePath()).equalsIgnoreCase(name)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_ACTIVE, name));
+        }
+
+        LOGGER.info(() -> "Switching to address book " + name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name), false, false,
+                CommandResult.DisplayType.CLASSES, name);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SwitchCommand)) {
+            return false;
+        }
+
+        SwitchCommand otherSwitchCommand = (SwitchCommand) other;
+        return name.equals(otherSwitchCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
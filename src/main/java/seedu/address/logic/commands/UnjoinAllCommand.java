@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Student;
+
+/**
+ * Removes many students from a tuition class at once.
+ */
+public class UnjoinAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "unjoinall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes many students from a class at once. "
+            + "Removes the named students and every student in the class with one of the given tags.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS "
+            + "[" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "Math101 "
+            + PREFIX_TAG + "graduated";
+
+    public static final String MESSAGE_SUCCESS = "Removed %1$d student(s) from class %2$s";
+    public static final String MESSAGE_NONE_IN_CLASS = "None of the selected students are in class %s";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(UnjoinAllCommand.class);
+
+    private final String className;
+    private final StudentSelector selector;
+
+    /**
+     * Creates an UnjoinAllCommand to remove the students chosen by {@code selector} from the class called
+     * {@code className}.
+     */
+    public UnjoinAllCommand(String className, StudentSelector selector) {
+        requireNonNull(className);
+        requireNonNull(selector);
+        this.className = className;
+        this.selector = selector;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LOGGER.info(() -> "Executing UnjoinAllCommand for class: " + className);
+
+        TuitionClass tuitionClass = model.getClassByName(className);
+        if (tuitionClass == null) {
+            LOGGER.warning("Class not found: " + className);
+            throw new CommandException(String.format(UnjoinClassCommand.MESSAGE_CLASS_NOT_FOUND, className));
+        }
+
+        Set<Student> enrolled = new HashSet<>(tuitionClass.getStudents());
+        List<Student> toRemove = selector.select(model).stream()
+                .filter(enrolled::contains)
+                .collect(Collectors.toList());
+        if (toRemove.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NONE_IN_CLASS, tuitionClass.getName()));
+        }
+
+        tuitionClass.removeStudents(toRemove);
+        for (Student student : toRemove) {
+            student.unjoin(tuitionClass);
+        }
+
+        // Force ObservableList to update by calling setClass
+        model.setClass(tuitionClass, tuitionClass);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredClassList(Model.PREDICATE_SHOW_ALL_CLASSES);
+        LOGGER.info(() -> "Successfully removed " + toRemove.size() + " student(s) from class "
+                + tuitionClass.getName());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toRemove.size(), tuitionClass.getName()),
+                CommandResult.DisplayType.CLASSES);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnjoinAllCommand)) {
+            return false;
+        }
+
+        UnjoinAllCommand otherCommand = (UnjoinAllCommand) other;
+        return className.equals(otherCommand.className) && selector.equals(otherCommand.selector);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("className", className)
+                .add("selector", selector)
+                .toString();
+    }
+}
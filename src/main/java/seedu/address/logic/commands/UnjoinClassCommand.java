@@ -57,7 +57,7 @@ public class UnjoinClassCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        LOGGER.info("Executing UnjoinClassCommand for person: " + personName + " and class: " + className);
+        LOGGER.info(() -> "Executing UnjoinClassCommand for person: " + personName + " and class: " + className);
 
         List<Person> personList = model.getFilteredPersonList();
         List<TuitionClass> classList = model.getFilteredClassList();
@@ -97,7 +97,7 @@ public class UnjoinClassCommand extends Command {
             }
             tuitionClass.removeStudent(student);
             student.unjoin(tuitionClass);
-            LOGGER.info("Successfully removed student " + actualName + " from class " + tuitionClass.getName());
+            LOGGER.info(() -> "Successfully removed student " + actualName + " from class " + tuitionClass.getName());
         } else if (person.getPersonType() == PersonType.TUTOR) {
             Tutor tutor = (Tutor) person;
             if (!tuitionClass.hasTutor(tutor)) {
@@ -107,7 +107,7 @@ public class UnjoinClassCommand extends Command {
             }
             tuitionClass.removeTutor(tutor);
             tutor.unjoin(tuitionClass);
-            LOGGER.info("Successfully removed tutor " + actualName + " from class " + tuitionClass.getName());
+            LOGGER.info(() -> "Successfully removed tutor " + actualName + " from class " + tuitionClass.getName());
         }
 
         // Force ObservableList to update by calling setClass
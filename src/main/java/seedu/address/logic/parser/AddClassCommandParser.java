@@ -15,6 +15,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddClassCommandParser implements Parser<AddClassCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_TUTOR);
+
     @Override
     public AddClassCommand parse(String args) throws ParseException {
         requireNonNull(args);
@@ -25,7 +27,7 @@ public class AddClassCommandParser implements Parser<AddClassCommand> {
             trimmed = trimmed.substring(cmd.length()).trim();
         }
 
-        ArgumentMultimap map = ArgumentTokenizer.tokenize(trimmed, PREFIX_CLASS, PREFIX_TUTOR);
+        ArgumentMultimap map = TOKENIZER.split(trimmed);
 
         if (!arePrefixesPresent(map, PREFIX_CLASS) || !map.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddClassCommand.MESSAGE_USAGE));
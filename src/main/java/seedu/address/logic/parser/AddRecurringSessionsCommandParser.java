@@ -0,0 +1,97 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AddRecurringSessionsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.classroom.ClassSession;
+
+/**
+ * Parses input arguments and creates a new AddRecurringSessionsCommand object
+ */
+public class AddRecurringSessionsCommandParser implements Parser<AddRecurringSessionsCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT =
+            "The number of sessions must be a whole number from 1 to " + AddRecurringSessionsCommand.MAX_COUNT;
+    public static final String MESSAGE_INVALID_INTERVAL = "The number of days between sessions must be from 1 to 366";
+    public static final String MESSAGE_SESSION_NAME_TOO_LONG = "Session names must not exceed "
+            + ClassSession.MAX_SESSION_NAME_LENGTH + " characters, including the session number";
+
+    private static final int MAX_INTERVAL_DAYS = 366;
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_SESSION,
+            PREFIX_DATETIME, PREFIX_COUNT, PREFIX_EVERY, PREFIX_LOCATION);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddRecurringSessionsCommand
+     * and returns an AddRecurringSessionsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddRecurringSessionsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_CLASS, PREFIX_SESSION, PREFIX_DATETIME, PREFIX_COUNT)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddRecurringSessionsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_SESSION, PREFIX_DATETIME, PREFIX_COUNT,
+                PREFIX_EVERY, PREFIX_LOCATION);
+
+        String className = ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get());
+        String sessionName = ParserUtil.parseSessionName(argMultimap.getValue(PREFIX_SESSION).get());
+        LocalDateTime firstDateTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATETIME).get());
+        int count = parseNumber(argMultimap.getValue(PREFIX_COUNT).get(), AddRecurringSessionsCommand.MAX_COUNT,
+                MESSAGE_INVALID_COUNT);
+        int intervalDays = argMultimap.getValue(PREFIX_EVERY).isPresent()
+                ? parseNumber(argMultimap.getValue(PREFIX_EVERY).get(), MAX_INTERVAL_DAYS, MESSAGE_INVALID_INTERVAL)
+                : AddRecurringSessionsCommand.DEFAULT_INTERVAL_DAYS;
+        String location = argMultimap.getValue(PREFIX_LOCATION).isPresent()
+                ? ParserUtil.parseLocation(argMultimap.getValue(PREFIX_LOCATION).get())
+                : null;
+
+        if (AddRecurringSessionsCommand.getSessionName(sessionName, count).length()
+                > ClassSession.MAX_SESSION_NAME_LENGTH) {
+            throw new ParseException(MESSAGE_SESSION_NAME_TOO_LONG);
+        }
+        if (location != null && location.length() > ClassSession.MAX_LOCATION_LENGTH) {
+            throw new ParseException("Location must not exceed " + ClassSession.MAX_LOCATION_LENGTH + " characters");
+        }
+
+        return new AddRecurringSessionsCommand(className, sessionName, firstDateTime, count, intervalDays,
+                location);
+    }
+
+    /**
+     * Parses {@code text} as a whole number from 1 to {@code max}.
+     *
+     * @throws ParseException with {@code message} if it is not one.
+     */
+    private static int parseNumber(String text, int max, String message) throws ParseException {
+        String trimmed = text.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmed) || trimmed.length() > 4
+                || Integer.parseInt(trimmed) > max) {
+            throw new ParseException(message);
+        }
+        return Integer.parseInt(trimmed);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
 
 import java.time.LocalDateTime;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddSessionCommand;
@@ -17,6 +18,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddSessionCommandParser implements Parser<AddSessionCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_SESSION,
+            PREFIX_DATETIME, PREFIX_LOCATION);
+    private static final Pattern DATE_TIME_FORMAT = Pattern.compile("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}");
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddSessionCommand
      * and returns an AddSessionCommand object for execution.
@@ -25,8 +30,7 @@ public class AddSessionCommandParser implements Parser<AddSessionCommand> {
      */
     public AddSessionCommand parse(String args) throws ParseException {
         String trimmed = args.trim();
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmed, PREFIX_CLASS, PREFIX_SESSION,
-                PREFIX_DATETIME, PREFIX_LOCATION);
+        ArgumentMultimap argMultimap = TOKENIZER.split(trimmed);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS, PREFIX_SESSION, PREFIX_DATETIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -42,7 +46,7 @@ public class AddSessionCommandParser implements Parser<AddSessionCommand> {
         // Check if datetime value contains extra text that might indicate wrong prefix usage
         String dateTimeStr = argMultimap.getValue(PREFIX_DATETIME).get();
         // If datetime has extra content beyond expected format, it likely means wrong prefix was used
-        if (!dateTimeStr.trim().matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}")) {
+        if (!DATE_TIME_FORMAT.matcher(dateTimeStr.trim()).matches()) {
             // Check if it looks like there's additional content that might be a mistyped prefix
             if (dateTimeStr.contains("/")) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -1,29 +1,38 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddClassCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddRecurringSessionsCommand;
 import seedu.address.logic.commands.AddSessionCommand;
+import seedu.address.logic.commands.AttendAllCommand;
 import seedu.address.logic.commands.AttendCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteClassCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteSessionCommand;
 import seedu.address.logic.commands.EditClassCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FootprintCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.JoinAllCommand;
 import seedu.address.logic.commands.JoinClassCommand;
+import seedu.address.logic.commands.LatencyCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListChildrenCommand;
 import seedu.address.logic.commands.ListClassCommand;
@@ -31,8 +40,16 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListParentsCommand;
 import seedu.address.logic.commands.ListSessionCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnjoinAllCommand;
 import seedu.address.logic.commands.UnjoinClassCommand;
 import seedu.address.logic.commands.ViewSessionCommand;
+import seedu.address.logic.parser.CommandRegistry.CommandEntry;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -40,11 +57,127 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private static final boolean MUTATING = true;
+    private static final boolean READ_ONLY = false;
+
+    /** Every command the user can type. Parsers are stateless, so each one is created once and shared. */
+    private static final CommandRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final CommandRegistry registry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an AddressBookParser that recognises every command of the app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates an AddressBookParser that recognises the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the registry of commands that this parser recognises.
+     */
+    public CommandRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns a registry holding every command of the app.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(new CommandEntry(AddCommand.class, AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE,
+                MUTATING, new AddCommandParser()));
+        registry.register(new CommandEntry(AddClassCommand.class, AddClassCommand.COMMAND_WORD,
+                AddClassCommand.MESSAGE_USAGE, MUTATING, new AddClassCommandParser()));
+        registry.register(new CommandEntry(AddSessionCommand.class, AddSessionCommand.COMMAND_WORD,
+                AddSessionCommand.MESSAGE_USAGE, MUTATING, new AddSessionCommandParser()));
+        registry.register(new CommandEntry(AddRecurringSessionsCommand.class, AddRecurringSessionsCommand.COMMAND_WORD,
+                AddRecurringSessionsCommand.MESSAGE_USAGE, MUTATING, new AddRecurringSessionsCommandParser()));
+        registry.register(new CommandEntry(EditClassCommand.class, EditClassCommand.COMMAND_WORD,
+                EditClassCommand.MESSAGE_USAGE, MUTATING, new EditClassCommandParser()));
+        registry.register(new CommandEntry(JoinClassCommand.class, JoinClassCommand.COMMAND_WORD,
+                JoinClassCommand.MESSAGE_USAGE, MUTATING, new JoinClassCommandParser()));
+        registry.register(new CommandEntry(JoinAllCommand.class, JoinAllCommand.COMMAND_WORD,
+                JoinAllCommand.MESSAGE_USAGE, MUTATING, new JoinAllCommandParser()));
+        registry.register(new CommandEntry(DeleteClassCommand.class, DeleteClassCommand.COMMAND_WORD,
+                DeleteClassCommand.MESSAGE_USAGE, MUTATING, new DeleteClassCommandParser()));
+        registry.register(new CommandEntry(DeleteSessionCommand.class, DeleteSessionCommand.COMMAND_WORD,
+                DeleteSessionCommand.MESSAGE_USAGE, MUTATING, new DeleteSessionCommandParser()));
+        registry.register(new CommandEntry(EditCommand.class, EditCommand.COMMAND_WORD, EditCommand.MESSAGE_USAGE,
+                MUTATING, new EditCommandParser()));
+        registry.register(new CommandEntry(DeleteCommand.class, DeleteCommand.COMMAND_WORD,
+                DeleteCommand.MESSAGE_USAGE, MUTATING, new DeleteCommandParser()));
+        registry.register(new CommandEntry(ClearCommand.class, ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE,
+                MUTATING, args -> new ClearCommand()).withoutAbbreviation());
+        registry.register(new CommandEntry(FindCommand.class, FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE,
+                READ_ONLY, new FindCommandParser()));
+        registry.register(new CommandEntry(ListCommand.class, ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE,
+                READ_ONLY, args -> new ListCommand()).withAliases("ls"));
+        registry.register(new CommandEntry(ListChildrenCommand.class, ListChildrenCommand.COMMAND_WORD,
+                ListChildrenCommand.MESSAGE_USAGE, READ_ONLY, new ListChildrenCommandParser()));
+        registry.register(new CommandEntry(ListParentsCommand.class, ListParentsCommand.COMMAND_WORD,
+                ListParentsCommand.MESSAGE_USAGE, READ_ONLY, new ListParentsCommandParser()));
+        registry.register(new CommandEntry(ListClassCommand.class, ListClassCommand.COMMAND_WORD,
+                ListClassCommand.MESSAGE_USAGE, READ_ONLY, args -> new ListClassCommand()));
+        registry.register(new CommandEntry(ListSessionCommand.class, ListSessionCommand.COMMAND_WORD,
+                ListSessionCommand.MESSAGE_USAGE, READ_ONLY, new ListSessionParser()));
+        registry.register(new CommandEntry(ListStudentsCommand.class, ListStudentsCommand.COMMAND_WORD,
+                ListStudentsCommand.MESSAGE_USAGE, READ_ONLY, new ListStudentsCommandParser()));
+        registry.register(new CommandEntry(ViewSessionCommand.class, ViewSessionCommand.COMMAND_WORD,
+                ViewSessionCommand.MESSAGE_USAGE, READ_ONLY, new ViewSessionCommandParser()));
+        registry.register(new CommandEntry(ExitCommand.class, ExitCommand.COMMAND_WORD, ExitCommand.MESSAGE_USAGE,
+                READ_ONLY, args -> new ExitCommand()).withAliases("quit"));
+        registry.register(new CommandEntry(HelpCommand.class, HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE,
+                READ_ONLY, new HelpCommandParser(registry)));
+        registry.register(new CommandEntry(FilterCommand.class, FilterCommand.COMMAND_WORD,
+                FilterCommand.MESSAGE_USAGE, READ_ONLY, new FilterCommandParser()));
+        registry.register(new CommandEntry(QueryCommand.class, QueryCommand.COMMAND_WORD, QueryCommand.MESSAGE_USAGE,
+                READ_ONLY, new QueryCommandParser()));
+        registry.register(new CommandEntry(AttendCommand.class, AttendCommand.COMMAND_WORD,
+                AttendCommand.MESSAGE_USAGE, MUTATING, new AttendCommandParser()));
+        registry.register(new CommandEntry(AttendAllCommand.class, AttendAllCommand.COMMAND_WORD,
+                AttendAllCommand.MESSAGE_USAGE, MUTATING, new AttendAllCommandParser()));
+        registry.register(new CommandEntry(LinkCommand.class, LinkCommand.COMMAND_WORD, LinkCommand.MESSAGE_USAGE,
+                MUTATING, new LinkCommandParser()));
+        registry.register(new CommandEntry(UnjoinClassCommand.class, UnjoinClassCommand.COMMAND_WORD,
+                UnjoinClassCommand.MESSAGE_USAGE, MUTATING, new UnjoinClassCommandParser()));
+        registry.register(new CommandEntry(UnjoinAllCommand.class, UnjoinAllCommand.COMMAND_WORD,
+                UnjoinAllCommand.MESSAGE_USAGE, MUTATING, new UnjoinAllCommandParser()));
+        registry.register(new CommandEntry(ImportCommand.class, ImportCommand.COMMAND_WORD,
+                ImportCommand.MESSAGE_USAGE, MUTATING, new ImportCommandParser()));
+        registry.register(new CommandEntry(ExportCommand.class, ExportCommand.COMMAND_WORD,
+                ExportCommand.MESSAGE_USAGE, READ_ONLY, new ExportCommandParser()));
+        // Switching saves the address book being switched away from, and leaves the one switched to as read
+        registry.register(new CommandEntry(SwitchCommand.class, SwitchCommand.COMMAND_WORD,
+                SwitchCommand.MESSAGE_USAGE, READ_ONLY, new SwitchCommandParser()));
+        registry.register(new CommandEntry(RunCommand.class, RunCommand.COMMAND_WORD, RunCommand.MESSAGE_USAGE,
+                MUTATING, new RunCommandParser()));
+        // Nothing is saved until the transaction is committed, and rolling back restores what was last saved
+        registry.register(new CommandEntry(BeginCommand.class, BeginCommand.COMMAND_WORD, BeginCommand.MESSAGE_USAGE,
+                READ_ONLY, args -> new BeginCommand()));
+        registry.register(new CommandEntry(CommitCommand.class, CommitCommand.COMMAND_WORD,
+                CommitCommand.MESSAGE_USAGE, MUTATING, args -> new CommitCommand()));
+        registry.register(new CommandEntry(RollbackCommand.class, RollbackCommand.COMMAND_WORD,
+                RollbackCommand.MESSAGE_USAGE, READ_ONLY, args -> new RollbackCommand()).withoutAbbreviation());
+        registry.register(new CommandEntry(UndoCommand.class, UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_USAGE,
+                MUTATING, args -> new UndoCommand()));
+        registry.register(new CommandEntry(RedoCommand.class, RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_USAGE,
+                MUTATING, args -> new RedoCommand()));
+        registry.register(new CommandEntry(LatencyCommand.class, LatencyCommand.COMMAND_WORD,
+                LatencyCommand.MESSAGE_USAGE, READ_ONLY, args -> new LatencyCommand()));
+        registry.register(new CommandEntry(FootprintCommand.class, FootprintCommand.COMMAND_WORD,
+                FootprintCommand.MESSAGE_USAGE, READ_ONLY, args -> new FootprintCommand()));
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -54,96 +187,50 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = indexOfWhitespace(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+        if (commandWord.isEmpty() || containsLineTerminator(arguments)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddClassCommand.COMMAND_WORD:
-            return new AddClassCommandParser().parse(arguments);
-
-        case AddSessionCommand.COMMAND_WORD:
-            return new AddSessionCommandParser().parse(arguments);
-
-        case EditClassCommand.COMMAND_WORD:
-            return new EditClassCommandParser().parse(arguments);
-
-        case JoinClassCommand.COMMAND_WORD:
-            return new JoinClassCommandParser().parse(arguments);
-
-        case DeleteClassCommand.COMMAND_WORD:
-            return new DeleteClassCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case DeleteSessionCommand.COMMAND_WORD:
-            return new DeleteSessionCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListChildrenCommand.COMMAND_WORD:
-            return new ListChildrenCommandParser().parse(arguments);
-
-        case ListParentsCommand.COMMAND_WORD:
-            return new ListParentsCommandParser().parse(arguments);
-
-        case ListClassCommand.COMMAND_WORD:
-            return new ListClassCommand();
-
-        case ListSessionCommand.COMMAND_WORD:
-            return new ListSessionParser().parse(arguments);
-
-        case ListStudentsCommand.COMMAND_WORD:
-            return new ListStudentsCommandParser().parse(arguments);
-
-        case ViewSessionCommand.COMMAND_WORD:
-            return new ViewSessionCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
-
-        case AttendCommand.COMMAND_WORD:
-            return new AttendCommandParser().parse(arguments);
-
-        case LinkCommand.COMMAND_WORD:
-            return new LinkCommandParser().parse(arguments);
+        Optional<CommandEntry> entry = registry.resolve(commandWord);
+        if (entry.isEmpty()) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return entry.get().parse(arguments);
+    }
 
-        case UnjoinClassCommand.COMMAND_WORD:
-            return new UnjoinClassCommandParser().parse(arguments);
+    /**
+     * Returns the index of the first whitespace character in {@code text}, or its length if there is none.
+     * Whitespace has the same meaning as {@code \s} in a regular expression.
+     */
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (" \t\n\u000B\f\r".indexOf(text.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return text.length();
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code text} contains a line terminator, i.e. a character that {@code .} does not match
+     * in a regular expression. A command must fit on one line.
+     */
+    private static boolean containsLineTerminator(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if ("\n\r\u0085\u2028\u2029".indexOf(text.charAt(i)) >= 0) {
+                return true;
+            }
         }
+        return false;
     }
 }
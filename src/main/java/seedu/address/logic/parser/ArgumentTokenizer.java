@@ -1,9 +1,7 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Comparator;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,148 +10,136 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * A tokenizer is created once for a fixed set of prefixes and can then be reused by any number of threads.
+ * It finds all of its prefixes in a single left-to-right scan, and only allocates the argument values.
  */
 public class ArgumentTokenizer {
 
+    /** The key under which the preamble is stored in an {@code ArgumentMultimap}. */
+    static final Prefix PREAMBLE = new Prefix("");
+
+    /** Number of leading characters that {@link #firstCharacters} has a flag for. */
+    private static final int ASCII_RANGE = 128;
+
+    /** The prefixes to recognise, longest first so that the longest matching prefix wins. */
+    private final Prefix[] prefixes;
+
+    /** Whether some prefix starts with each ASCII character, to skip most positions without comparing. */
+    private final boolean[] firstCharacters = new boolean[ASCII_RANGE];
+    private final boolean hasNonAsciiFirstCharacter;
+
+    /**
+     * Creates a tokenizer that recognises {@code prefixes}.
+     */
+    public ArgumentTokenizer(Prefix... prefixes) {
+        this.prefixes = Arrays.stream(prefixes)
+                .filter(prefix -> !prefix.getPrefix().isEmpty())
+                .distinct()
+                .sorted(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed())
+                .toArray(Prefix[]::new);
+
+        boolean nonAscii = false;
+        for (Prefix prefix : this.prefixes) {
+            char firstCharacter = prefix.getPrefix().charAt(0);
+            if (firstCharacter < ASCII_RANGE) {
+                firstCharacters[firstCharacter] = true;
+            } else {
+                nonAscii = true;
+            }
+        }
+        hasNonAsciiFirstCharacter = nonAscii;
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * <p>
+     * Parsers that tokenize with the same prefixes every time should keep an {@code ArgumentTokenizer}
+     * and call {@link #split(String)} instead.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Finds all positions of {@code prefix} in {@code argsString}.
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            positions.add(new PrefixPosition(prefix, prefixPosition));
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(),
-                    prefixPosition + prefix.getPrefix().length());
-        }
-
-        return positions;
+        return new ArgumentTokenizer(prefixes).split(argsString);
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. Returns -1 if no
-     * such occurrence can be found.
+     * Splits an arguments string and returns an {@code ArgumentMultimap} object that maps this tokenizer's
+     * prefixes to their respective argument values.
      *
      * <p>A prefix is considered to be part of the arguments string if it is:
      * - at the start of the string, OR
      * - preceded by a whitespace character, OR
      * - preceded by '/' (to handle consecutive prefixes like "a/b/c/")
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = fromIndex;
-
-        while (prefixIndex < argsString.length()) {
-            prefixIndex = argsString.indexOf(prefix, prefixIndex);
-            if (prefixIndex == -1) {
-                return -1;
-            }
-            // Check if this is a valid prefix position
-            if (prefixIndex == 0
-                    || Character.isWhitespace(argsString.charAt(prefixIndex - 1))
-                    || argsString.charAt(prefixIndex - 1) == '/') {
-                return prefixIndex;
-            }
-            prefixIndex++;
-        }
-
-        return -1;
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap split(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        int length = argsString.length();
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                char previous = argsString.charAt(i - 1);
+                if (previous != '/' && !Character.isWhitespace(previous)) {
+                    continue;
+                }
+            }
+
+            Prefix prefix = findPrefixAt(argsString, i);
+            if (prefix == null) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, trimmedSubstring(argsString, valueStart, i));
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            // The character after a prefix is '/', so the next position is checked as usual
+            i = valueStart - 1;
         }
 
+        argMultimap.put(currentPrefix, trimmedSubstring(argsString, valueStart, length));
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the longest of this tokenizer's prefixes that starts at {@code index} in {@code argsString},
+     * or null if there is none.
      */
-    private static String extractArgumentValue(String argsString,
-                                               PrefixPosition currentPrefixPosition,
-                                               PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private Prefix findPrefixAt(String argsString, int index) {
+        char character = argsString.charAt(index);
+        boolean mayMatch = character < ASCII_RANGE ? firstCharacters[character] : hasNonAsciiFirstCharacter;
+        if (!mayMatch) {
+            return null;
+        }
 
-        return value.trim();
+        for (Prefix prefix : prefixes) {
+            if (argsString.startsWith(prefix.getPrefix(), index)) {
+                return prefix;
+            }
+        }
+        return null;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the text from {@code start} (inclusive) to {@code end} (exclusive) without leading and trailing
+     * whitespace, with the same meaning of whitespace as {@link String#trim()}.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static String trimmedSubstring(String argsString, int start, int end) {
+        int trimmedStart = start;
+        int trimmedEnd = end;
+        while (trimmedStart < trimmedEnd && argsString.charAt(trimmedStart) <= ' ') {
+            trimmedStart++;
         }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+        while (trimmedEnd > trimmedStart && argsString.charAt(trimmedEnd - 1) <= ' ') {
+            trimmedEnd--;
         }
+        return argsString.substring(trimmedStart, trimmedEnd);
     }
 
 }
@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.AttendAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new AttendAllCommand object.
+ */
+public class AttendAllCommandParser implements Parser<AttendAllCommand> {
+
+    public static final String MESSAGE_NAMES_AND_EXCEPTIONS =
+            "Give either the students to mark with " + PREFIX_NAME + " or the students to skip with "
+            + PREFIX_EXCEPT + ", not both";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_EXCEPT,
+            PREFIX_CLASS, PREFIX_SESSION, PREFIX_STATUS);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendAllCommand
+     * and returns an AttendAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AttendAllCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
+
+        if (argMultimap.getValue(PREFIX_CLASS).isEmpty() || argMultimap.getValue(PREFIX_SESSION).isEmpty()
+                || argMultimap.getValue(PREFIX_STATUS).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendAllCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_SESSION, PREFIX_STATUS);
+
+        String className = argMultimap.getValue(PREFIX_CLASS).get().trim();
+        String sessionName = argMultimap.getValue(PREFIX_SESSION).get().trim();
+        String status = argMultimap.getValue(PREFIX_STATUS).get().trim();
+        if (className.isEmpty() || sessionName.isEmpty() || status.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendAllCommand.MESSAGE_USAGE));
+        }
+        Boolean present = ParserUtil.parseAttendanceStatus(status);
+
+        List<String> names = argMultimap.getAllValues(PREFIX_NAME);
+        List<String> exceptions = argMultimap.getAllValues(PREFIX_EXCEPT);
+        if (!names.isEmpty() && !exceptions.isEmpty()) {
+            throw new ParseException(MESSAGE_NAMES_AND_EXCEPTIONS);
+        }
+
+        boolean isExcludingNames = names.isEmpty();
+        return new AttendAllCommand(className, sessionName, present,
+                parseNames(isExcludingNames ? exceptions : names), isExcludingNames);
+    }
+
+    private static Set<Name> parseNames(List<String> names) throws ParseException {
+        Set<Name> parsedNames = new LinkedHashSet<>();
+        for (String name : names) {
+            parsedNames.add(ParserUtil.parseName(name));
+        }
+        return parsedNames;
+    }
+}
@@ -19,6 +19,9 @@ import seedu.address.model.person.Name;
  */
 public class AttendCommandParser implements Parser<AttendCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_CLASS,
+            PREFIX_SESSION, PREFIX_STATUS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AttendCommand
      * and returns an AttendCommand object for execution.
@@ -29,8 +32,7 @@ public class AttendCommandParser implements Parser<AttendCommand> {
      *         contains duplicate prefixes, or has invalid parameter values
      */
     public AttendCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_CLASS, PREFIX_SESSION, PREFIX_STATUS);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_CLASS, PREFIX_SESSION, PREFIX_STATUS)
                 || !argMultimap.getPreamble().isEmpty()) {
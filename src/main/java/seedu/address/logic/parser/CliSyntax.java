@@ -21,5 +21,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_CLASS = new Prefix("c/");
     public static final Prefix PREFIX_PARENT = new Prefix("parent/");
     public static final Prefix PREFIX_CHILD = new Prefix("child/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_MODE = new Prefix("mode/");
+    public static final Prefix PREFIX_EXCEPT = new Prefix("except/");
+    public static final Prefix PREFIX_COUNT = new Prefix("count/");
+    public static final Prefix PREFIX_EVERY = new Prefix("every/");
 
 }
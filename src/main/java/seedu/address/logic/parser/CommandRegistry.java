@@ -0,0 +1,203 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers that create their commands, together with what other parts of the app
+ * need to know about each command, such as its usage text and whether it changes the address book.
+ * <p>
+ * A command can be typed as its command word, as one of its aliases, or as an abbreviation of its command word
+ * that no other command word or alias starts with. An exact command word or alias always wins over an
+ * abbreviation, so {@code list} still means {@code list} even though {@code listclass} starts with it.
+ */
+public class CommandRegistry {
+
+    /** Entries by command word and alias, sorted so that abbreviations can be looked up as a range. */
+    private final TreeMap<String, CommandEntry> entriesByWord = new TreeMap<>();
+    private final Map<Class<? extends Command>, CommandEntry> entriesByCommandClass = new HashMap<>();
+    private final List<CommandEntry> entries = new ArrayList<>();
+
+    /**
+     * Adds {@code entry} to this registry.
+     *
+     * @throws IllegalArgumentException if its command word or one of its aliases is already registered.
+     */
+    public void register(CommandEntry entry) {
+        requireNonNull(entry);
+        for (String word : entry.getWords()) {
+            if (entriesByWord.containsKey(word)) {
+                throw new IllegalArgumentException("Command word " + word + " is already registered");
+            }
+        }
+        for (String word : entry.getWords()) {
+            entriesByWord.put(word, entry);
+        }
+        entriesByCommandClass.put(entry.getCommandClass(), entry);
+        entries.add(entry);
+    }
+
+    /**
+     * Returns the entry that {@code word} refers to: the command with that command word or alias if there is one,
+     * otherwise the only abbreviable command whose command word or alias starts with {@code word}.
+     * Returns an empty {@code Optional} if no command matches or if {@code word} abbreviates several commands.
+     */
+    public Optional<CommandEntry> resolve(String word) {
+        requireNonNull(word);
+        CommandEntry exactMatch = entriesByWord.get(word);
+        if (exactMatch != null) {
+            return Optional.of(exactMatch);
+        }
+
+        CommandEntry match = null;
+        for (CommandEntry candidate : entriesByWord.subMap(word, word + Character.MAX_VALUE).values()) {
+            if (!candidate.isAbbreviable()) {
+                continue;
+            }
+            if (match != null && match != candidate) {
+                return Optional.empty();
+            }
+            match = candidate;
+        }
+        return Optional.ofNullable(match);
+    }
+
+    /**
+     * Returns the entry for commands of the same class as {@code command}, if it was registered.
+     */
+    public Optional<CommandEntry> getEntry(Command command) {
+        requireNonNull(command);
+        return Optional.ofNullable(entriesByCommandClass.get(command.getClass()));
+    }
+
+    /**
+     * Returns true unless {@code command} is known to leave the address book unchanged.
+     */
+    public boolean isMutating(Command command) {
+        return getEntry(command).map(CommandEntry::isMutating).orElse(true);
+    }
+
+    /**
+     * Returns the command words and aliases that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix) {
+        requireNonNull(prefix);
+        return new ArrayList<>(entriesByWord.subMap(prefix, prefix + Character.MAX_VALUE).keySet());
+    }
+
+    /**
+     * Returns the registered entries in the order they were registered.
+     */
+    public List<CommandEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Describes a command that can be typed by the user.
+     */
+    public static class CommandEntry {
+
+        private final Class<? extends Command> commandClass;
+        private final String commandWord;
+        private final String usage;
+        private final boolean isMutating;
+        private final Parser<? extends Command> parser;
+        private final List<String> aliases;
+        private final boolean isAbbreviable;
+
+        /**
+         * Creates an entry for commands of {@code commandClass} typed as {@code commandWord}, which {@code parser}
+         * creates from the arguments after the command word. {@code isMutating} tells whether the command may
+         * change the address book. The entry has no aliases and may be abbreviated.
+         */
+        public <T extends Command> CommandEntry(Class<T> commandClass, String commandWord, String usage,
+                boolean isMutating, Parser<? extends T> parser) {
+            this(commandClass, commandWord, usage, isMutating, parser, List.of(), true);
+        }
+
+        private CommandEntry(Class<? extends Command> commandClass, String commandWord, String usage,
+                boolean isMutating, Parser<? extends Command> parser, List<String> aliases, boolean isAbbreviable) {
+            requireAllNonNull(commandClass, commandWord, usage, parser, aliases);
+            this.commandClass = commandClass;
+            this.commandWord = commandWord;
+            this.usage = usage;
+            this.isMutating = isMutating;
+            this.parser = parser;
+            this.aliases = aliases;
+            this.isAbbreviable = isAbbreviable;
+        }
+
+        /**
+         * Returns a copy of this entry that can also be typed as any of {@code aliases}.
+         */
+        public CommandEntry withAliases(String... aliases) {
+            List<String> allAliases = new ArrayList<>(this.aliases);
+            allAliases.addAll(Arrays.asList(aliases));
+            return new CommandEntry(commandClass, commandWord, usage, isMutating, parser,
+                    Collections.unmodifiableList(allAliases), isAbbreviable);
+        }
+
+        /**
+         * Returns a copy of this entry that can only be typed in full, for commands that are too destructive
+         * to be run by a mistyped word.
+         */
+        public CommandEntry withoutAbbreviation() {
+            return new CommandEntry(commandClass, commandWord, usage, isMutating, parser, aliases, false);
+        }
+
+        public Class<? extends Command> getCommandClass() {
+            return commandClass;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public String getUsage() {
+            return usage;
+        }
+
+        public boolean isMutating() {
+            return isMutating;
+        }
+
+        public boolean isAbbreviable() {
+            return isAbbreviable;
+        }
+
+        public List<String> getAliases() {
+            return aliases;
+        }
+
+        /**
+         * Returns the command word followed by the aliases.
+         */
+        public List<String> getWords() {
+            List<String> words = new ArrayList<>();
+            words.add(commandWord);
+            words.addAll(aliases);
+            return words;
+        }
+
+        /**
+         * Parses {@code arguments}, the user input after the command word, into a command.
+         *
+         * @throws ParseException if {@code arguments} does not conform the expected format
+         */
+        public Command parse(String arguments) throws ParseException {
+            return parser.parse(arguments);
+        }
+    }
+}
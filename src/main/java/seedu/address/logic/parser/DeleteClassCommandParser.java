@@ -12,6 +12,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class DeleteClassCommandParser implements Parser<DeleteClassCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteClassCommand
      * and returns a DeleteClassCommand object for execution.
@@ -20,7 +22,7 @@ public class DeleteClassCommandParser implements Parser<DeleteClassCommand> {
     public DeleteClassCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
 
         if (!argMultimap.getValue(PREFIX_CLASS).isPresent()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteClassCommand.MESSAGE_USAGE));
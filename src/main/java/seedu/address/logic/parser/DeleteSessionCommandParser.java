@@ -14,6 +14,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class DeleteSessionCommandParser implements Parser<DeleteSessionCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_SESSION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteSessionCommand
      * and returns a DeleteSessionCommand object for execution.
@@ -22,7 +24,7 @@ public class DeleteSessionCommandParser implements Parser<DeleteSessionCommand>
      */
     public DeleteSessionCommand parse(String args) throws ParseException {
         String trimmed = args.trim();
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmed, PREFIX_CLASS, PREFIX_SESSION);
+        ArgumentMultimap argMultimap = TOKENIZER.split(trimmed);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS, PREFIX_SESSION)
                 || !argMultimap.getPreamble().isEmpty()) {
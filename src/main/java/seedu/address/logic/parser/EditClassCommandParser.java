@@ -13,6 +13,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class EditClassCommandParser implements Parser<EditClassCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_OLD_CLASS, PREFIX_CLASS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditClassCommand
      * and returns an EditClassCommand object for execution.
@@ -20,7 +22,7 @@ public class EditClassCommandParser implements Parser<EditClassCommand> {
      */
     public EditClassCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OLD_CLASS, PREFIX_CLASS);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
 
         if (!argMultimap.getValue(PREFIX_OLD_CLASS).isPresent()
                 || !argMultimap.getValue(PREFIX_CLASS).isPresent()
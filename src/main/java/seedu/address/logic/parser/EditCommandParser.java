@@ -25,6 +25,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG, PREFIX_PERSON_TYPE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -36,9 +39,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         boolean isForced = args.contains("--force");
         String cleanedArgs = args.replace("--force", "").trim();
 
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(cleanedArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
-                    PREFIX_TAG, PREFIX_PERSON_TYPE);
+        ArgumentMultimap argMultimap = TOKENIZER.split(cleanedArgs);
 
         Index index;
 
@@ -0,0 +1,78 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "%1$s is not a valid file path";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file name must end with .csv or .jsonl";
+    public static final String MESSAGE_INVALID_RANGE = "The from date must not be after the to date";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_FROM, PREFIX_TO);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
+
+        String pathText = argMultimap.getPreamble();
+        if (pathText.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_FROM, PREFIX_TO);
+
+        Path filePath;
+        try {
+            filePath = Paths.get(pathText);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, pathText), e);
+        }
+        Format format = parseFormat(pathText);
+
+        String className = argMultimap.getValue(PREFIX_CLASS).isPresent()
+                ? ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get())
+                : null;
+        LocalDate fromDate = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get())
+                : null;
+        LocalDate toDate = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get())
+                : null;
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        return new ExportCommand(filePath, format, className, fromDate, toDate);
+    }
+
+    private static Format parseFormat(String pathText) throws ParseException {
+        String lowerCasePath = pathText.toLowerCase();
+        if (lowerCasePath.endsWith(".csv")) {
+            return Format.CSV;
+        } else if (lowerCasePath.endsWith(".jsonl")) {
+            return Format.JSON_LINES;
+        }
+        throw new ParseException(MESSAGE_UNKNOWN_FORMAT);
+    }
+
+}
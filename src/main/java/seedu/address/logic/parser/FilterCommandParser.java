@@ -15,11 +15,13 @@ import seedu.address.model.person.PersonType;
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PERSON_TYPE);
+
     @Override
     public FilterCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap map = ArgumentTokenizer.tokenize(args, PREFIX_PERSON_TYPE);
+        ArgumentMultimap map = TOKENIZER.split(args);
 
         map.verifyNoDuplicatePrefixesFor(PREFIX_PERSON_TYPE);
 
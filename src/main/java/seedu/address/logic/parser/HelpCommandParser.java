@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.CommandRegistry.CommandEntry;
+
+/**
+ * Parses input arguments and creates a new HelpCommand object
+ */
+public class HelpCommandParser implements Parser<HelpCommand> {
+
+    private final CommandRegistry registry;
+
+    /**
+     * Creates a HelpCommandParser that looks up command words in {@code registry}.
+     */
+    public HelpCommandParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HelpCommand
+     * and returns a HelpCommand object for execution. A known command word gives a HelpCommand that shows
+     * the usage of that command; anything else gives one that opens the help window.
+     */
+    public HelpCommand parse(String args) {
+        requireNonNull(args);
+        String commandWord = args.trim();
+        if (commandWord.isEmpty()) {
+            return new HelpCommand();
+        }
+
+        Optional<CommandEntry> entry = registry.resolve(commandWord);
+        return entry.map(e -> new HelpCommand(e.getUsage())).orElseGet(HelpCommand::new);
+    }
+
+}
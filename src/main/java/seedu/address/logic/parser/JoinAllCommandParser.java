@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.JoinAllCommand;
+import seedu.address.logic.commands.StudentSelector;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new JoinAllCommand object
+ */
+public class JoinAllCommandParser implements Parser<JoinAllCommand> {
+
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_NAME, PREFIX_TAG);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the JoinAllCommand
+     * and returns a JoinAllCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public JoinAllCommand parse(String args) throws ParseException {
+        ArgumentMultimap map = TOKENIZER.split(args);
+        String className = parseClassName(map, JoinAllCommand.MESSAGE_USAGE);
+        return new JoinAllCommand(className, parseSelector(map, JoinAllCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Returns the class name in {@code map}.
+     *
+     * @throws ParseException with {@code usage} if there is no class name or there is a preamble.
+     */
+    static String parseClassName(ArgumentMultimap map, String usage) throws ParseException {
+        if (map.getValue(PREFIX_CLASS).isEmpty() || !map.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+        map.verifyNoDuplicatePrefixesFor(PREFIX_CLASS);
+
+        String className = map.getValue(PREFIX_CLASS).get().trim();
+        if (className.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+        return className;
+    }
+
+    /**
+     * Returns a {@code StudentSelector} for the names and tags in {@code map}.
+     *
+     * @throws ParseException with {@code usage} if there are neither names nor tags, or if one is invalid.
+     */
+    static StudentSelector parseSelector(ArgumentMultimap map, String usage) throws ParseException {
+        if (map.getAllValues(PREFIX_NAME).isEmpty() && map.getAllValues(PREFIX_TAG).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+
+        Set<Name> names = new LinkedHashSet<>();
+        for (String name : map.getAllValues(PREFIX_NAME)) {
+            names.add(ParserUtil.parseName(name));
+        }
+        return new StudentSelector(names, ParserUtil.parseTags(map.getAllValues(PREFIX_TAG)));
+    }
+}
@@ -14,6 +14,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class JoinClassCommandParser implements Parser<JoinClassCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_NAME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * JoinClassCommand
@@ -23,7 +25,7 @@ public class JoinClassCommandParser implements Parser<JoinClassCommand> {
      */
     public JoinClassCommand parse(String args) throws ParseException {
         String trimmed = args.trim();
-        ArgumentMultimap map = ArgumentTokenizer.tokenize(trimmed, PREFIX_CLASS, PREFIX_NAME);
+        ArgumentMultimap map = TOKENIZER.split(trimmed);
 
         if (!arePrefixesPresent(map, PREFIX_CLASS, PREFIX_NAME) || !map.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, JoinClassCommand.MESSAGE_USAGE));
@@ -14,6 +14,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class LinkCommandParser implements Parser<LinkCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PARENT, PREFIX_CHILD);
+
     /**
      * Parses the given {@code String} of arguments in the context of the LinkCommand
      * and returns a LinkCommand object for execution.
@@ -22,7 +24,7 @@ public class LinkCommandParser implements Parser<LinkCommand> {
      */
     public LinkCommand parse(String args) throws ParseException {
         String trimmed = args.trim();
-        ArgumentMultimap map = ArgumentTokenizer.tokenize(trimmed, PREFIX_PARENT, PREFIX_CHILD);
+        ArgumentMultimap map = TOKENIZER.split(trimmed);
 
         if (!arePrefixesPresent(map, PREFIX_PARENT, PREFIX_CHILD) || !map.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LinkCommand.MESSAGE_USAGE));
@@ -16,13 +16,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class ListChildrenCommandParser implements Parser<ListChildrenCommand> {
 
     private static final Logger logger = LogsCenter.getLogger(ListChildrenCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME);
 
     @Override
     public ListChildrenCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        logger.fine("Parsing ListChildrenCommand with args: " + args);
+        logger.fine(() -> "Parsing ListChildrenCommand with args: " + args);
 
-        ArgumentMultimap map = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap map = TOKENIZER.split(args);
 
         if (!map.getValue(PREFIX_NAME).isPresent()) {
             throw new ParseException(
@@ -12,11 +12,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ListParentsCommandParser implements Parser<ListParentsCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME);
+
     @Override
     public ListParentsCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap map = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap map = TOKENIZER.split(args);
 
         if (!map.getValue(PREFIX_NAME).isPresent()) {
             throw new ParseException(
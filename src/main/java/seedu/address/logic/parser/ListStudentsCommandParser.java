@@ -14,6 +14,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ListStudentsCommandParser implements Parser<ListStudentsCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListStudentsCommand
      * and returns a ListStudentsCommand object for execution.
@@ -24,8 +26,7 @@ public class ListStudentsCommandParser implements Parser<ListStudentsCommand> {
      *         contains duplicate prefixes, or has an empty class name
      */
     public ListStudentsCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_CLASS);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS)
                 || !argMultimap.getPreamble().isEmpty()) {
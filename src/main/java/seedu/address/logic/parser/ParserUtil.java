@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_ATTENDANCE_STATUS;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -160,7 +161,6 @@ public class ParserUtil {
     public static String parseClassName(String className) throws ParseException {
         requireNonNull(className);
         String trimmed = className.trim();
-        System.out.println(trimmed);
         if (trimmed.isEmpty()) {
             throw new ParseException(ClassName.MESSAGE_CONSTRAINTS);
         }
@@ -174,7 +174,6 @@ public class ParserUtil {
     public static String parseTutorName(String tutorName) throws ParseException {
         requireNonNull(tutorName);
         String trimmed = tutorName.trim();
-        System.out.println(trimmed);
         if (trimmed.isEmpty()) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
@@ -202,6 +201,26 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String date} into a {@code LocalDate}.
+     * Expected format: yyyy-MM-dd
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmed = date.trim();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+                .withResolverStyle(java.time.format.ResolverStyle.STRICT);
+        try {
+            return LocalDate.parse(trimmed, formatter);
+        } catch (DateTimeParseException e) {
+            throw new ParseException("Invalid date. Please check if the date exists "
+                    + "(e.g., Feb 29 only in leap years, no April 31). Format: yyyy-MM-dd");
+        }
+    }
+
     /**
      * Parses a {@code String sessionName} into a session name string.
      * Leading and trailing whitespaces will be trimmed.
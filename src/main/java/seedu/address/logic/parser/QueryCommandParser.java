@@ -0,0 +1,184 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.query.AndQuery;
+import seedu.address.logic.query.ChildrenOfQuery;
+import seedu.address.logic.query.ClassQuery;
+import seedu.address.logic.query.NameQuery;
+import seedu.address.logic.query.NotQuery;
+import seedu.address.logic.query.OrQuery;
+import seedu.address.logic.query.ParentsOfQuery;
+import seedu.address.logic.query.Query;
+import seedu.address.logic.query.RoleQuery;
+import seedu.address.logic.query.TagQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * <p>
+ * The arguments follow this grammar, where NOT binds tighter than AND, and AND tighter than OR:
+ * <pre>
+ * query   := andTerm ("OR" andTerm)*
+ * andTerm := unary (["AND"] unary)*
+ * unary   := "NOT" unary | "(" query ")" | PREFIX VALUE
+ * </pre>
+ * A value runs until the next operator, parenthesis or prefix, so it may contain spaces.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Every ( in a query needs a matching )";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final List<Prefix> TERM_PREFIXES = List.of(PREFIX_PERSON_TYPE, PREFIX_TAG, PREFIX_CLASS,
+            PREFIX_PARENT, PREFIX_CHILD, PREFIX_NAME);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        TokenStream tokens = new TokenStream(args.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " "));
+        if (!tokens.hasNext()) {
+            throw invalidFormat();
+        }
+
+        Query query = parseOr(tokens);
+        if (tokens.hasNext()) {
+            throw tokens.peek().equals(CLOSE) ? new ParseException(MESSAGE_UNBALANCED_PARENTHESES) : invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private static Query parseOr(TokenStream tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd(tokens));
+        while (tokens.accept(OR)) {
+            operands.add(parseAnd(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private static Query parseAnd(TokenStream tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseUnary(tokens));
+        while (tokens.hasNext() && !tokens.peek().equals(OR) && !tokens.peek().equals(CLOSE)) {
+            tokens.accept(AND);
+            operands.add(parseUnary(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private static Query parseUnary(TokenStream tokens) throws ParseException {
+        if (!tokens.hasNext()) {
+            throw invalidFormat();
+        }
+        if (tokens.accept(NOT)) {
+            return new NotQuery(parseUnary(tokens));
+        }
+        if (tokens.accept(OPEN)) {
+            Query query = parseOr(tokens);
+            if (!tokens.accept(CLOSE)) {
+                throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            return query;
+        }
+        return parseTerm(tokens);
+    }
+
+    private static Query parseTerm(TokenStream tokens) throws ParseException {
+        String first = tokens.next();
+        Prefix prefix = findPrefix(first).orElseThrow(QueryCommandParser::invalidFormat);
+        StringBuilder value = new StringBuilder(first.substring(prefix.getPrefix().length()));
+        while (tokens.hasNext() && !isOperator(tokens.peek()) && findPrefix(tokens.peek()).isEmpty()) {
+            value.append(' ').append(tokens.next());
+        }
+        String trimmedValue = value.toString().trim();
+
+        if (prefix.equals(PREFIX_PERSON_TYPE)) {
+            return new RoleQuery(ParserUtil.parsePersonType(trimmedValue));
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagQuery(ParserUtil.parseTag(trimmedValue));
+        } else if (prefix.equals(PREFIX_CLASS)) {
+            return new ClassQuery(ParserUtil.parseClassName(trimmedValue));
+        } else if (prefix.equals(PREFIX_PARENT)) {
+            return new ChildrenOfQuery(ParserUtil.parseName(trimmedValue));
+        } else if (prefix.equals(PREFIX_CHILD)) {
+            return new ParentsOfQuery(ParserUtil.parseName(trimmedValue));
+        } else {
+            if (trimmedValue.isEmpty()) {
+                throw invalidFormat();
+            }
+            return new NameQuery(Arrays.asList(trimmedValue.split("\\s+")));
+        }
+    }
+
+    private static Optional<Prefix> findPrefix(String token) {
+        return TERM_PREFIXES.stream().filter(prefix -> token.startsWith(prefix.getPrefix())).findFirst();
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT) || token.equals(OPEN)
+                || token.equals(CLOSE);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The whitespace-separated words of a query, read from left to right.
+     */
+    private static class TokenStream {
+        private final List<String> tokens;
+        private int position;
+
+        TokenStream(String text) {
+            String trimmed = text.trim();
+            tokens = trimmed.isEmpty() ? List.of() : Arrays.asList(trimmed.split("\\s+"));
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+
+        /**
+         * Consumes the next token if it is {@code expected}, and returns whether it did.
+         */
+        boolean accept(String expected) {
+            if (hasNext() && peek().equals(expected)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.Mode;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "%1$s is not a valid file path";
+    public static final String MESSAGE_UNKNOWN_MODE = "Mode must be " + Mode.STOP.getKeyword() + ", "
+            + Mode.CONTINUE.getKeyword() + " or " + Mode.ATOMIC.getKeyword();
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MODE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
+
+        String pathText = argMultimap.getPreamble();
+        if (pathText.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODE);
+
+        Path filePath;
+        try {
+            filePath = Paths.get(pathText);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, pathText), e);
+        }
+        return new RunCommand(filePath, parseMode(argMultimap.getValue(PREFIX_MODE)));
+    }
+
+    private static Mode parseMode(Optional<String> modeText) throws ParseException {
+        if (modeText.isEmpty()) {
+            return Mode.STOP;
+        }
+        String trimmedMode = modeText.get().trim().toLowerCase();
+        for (Mode mode : Mode.values()) {
+            if (mode.getKeyword().equals(trimmedMode)) {
+                return mode;
+            }
+        }
+        throw new ParseException(MESSAGE_UNKNOWN_MODE);
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SwitchCommand object
+ */
+public class SwitchCommandParser implements Parser<SwitchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchCommand
+     * and returns a SwitchCommand object for execution.
+     * Address book names are case-insensitive and are stored in lower case.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SwitchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+        }
+        if (!SwitchCommand.isValidName(trimmedArgs)) {
+            throw new ParseException(SwitchCommand.MESSAGE_CONSTRAINTS);
+        }
+        return new SwitchCommand(trimmedArgs.toLowerCase());
+    }
+
+}
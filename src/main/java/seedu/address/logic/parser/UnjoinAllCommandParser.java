@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.UnjoinAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnjoinAllCommand object
+ */
+public class UnjoinAllCommandParser implements Parser<UnjoinAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnjoinAllCommand
+     * and returns an UnjoinAllCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnjoinAllCommand parse(String args) throws ParseException {
+        ArgumentMultimap map = JoinAllCommandParser.TOKENIZER.split(args);
+        String className = JoinAllCommandParser.parseClassName(map, UnjoinAllCommand.MESSAGE_USAGE);
+        return new UnjoinAllCommand(className,
+                JoinAllCommandParser.parseSelector(map, UnjoinAllCommand.MESSAGE_USAGE));
+    }
+}
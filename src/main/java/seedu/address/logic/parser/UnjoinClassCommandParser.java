@@ -18,6 +18,7 @@ import seedu.address.model.classroom.ClassName;
 public class UnjoinClassCommandParser implements Parser<UnjoinClassCommand> {
 
     private static final Logger logger = LogsCenter.getLogger(UnjoinClassCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_CLASS);
 
     /**
      * Parses the given {@code String} of arguments in the context of the UnjoinClassCommand
@@ -27,9 +28,9 @@ public class UnjoinClassCommandParser implements Parser<UnjoinClassCommand> {
     @Override
     public UnjoinClassCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        logger.fine("Parsing UnjoinClassCommand with args: " + args);
+        logger.fine(() -> "Parsing UnjoinClassCommand with args: " + args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_CLASS);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
 
         if (!argMultimap.getValue(PREFIX_NAME).isPresent()
                 || !argMultimap.getValue(PREFIX_CLASS).isPresent()
@@ -56,7 +57,7 @@ public class UnjoinClassCommandParser implements Parser<UnjoinClassCommand> {
 
         String parsedClassName = ParserUtil.parseClassName(classNameValue);
         ClassName className = new ClassName(parsedClassName);
-        logger.info("Parsed UnjoinClassCommand for person: " + personName + " and class: " + className);
+        logger.info(() -> "Parsed UnjoinClassCommand for person: " + personName + " and class: " + className);
 
         return new UnjoinClassCommand(personName, className);
     }
@@ -15,6 +15,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ViewSessionCommandParser implements Parser<ViewSessionCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLASS, PREFIX_SESSION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ViewSessionCommand
      * and returns a ViewSessionCommand object for execution.
@@ -26,7 +28,7 @@ public class ViewSessionCommandParser implements Parser<ViewSessionCommand> {
         requireNonNull(args);
 
         String trimmed = args.trim();
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmed, PREFIX_CLASS, PREFIX_SESSION);
+        ArgumentMultimap argMultimap = TOKENIZER.split(trimmed);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS, PREFIX_SESSION)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -0,0 +1,111 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons that all of some queries match.
+ */
+public class AndQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates an AndQuery matching the persons that every one of {@code operands} matches.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(Model model) throws CommandException {
+        Predicate<Person> predicate = person -> true;
+        for (Query operand : operands) {
+            predicate = predicate.and(operand.toPredicate(model));
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the smallest index scan of any operand, since every match of this query is also one of its matches.
+     */
+    @Override
+    public Optional<IndexScan> getIndexScan(Model model) throws CommandException {
+        int mostSelective = findMostSelectiveOperand(model);
+        if (mostSelective < 0) {
+            return Optional.empty();
+        }
+        return operands.get(mostSelective).getIndexScan(model).map(IndexScan::asInexact);
+    }
+
+    /**
+     * Starts from the smallest index scan of any operand and tests its persons against the other operands only.
+     */
+    @Override
+    public QueryPlan plan(Model model) throws CommandException {
+        int mostSelective = findMostSelectiveOperand(model);
+        if (mostSelective < 0) {
+            return new QueryPlan(null, operands);
+        }
+
+        QueryPlan operandPlan = operands.get(mostSelective).plan(model);
+        List<Query> remainingQueries = new ArrayList<>(operandPlan.getRemainingQueries());
+        for (int i = 0; i < operands.size(); i++) {
+            if (i != mostSelective) {
+                remainingQueries.add(operands.get(i));
+            }
+        }
+        return new QueryPlan(operandPlan.getIndexScan().orElse(null), remainingQueries);
+    }
+
+    /**
+     * Returns the position of the operand with the smallest index scan, or -1 if no operand has one.
+     */
+    private int findMostSelectiveOperand(Model model) throws CommandException {
+        int mostSelective = -1;
+        int smallestSize = Integer.MAX_VALUE;
+        for (int i = 0; i < operands.size(); i++) {
+            Optional<IndexScan> indexScan = operands.get(i).getIndexScan(model);
+            if (indexScan.isPresent() && indexScan.get().size() < smallestSize) {
+                mostSelective = i;
+                smallestSize = indexScan.get().size();
+            }
+        }
+        return mostSelective;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        return operands.equals(((AndQuery) other).operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
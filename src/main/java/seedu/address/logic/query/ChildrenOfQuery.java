@@ -0,0 +1,65 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.StudentSelector;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the children linked to a parent.
+ */
+public class ChildrenOfQuery extends IndexedQuery {
+
+    private final Name parentName;
+
+    /**
+     * Creates a ChildrenOfQuery matching the children of the person called {@code parentName}.
+     */
+    public ChildrenOfQuery(Name parentName) {
+        this.parentName = requireNonNull(parentName);
+    }
+
+    @Override
+    protected Set<Person> lookUp(Model model) throws CommandException {
+        Person parent = model.getPersonIndex().getPerson(parentName).orElseThrow(() ->
+                new CommandException(String.format(StudentSelector.MESSAGE_PERSONS_NOT_FOUND, parentName)));
+        return parent instanceof Parent ? new HashSet<>(((Parent) parent).getChildren()) : Set.of();
+    }
+
+    @Override
+    protected String getIndexDescription() {
+        return "children of " + parentName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChildrenOfQuery)) {
+            return false;
+        }
+
+        return parentName.equals(((ChildrenOfQuery) other).parentName);
+    }
+
+    @Override
+    public int hashCode() {
+        return parentName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX_PARENT + parentName.fullName;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the students and the tutor of a class.
+ */
+public class ClassQuery extends IndexedQuery {
+
+    public static final String MESSAGE_CLASS_NOT_FOUND = "Class not found: %s";
+
+    private final String className;
+
+    /**
+     * Creates a ClassQuery matching the members of the class called {@code className}, ignoring case.
+     */
+    public ClassQuery(String className) {
+        this.className = requireNonNull(className);
+    }
+
+    @Override
+    protected Set<Person> lookUp(Model model) throws CommandException {
+        TuitionClass tuitionClass = model.getClassByName(className);
+        if (tuitionClass == null) {
+            throw new CommandException(String.format(MESSAGE_CLASS_NOT_FOUND, className));
+        }
+        Set<Person> members = new HashSet<>(tuitionClass.getStudents());
+        if (tuitionClass.isAssignedToTutor()) {
+            members.add(tuitionClass.getTutor());
+        }
+        return members;
+    }
+
+    @Override
+    protected String getIndexDescription() {
+        return "class roster " + this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClassQuery)) {
+            return false;
+        }
+
+        return className.equalsIgnoreCase(((ClassQuery) other).className);
+    }
+
+    @Override
+    public int hashCode() {
+        return className.toLowerCase().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX_CLASS + className;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The persons found in an index for a query, which include every person matching it.
+ * The scan is exact if its persons are precisely the matches, so that none of them needs to be tested.
+ */
+public class IndexScan {
+
+    private final String description;
+    private final Collection<Person> persons;
+    private final boolean isExact;
+
+    /**
+     * Creates a scan of {@code persons}, described as {@code description} in query plans.
+     */
+    public IndexScan(String description, Collection<Person> persons, boolean isExact) {
+        requireAllNonNull(description, persons);
+        this.description = description;
+        this.persons = Collections.unmodifiableCollection(persons);
+        this.isExact = isExact;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Collection<Person> getPersons() {
+        return persons;
+    }
+
+    public int size() {
+        return persons.size();
+    }
+
+    public boolean isExact() {
+        return isExact;
+    }
+
+    /**
+     * Returns a scan of the same persons that is no longer exact, for when they only narrow down a larger query.
+     */
+    public IndexScan asInexact() {
+        return new IndexScan(description, persons, false);
+    }
+
+    @Override
+    public String toString() {
+        return description + " (" + persons.size() + " persons)";
+    }
+}
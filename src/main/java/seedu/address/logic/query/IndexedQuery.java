@@ -0,0 +1,37 @@
+package seedu.address.logic.query;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * A query term whose matches can be looked up directly, such as the persons with a tag or the students of a class.
+ */
+public abstract class IndexedQuery extends Query {
+
+    /**
+     * Returns exactly the persons matching this term.
+     *
+     * @throws CommandException if a class or person named in this term does not exist.
+     */
+    protected abstract Set<Person> lookUp(Model model) throws CommandException;
+
+    /**
+     * Returns a description of the index that {@link #lookUp(Model)} uses.
+     */
+    protected abstract String getIndexDescription();
+
+    @Override
+    public Predicate<Person> toPredicate(Model model) throws CommandException {
+        return lookUp(model)::contains;
+    }
+
+    @Override
+    public Optional<IndexScan> getIndexScan(Model model) throws CommandException {
+        return Optional.of(new IndexScan(getIndexDescription(), lookUp(model), true));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons whose name contains any of some keywords, like the find command.
+ * No index covers it, so it is only tested on the persons found by the other terms of a query.
+ */
+public class NameQuery extends Query {
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a NameQuery matching the persons whose name contains any of {@code keywords} as a whole word.
+     */
+    public NameQuery(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = Collections.unmodifiableList(new ArrayList<>(keywords));
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(Model model) {
+        return new NameContainsKeywordsPredicate(keywords);
+    }
+
+    @Override
+    public Optional<IndexScan> getIndexScan(Model model) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameQuery)) {
+            return false;
+        }
+
+        return keywords.equals(((NameQuery) other).keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX_NAME + String.join(" ", keywords);
+    }
+}
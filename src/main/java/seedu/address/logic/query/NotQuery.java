@@ -0,0 +1,60 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons that another query does not match.
+ */
+public class NotQuery extends Query {
+
+    private final Query negated;
+
+    /**
+     * Creates a NotQuery matching the persons that {@code negated} does not match.
+     */
+    public NotQuery(Query negated) {
+        this.negated = requireNonNull(negated);
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(Model model) throws CommandException {
+        return negated.toPredicate(model).negate();
+    }
+
+    @Override
+    public Optional<IndexScan> getIndexScan(Model model) {
+        // The indexes only list the persons that have something, not those that lack it
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        return negated.equals(((NotQuery) other).negated);
+    }
+
+    @Override
+    public int hashCode() {
+        return negated.hashCode() ^ 1;
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + negated;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons that any of some queries match.
+ */
+public class OrQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates an OrQuery matching the persons that at least one of {@code operands} matches.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(Model model) throws CommandException {
+        Predicate<Person> predicate = person -> false;
+        for (Query operand : operands) {
+            predicate = predicate.or(operand.toPredicate(model));
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the union of the index scans of the operands, if every operand has one.
+     * The union is exact if every one of those scans is.
+     */
+    @Override
+    public Optional<IndexScan> getIndexScan(Model model) throws CommandException {
+        Set<Person> union = new HashSet<>();
+        List<String> descriptions = new ArrayList<>();
+        boolean isExact = true;
+        for (Query operand : operands) {
+            Optional<IndexScan> indexScan = operand.getIndexScan(model);
+            if (indexScan.isEmpty()) {
+                return Optional.empty();
+            }
+            union.addAll(indexScan.get().getPersons());
+            descriptions.add(indexScan.get().getDescription());
+            isExact &= indexScan.get().isExact();
+        }
+        return Optional.of(new IndexScan("union of " + String.join(", ", descriptions), union, isExact));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        return operands.equals(((OrQuery) other).operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
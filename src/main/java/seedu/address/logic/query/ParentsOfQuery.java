@@ -0,0 +1,65 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILD;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.StudentSelector;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * Matches the parents linked to a child.
+ */
+public class ParentsOfQuery extends IndexedQuery {
+
+    private final Name childName;
+
+    /**
+     * Creates a ParentsOfQuery matching the parents of the person called {@code childName}.
+     */
+    public ParentsOfQuery(Name childName) {
+        this.childName = requireNonNull(childName);
+    }
+
+    @Override
+    protected Set<Person> lookUp(Model model) throws CommandException {
+        Person child = model.getPersonIndex().getPerson(childName).orElseThrow(() ->
+                new CommandException(String.format(StudentSelector.MESSAGE_PERSONS_NOT_FOUND, childName)));
+        return child instanceof Student ? new HashSet<>(((Student) child).getParents()) : Set.of();
+    }
+
+    @Override
+    protected String getIndexDescription() {
+        return "parents of " + childName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ParentsOfQuery)) {
+            return false;
+        }
+
+        return childName.equals(((ParentsOfQuery) other).childName);
+    }
+
+    @Override
+    public int hashCode() {
+        return childName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX_CHILD + childName.fullName;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on persons, built from terms such as a role, a tag or a class, combined with AND, OR and NOT.
+ * <p>
+ * A query can be checked in two ways: {@link #toPredicate(Model)} tests one person at a time, while
+ * {@link #getIndexScan(Model)} looks up a set of persons that contains every match in one of the model's indexes.
+ * {@link #plan(Model)} combines the two so that only the persons from the most selective index are tested.
+ */
+public abstract class Query {
+
+    /**
+     * Returns a predicate that tests whether a person matches this query.
+     *
+     * @throws CommandException if a class or person named in this query does not exist.
+     */
+    public abstract Predicate<Person> toPredicate(Model model) throws CommandException;
+
+    /**
+     * Returns the persons, looked up in one of the model's indexes, that include every person matching this query,
+     * or an empty {@code Optional} if the matches can only be found by testing every person.
+     *
+     * @throws CommandException if a class or person named in this query does not exist.
+     */
+    public abstract Optional<IndexScan> getIndexScan(Model model) throws CommandException;
+
+    /**
+     * Returns the cheapest known way to find the persons matching this query.
+     *
+     * @throws CommandException if a class or person named in this query does not exist.
+     */
+    public QueryPlan plan(Model model) throws CommandException {
+        Optional<IndexScan> indexScan = getIndexScan(model);
+        if (indexScan.isEmpty()) {
+            return new QueryPlan(null, List.of(this));
+        }
+        return new QueryPlan(indexScan.get(), indexScan.get().isExact() ? List.of() : List.of(this));
+    }
+}
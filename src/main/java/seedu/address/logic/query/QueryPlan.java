@@ -0,0 +1,81 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * How the persons matching a query are found: the persons to start from, which are those of an index scan
+ * or otherwise every person, and the queries that each of them must still satisfy.
+ */
+public class QueryPlan {
+
+    private final IndexScan indexScan;
+    private final List<Query> remainingQueries;
+
+    /**
+     * Creates a plan that tests the persons of {@code indexScan}, or every person if it is null,
+     * against each of {@code remainingQueries}.
+     */
+    public QueryPlan(IndexScan indexScan, List<Query> remainingQueries) {
+        requireNonNull(remainingQueries);
+        this.indexScan = indexScan;
+        this.remainingQueries = Collections.unmodifiableList(new ArrayList<>(remainingQueries));
+    }
+
+    /**
+     * Returns the index scan the plan starts from, or an empty {@code Optional} if it goes through every person.
+     */
+    public Optional<IndexScan> getIndexScan() {
+        return Optional.ofNullable(indexScan);
+    }
+
+    public List<Query> getRemainingQueries() {
+        return remainingQueries;
+    }
+
+    /**
+     * Returns the persons in {@code model} that the plan finds.
+     *
+     * @throws CommandException if a class or person named in the remaining queries does not exist.
+     */
+    public Set<Person> execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Predicate<Person> predicate = person -> true;
+        for (Query query : remainingQueries) {
+            predicate = predicate.and(query.toPredicate(model));
+        }
+
+        Collection<Person> candidates = indexScan == null ? model.getPersonList() : indexScan.getPersons();
+        Set<Person> matches = new HashSet<>();
+        for (Person candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        String start = indexScan == null ? "all persons" : indexScan.toString();
+        if (remainingQueries.isEmpty()) {
+            return start;
+        }
+        return start + " filtered by " + remainingQueries.stream()
+                .map(Query::toString)
+                .collect(Collectors.joining(" AND "));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_TYPE;
+
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+
+/**
+ * Matches the persons with a role.
+ */
+public class RoleQuery extends IndexedQuery {
+
+    private final PersonType role;
+
+    /**
+     * Creates a RoleQuery matching the persons whose role is {@code role}.
+     */
+    public RoleQuery(PersonType role) {
+        this.role = requireNonNull(role);
+    }
+
+    @Override
+    protected Set<Person> lookUp(Model model) {
+        return model.getPersonIndex().getPersonsOfType(role);
+    }
+
+    @Override
+    protected String getIndexDescription() {
+        return "role index " + this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RoleQuery)) {
+            return false;
+        }
+
+        return role == ((RoleQuery) other).role;
+    }
+
+    @Override
+    public int hashCode() {
+        return role.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX_PERSON_TYPE + role.name().toLowerCase();
+    }
+}
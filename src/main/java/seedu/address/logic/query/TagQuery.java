@@ -0,0 +1,59 @@
+package seedu.address.logic.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Matches the persons with a tag.
+ */
+public class TagQuery extends IndexedQuery {
+
+    private final Tag tag;
+
+    /**
+     * Creates a TagQuery matching the persons tagged with {@code tag}.
+     */
+    public TagQuery(Tag tag) {
+        this.tag = requireNonNull(tag);
+    }
+
+    @Override
+    protected Set<Person> lookUp(Model model) {
+        return model.getPersonIndex().getPersonsWithTag(tag);
+    }
+
+    @Override
+    protected String getIndexDescription() {
+        return "tag index " + this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagQuery)) {
+            return false;
+        }
+
+        return tag.equals(((TagQuery) other).tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX_TAG + tag.tagName;
+    }
+}
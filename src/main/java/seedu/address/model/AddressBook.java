@@ -10,6 +10,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.classroom.TuitionClass;
 import seedu.address.model.classroom.UniqueClassList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.UniquePersonList;
 
@@ -89,6 +90,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all {@code persons} to the address book at once.
+     * <p>
+     * None of the persons may already exist in the address book or appear twice in {@code persons}.
+     *
+     * @param persons Persons to add.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * <p>
@@ -231,6 +243,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return classes.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the index of the persons in this address book by role, tag and name.
+     */
+    public PersonIndex getPersonIndex() {
+        return persons.getIndex();
+    }
+
     // =============================================================
     // Utility overrides
     // =============================================================
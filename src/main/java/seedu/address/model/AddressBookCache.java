@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+
+/**
+ * Keeps inactive address books in memory so that switching back to them does not read their file again.
+ * <p>
+ * The size of an address book is estimated as the number of records it holds (persons, classes, sessions
+ * and attendance entries). Whenever the active address book and the cached ones together exceed the budget,
+ * the least recently used cached address books are evicted. Evicting is safe because every address book is
+ * saved after each command, so an evicted address book is simply read from its file the next time it is used.
+ */
+public class AddressBookCache {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookCache.class);
+
+    private final long budget;
+
+    /** Cached address books by name, from least to most recently used. */
+    private final LinkedHashMap<String, ReadOnlyAddressBook> addressBooks = new LinkedHashMap<>();
+    private final Map<String, Long> sizes = new LinkedHashMap<>();
+    private long cachedSize;
+
+    /**
+     * Creates an empty cache that keeps at most {@code budget} records in memory, counting the active address book.
+     */
+    public AddressBookCache(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Removes and returns the address book called {@code name}, if it is cached.
+     */
+    public Optional<ReadOnlyAddressBook> take(String name) {
+        requireNonNull(name);
+        ReadOnlyAddressBook addressBook = addressBooks.remove(name);
+        if (addressBook != null) {
+            cachedSize -= sizes.remove(name);
+        }
+        return Optional.ofNullable(addressBook);
+    }
+
+    /**
+     * Caches the inactive {@code addressBook} called {@code name} as the most recently used one, then evicts
+     * address books until the cache and an active address book of {@code activeSize} records fit the budget.
+     */
+    public void put(String name, ReadOnlyAddressBook addressBook, long activeSize) {
+        requireAllNonNull(name, addressBook);
+        take(name);
+        long size = estimateSize(addressBook);
+        addressBooks.put(name, addressBook);
+        sizes.put(name, size);
+        cachedSize += size;
+
+        Iterator<Map.Entry<String, ReadOnlyAddressBook>> iterator = addressBooks.entrySet().iterator();
+        while (activeSize + cachedSize > budget && iterator.hasNext()) {
+            String evictedName = iterator.next().getKey();
+            iterator.remove();
+            cachedSize -= sizes.remove(evictedName);
+            logger.info(() -> "Evicted address book " + evictedName + " from memory");
+        }
+    }
+
+    /**
+     * Returns the names of the cached address books, from least to most recently used.
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(addressBooks.keySet());
+    }
+
+    /**
+     * Returns the total estimated size of the cached address books.
+     */
+    public long getCachedSize() {
+        return cachedSize;
+    }
+
+    /**
+     * Returns the number of persons, classes, sessions and attendance entries in {@code addressBook}.
+     */
+    public static long estimateSize(ReadOnlyAddressBook addressBook) {
+        long size = addressBook.getPersonList().size();
+        for (TuitionClass tuitionClass : addressBook.getClassList()) {
+            size++;
+            for (ClassSession session : tuitionClass.getAllSessions()) {
+                size += 1 + session.getAttendanceRecord().size();
+            }
+        }
+        return size;
+    }
+
+}
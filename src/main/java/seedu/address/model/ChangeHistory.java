@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The changes made to an address book that can be undone, and the undone changes that can be redone.
+ * <p>
+ * Each step is the {@link ChangeLog} of one command, so a step takes memory in proportion to what that command
+ * changed rather than to the size of the address book. Only the latest steps are kept, up to a maximum depth.
+ */
+public class ChangeHistory {
+
+    private final Deque<ChangeLog> undoSteps = new ArrayDeque<>();
+    private final Deque<ChangeLog> redoSteps = new ArrayDeque<>();
+    private int depth;
+
+    /**
+     * Creates an empty history that keeps at most {@code depth} steps to undo.
+     */
+    public ChangeHistory(int depth) {
+        setDepth(depth);
+    }
+
+    /**
+     * Sets the number of steps that can be undone, forgetting the earliest steps beyond it.
+     */
+    public void setDepth(int depth) {
+        this.depth = Math.max(0, depth);
+        trim();
+    }
+
+    /**
+     * Adds {@code changes} as the latest step to undo, and forgets the steps that were undone before.
+     * Does nothing if {@code changes} is empty.
+     */
+    public void add(ChangeLog changes) {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        changes.stop();
+        undoSteps.push(changes);
+        redoSteps.clear();
+        trim();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the latest step, which can then be redone.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is nothing to undo");
+        }
+        redoSteps.push(revert(undoSteps.pop()));
+    }
+
+    /**
+     * Redoes the latest undone step, which can then be undone again.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is nothing to redo");
+        }
+        undoSteps.push(revert(redoSteps.pop()));
+        trim();
+    }
+
+    /**
+     * Forgets every step, e.g. when the changes they refer to no longer apply.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+    }
+
+    /**
+     * Reverts {@code step}, and returns the log of that reversal, which reverts it in turn.
+     */
+    private static ChangeLog revert(ChangeLog step) {
+        ChangeLog reversal = step.getRecorder().start();
+        try {
+            step.revert();
+        } finally {
+            reversal.stop();
+        }
+        return reversal;
+    }
+
+    private void trim() {
+        while (undoSteps.size() > depth) {
+            undoSteps.removeLast();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Records how to reverse the changes made to the objects of an address book, so that they can be rolled back.
+ * <p>
+ * Persons, classes and sessions are changed in place, so instead of copying the address book before a change,
+ * each method that changes one of them records the inverse of its change here, while a log is active.
+ * A log therefore takes memory in proportion to what was changed while it was active.
+ * <p>
+ * Logs are started through the {@link Recorder} of a model, and several logs of one model can be active at once,
+ * for example one for a transaction and one for the command running in it; every change is recorded in each of
+ * them. While a log is active, its recorder is bound to the thread that started it, and the changes made on that
+ * thread are recorded in the logs of that recorder only, so the logs of other models never see them.
+ */
+public class ChangeLog {
+
+    /** The recorder whose logs the changes made on each thread are recorded in, if any of its logs is active. */
+    private static final ThreadLocal<Recorder> boundRecorder = new ThreadLocal<>();
+
+    private final Recorder recorder;
+    private final Deque<Runnable> inverses = new ArrayDeque<>();
+
+    private ChangeLog(Recorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Starts the logs of one model, and keeps track of which of them are active.
+     * Its logs must be started, changed and stopped on one thread at a time.
+     */
+    public static class Recorder {
+
+        /** The logs that changes are currently recorded in, from the earliest started. */
+        private final List<ChangeLog> activeLogs = new ArrayList<>();
+
+        /**
+         * Creates a log and records the changes made on this thread from now on in it, until it is stopped.
+         *
+         * @throws IllegalStateException if a log of another recorder is active on this thread.
+         */
+        public ChangeLog start() {
+            Recorder bound = boundRecorder.get();
+            if (bound != null && bound != this) {
+                throw new IllegalStateException("The changes of another model are being recorded on this thread");
+            }
+            ChangeLog log = new ChangeLog(this);
+            activeLogs.add(log);
+            boundRecorder.set(this);
+            return log;
+        }
+
+        /**
+         * Returns true if any log of this recorder is active.
+         */
+        public boolean isRecording() {
+            return !activeLogs.isEmpty();
+        }
+    }
+
+    /**
+     * Returns the recorder that started this log, from which logs that belong with it are started.
+     */
+    Recorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Stops recording changes in this log. Does nothing if it is already stopped.
+     */
+    public void stop() {
+        recorder.activeLogs.remove(this);
+        if (recorder.activeLogs.isEmpty() && boundRecorder.get() == recorder) {
+            boundRecorder.remove();
+        }
+    }
+
+    /**
+     * Returns true if changes are being recorded in this log.
+     */
+    public boolean isActive() {
+        return recorder.activeLogs.contains(this);
+    }
+
+    /**
+     * Stops this log and reverses the changes recorded in it, latest first, leaving it empty.
+     * The reversing changes are themselves recorded in the logs that are still active.
+     */
+    public void revert() {
+        stop();
+        while (!inverses.isEmpty()) {
+            inverses.pop().run();
+        }
+    }
+
+    /**
+     * Returns the number of changes recorded in this log.
+     */
+    public int size() {
+        return inverses.size();
+    }
+
+    public boolean isEmpty() {
+        return inverses.isEmpty();
+    }
+
+    /**
+     * Records {@code inverse}, which reverses a change that has just been made on this thread, in every active
+     * log of the recorder bound to this thread.
+     */
+    public static void record(Runnable inverse) {
+        requireNonNull(inverse);
+        Recorder recorder = boundRecorder.get();
+        if (recorder == null) {
+            return;
+        }
+        for (ChangeLog log : recorder.activeLogs) {
+            log.inverses.push(inverse);
+        }
+    }
+
+    /**
+     * Returns true if the changes made on this thread are being recorded in any log, so that callers can skip
+     * preparing an inverse that would not be recorded.
+     */
+    public static boolean isRecording() {
+        return boundRecorder.get() != null;
+    }
+
+    // =============================================================
+    // Changes that record their own inverses
+    //
+    // Each inverse is itself one of these changes, so that reverting a log is recorded in the logs that are
+    // still active, and an inverse only ever restores values, never recomputes them from other state.
+    // =============================================================
+
+    /**
+     * Appends {@code element} to {@code list}.
+     */
+    public static <T> void add(List<T> list, T element) {
+        insert(list, list.size(), element);
+    }
+
+    /**
+     * Inserts {@code element} into {@code list} at {@code index}.
+     */
+    public static <T> void insert(List<T> list, int index, T element) {
+        list.add(index, element);
+        record(() -> removeAt(list, index));
+    }
+
+    /**
+     * Appends {@code elements} to {@code list}.
+     */
+    public static <T> void addAll(List<T> list, Collection<? extends T> elements) {
+        insertAll(list, list.size(), elements);
+    }
+
+    /**
+     * Inserts {@code elements} into {@code list}, starting at {@code index}.
+     */
+    public static <T> void insertAll(List<T> list, int index, Collection<? extends T> elements) {
+        int size = elements.size();
+        list.addAll(index, elements);
+        record(() -> removeRange(list, index, index + size));
+    }
+
+    /**
+     * Removes the first occurrence of {@code element} from {@code list}, and returns whether there was one.
+     */
+    public static <T> boolean remove(List<T> list, Object element) {
+        int index = list.indexOf(element);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(list, index);
+        return true;
+    }
+
+    /**
+     * Removes the element at {@code index} from {@code list}.
+     */
+    public static <T> void removeAt(List<T> list, int index) {
+        T removed = list.remove(index);
+        record(() -> insert(list, index, removed));
+    }
+
+    /**
+     * Removes the elements of {@code list} from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     */
+    public static <T> void removeRange(List<T> list, int fromIndex, int toIndex) {
+        List<T> range = list.subList(fromIndex, toIndex);
+        List<T> removed = new ArrayList<>(range);
+        range.clear();
+        record(() -> insertAll(list, fromIndex, removed));
+    }
+
+    /**
+     * Replaces the element at {@code index} of {@code list} with {@code element}.
+     */
+    public static <T> void set(List<T> list, int index, T element) {
+        T previous = list.set(index, element);
+        record(() -> set(list, index, previous));
+    }
+
+    /**
+     * Replaces the contents of {@code list} with {@code elements}.
+     */
+    public static <T> void setAll(List<T> list, Collection<? extends T> elements) {
+        List<T> previous = isRecording() ? new ArrayList<>(list) : List.of();
+        if (list instanceof ObservableList) {
+            // A single change event, so that observers of the list update once
+            ((ObservableList<T>) list).setAll(elements);
+        } else {
+            list.clear();
+            list.addAll(elements);
+        }
+        record(() -> setAll(list, previous));
+    }
+
+    /**
+     * Associates {@code value} with {@code key} in {@code map}.
+     */
+    public static <K, V> void put(Map<K, V> map, K key, V value) {
+        boolean hadKey = map.containsKey(key);
+        V previous = map.put(key, value);
+        record(() -> {
+            if (hadKey) {
+                put(map, key, previous);
+            } else {
+                remove(map, key);
+            }
+        });
+    }
+
+    /**
+     * Removes the mapping for {@code key} from {@code map}, if there is one.
+     */
+    public static <K, V> void remove(Map<K, V> map, K key) {
+        if (!map.containsKey(key)) {
+            return;
+        }
+        V previous = map.remove(key);
+        record(() -> put(map, key, previous));
+    }
+}
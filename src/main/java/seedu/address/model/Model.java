@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -9,6 +10,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.classroom.ClassSession;
 import seedu.address.model.classroom.TuitionClass;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 
@@ -55,6 +57,12 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Makes the address book called {@code name}, whose data is {@code addressBook}, the active one.
+     * The address book data is replaced and the user prefs' file paths are pointed at that address book.
+     */
+    void switchAddressBook(String name, ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -82,6 +90,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons in one operation.
+     * None of {@code persons} may already exist in the address book or appear twice in the list.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Adds the given tuition class.
      * {@code tuitionClass} must not already exist in the address book.
@@ -109,6 +123,13 @@ public interface Model {
      */
     void addStudentToClass(Student student, TuitionClass toJoin);
 
+    /**
+     * Adds the given students to the specified class, skipping those already in it.
+     * Every student in {@code students} must already exist in the address book.
+     * {@code toJoin} must already exist in the address book.
+     */
+    void addStudentsToClass(Collection<Student> students, TuitionClass toJoin);
+
     /**
      * Adsigns the given tutor to the specified class.
      * {@code tutor} must already exist in the address book.
@@ -127,6 +148,21 @@ public interface Model {
     /** Returns an unmodifiable view of the person list, unfiltered */
     ObservableList<Person> getPersonList();
 
+    /** Returns the index of the unfiltered person list by role, tag and name */
+    PersonIndex getPersonIndex();
+
+    /**
+     * Returns the number of each kind of entity in the address book, and an estimate of the heap taken by them and
+     * by the lists of this model.
+     */
+    ModelStatistics getStatistics();
+
+    /**
+     * Notes that the address book has changed, so that the statistics read on other threads are counted again
+     * when they are next read. Must be called on the thread that changes the model, after it changes.
+     */
+    void invalidateStatistics();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -190,4 +226,69 @@ public interface Model {
      * Clears the session list display in the UI
      */
     void clearSessions();
+
+    /**
+     * Starts a transaction: the changes made to the address book from now on can be undone together with
+     * {@link #rollbackTransaction()}, or kept with {@link #commitTransaction()}.
+     *
+     * @throws IllegalStateException if a transaction has already been started.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, keeping its changes.
+     *
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction, undoing the changes made to the address book since it was started.
+     *
+     * @throws IllegalStateException if no transaction has been started.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction has been started and not yet committed or rolled back.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Creates a log and records the changes made to the address book on this thread from now on in it, until it
+     * is stopped.
+     *
+     * @throws IllegalStateException if the changes of another model are being recorded on this thread.
+     */
+    ChangeLog startChangeLog();
+
+    /**
+     * Adds {@code changes}, made by one command, to the history as the latest change that can be undone.
+     * The changes that were undone before can no longer be redone.
+     */
+    void addToHistory(ChangeLog changes);
+
+    /**
+     * Returns true if there is a change in the history to undo.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change in the history to redo.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest change in the history.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undo();
+
+    /**
+     * Redoes the latest undone change in the history.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redo();
 }
@@ -5,8 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -16,11 +18,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JmxUtil;
 import seedu.address.model.classroom.ClassSession;
 import seedu.address.model.classroom.TuitionClass;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
+import seedu.address.model.util.FootprintEstimator;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -34,6 +39,10 @@ public class ModelManager implements Model {
     private final FilteredList<TuitionClass> filteredClasses;
     private final ObservableList<ClassSession> sessionList;
     private final FilteredList<ClassSession> filteredSessions;
+    private final ChangeHistory history;
+    private final ChangeLog.Recorder changeRecorder = new ChangeLog.Recorder();
+    private ChangeLog transaction;
+    private ModelStatisticsBean statisticsBean;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,7 +50,7 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
@@ -49,19 +58,30 @@ public class ModelManager implements Model {
         filteredClasses = new FilteredList<>(this.addressBook.getClassList());
         sessionList = FXCollections.observableArrayList();
         filteredSessions = new FilteredList<>(sessionList);
-
+        history = new ChangeHistory(this.userPrefs.getUndoHistoryDepth());
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Registers the statistics of the address book in this model with the platform MBean server,
+     * as {@code seedu.address:type=Model}. They are counted on {@code modelThread}, which must run tasks on the
+     * thread that changes this model, when they are read after the address book has changed.
+     */
+    public void registerMBean(Executor modelThread) {
+        statisticsBean = new ModelStatisticsBean(this, modelThread);
+        JmxUtil.register(ModelStatisticsBean.TYPE, statisticsBean);
+    }
+
     // =========== UserPrefs ==================================================================================
 
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -97,6 +117,19 @@ public class ModelManager implements Model {
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.setSessionList(new ArrayList<>());
         this.addressBook.resetData(addressBook);
+        invalidateStatistics();
+    }
+
+    @Override
+    public void switchAddressBook(String name, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(name, addressBook);
+        setAddressBook(addressBook);
+        // The history refers to the persons and classes of the previous address book
+        history.clear();
+        userPrefs.switchAddressBook(name);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredClassList(PREDICATE_SHOW_ALL_CLASSES);
+        logger.info(() -> "Switched to address book " + name + " at " + userPrefs.getAddressBookFilePath());
     }
 
     @Override
@@ -127,6 +160,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void addClass(TuitionClass c) {
         addressBook.addClass(c);
@@ -173,6 +213,13 @@ public class ModelManager implements Model {
         addressBook.setClass(c, c);
     }
 
+    @Override
+    public void addStudentsToClass(Collection<Student> students, TuitionClass c) {
+        requireNonNull(students);
+        c.addStudents(students);
+        addressBook.setClass(c, c);
+    }
+
     @Override
     public void assignTutorToClass(Tutor tutor, TuitionClass c) {
         c.setTutor(tutor);
@@ -191,6 +238,29 @@ public class ModelManager implements Model {
         return this.addressBook.getPersonList();
     }
 
+    @Override
+    public PersonIndex getPersonIndex() {
+        return this.addressBook.getPersonIndex();
+    }
+
+    @Override
+    public void invalidateStatistics() {
+        if (statisticsBean != null) {
+            statisticsBean.invalidate();
+        }
+    }
+
+    @Override
+    public ModelStatistics getStatistics() {
+        ModelStatistics statistics = ModelStatistics.of(addressBook);
+        // The sessions on display, and the filtered views of the persons, classes and sessions
+        statistics.addFxListBytes(FootprintEstimator.estimateObservableList(sessionList.size())
+                + FootprintEstimator.estimateFilteredList(addressBook.getPersonList().size())
+                + FootprintEstimator.estimateFilteredList(addressBook.getClassList().size())
+                + FootprintEstimator.estimateFilteredList(sessionList.size()));
+        return statistics;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return filteredPersons;
@@ -265,6 +335,91 @@ public class ModelManager implements Model {
         setSessionList(new ArrayList<>());
     }
 
+    // =========== Transactions =============================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException("A transaction has already been started");
+        }
+        transaction = changeRecorder.start();
+        logger.info("Started a transaction");
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        transaction.stop();
+        logger.info(() -> "Committed a transaction of " + transaction.size() + " change(s)");
+        transaction = null;
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        logger.info(() -> "Rolling back a transaction of " + transaction.size() + " change(s)");
+        transaction.revert();
+        transaction = null;
+        // The changes in the history from during the transaction have just been undone
+        history.clear();
+        resetDisplayedLists();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return transaction != null;
+    }
+
+    // =========== Undo and redo ==============================================================================
+
+    @Override
+    public ChangeLog startChangeLog() {
+        return changeRecorder.start();
+    }
+
+    @Override
+    public void addToHistory(ChangeLog changes) {
+        requireNonNull(changes);
+        history.add(changes);
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        history.undo();
+        resetDisplayedLists();
+    }
+
+    @Override
+    public void redo() {
+        history.redo();
+        resetDisplayedLists();
+    }
+
+    /**
+     * Shows every person and class again and clears the displayed sessions, which may refer to what was undone.
+     */
+    private void resetDisplayedLists() {
+        clearSessions();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredClassList(PREDICATE_SHOW_ALL_CLASSES);
+    }
+
+    private void requireTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("No transaction has been started");
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,192 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.FootprintEstimator;
+
+/**
+ * The number of each kind of entity in an address book at one moment, and an estimate of the heap that they take.
+ * The sizes are estimated by {@link FootprintEstimator}. The tags of persons, the JavaFX lists and properties that
+ * the UI observes, and the index of persons are counted apart from the entities that hold them.
+ */
+public class ModelStatistics {
+
+    private long studentCount;
+    private long tutorCount;
+    private long parentCount;
+    private long classCount;
+    private long sessionCount;
+    private long attendanceCount;
+    private long tagCount;
+
+    private long studentBytes;
+    private long tutorBytes;
+    private long parentBytes;
+    private long classBytes;
+    private long sessionBytes;
+    private long attendanceBytes;
+    private long tagBytes;
+    private long fxListBytes;
+    private long indexBytes;
+
+    private ModelStatistics() {
+    }
+
+    /**
+     * Counts the entities in {@code addressBook} and estimates their sizes.
+     */
+    public static ModelStatistics of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ModelStatistics statistics = new ModelStatistics();
+        for (Person person : addressBook.getPersonList()) {
+            statistics.tagCount += person.getTags().size();
+            statistics.tagBytes += FootprintEstimator.estimateTags(person);
+            statistics.fxListBytes += FootprintEstimator.estimateFxLists(person);
+            long bytes = FootprintEstimator.estimate(person);
+            switch (person.getPersonType()) {
+            case STUDENT:
+                statistics.studentCount++;
+                statistics.studentBytes += bytes;
+                break;
+            case TUTOR:
+                statistics.tutorCount++;
+                statistics.tutorBytes += bytes;
+                break;
+            case PARENT:
+                statistics.parentCount++;
+                statistics.parentBytes += bytes;
+                break;
+            default:
+                throw new AssertionError("Unknown person type: " + person.getPersonType());
+            }
+        }
+        for (TuitionClass tuitionClass : addressBook.getClassList()) {
+            statistics.classCount++;
+            statistics.classBytes += FootprintEstimator.estimate(tuitionClass);
+            statistics.fxListBytes += FootprintEstimator.estimateFxProperties(tuitionClass);
+            for (ClassSession session : tuitionClass.getAllSessions()) {
+                statistics.sessionCount++;
+                statistics.sessionBytes += FootprintEstimator.estimate(session);
+                statistics.attendanceCount += session.getAttendanceRecord().size();
+                statistics.attendanceBytes += FootprintEstimator.estimateAttendance(session);
+            }
+        }
+
+        // The lists of persons and classes, and the unmodifiable views of them that the UI observes
+        statistics.fxListBytes += FootprintEstimator.estimateObservableList(addressBook.getPersonList().size())
+                + FootprintEstimator.estimateObservableList(addressBook.getClassList().size())
+                + 2 * FootprintEstimator.estimateUnmodifiableView();
+        statistics.indexBytes = FootprintEstimator.estimatePersonIndex(addressBook.getPersonList());
+        return statistics;
+    }
+
+    /**
+     * Adds {@code bytes} to the estimated size of the JavaFX lists, for lists that the address book does not hold.
+     */
+    void addFxListBytes(long bytes) {
+        fxListBytes += bytes;
+    }
+
+    public long getStudentCount() {
+        return studentCount;
+    }
+
+    public long getTutorCount() {
+        return tutorCount;
+    }
+
+    public long getParentCount() {
+        return parentCount;
+    }
+
+    public long getPersonCount() {
+        return studentCount + tutorCount + parentCount;
+    }
+
+    public long getClassCount() {
+        return classCount;
+    }
+
+    public long getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Returns the number of attendance marks, present or absent, over all sessions.
+     */
+    public long getAttendanceCount() {
+        return attendanceCount;
+    }
+
+    /**
+     * Returns the number of tags over all persons, counting a tag once for each person that has it.
+     */
+    public long getTagCount() {
+        return tagCount;
+    }
+
+    public long getStudentBytes() {
+        return studentBytes;
+    }
+
+    public long getTutorBytes() {
+        return tutorBytes;
+    }
+
+    public long getParentBytes() {
+        return parentBytes;
+    }
+
+    public long getClassBytes() {
+        return classBytes;
+    }
+
+    public long getSessionBytes() {
+        return sessionBytes;
+    }
+
+    public long getAttendanceBytes() {
+        return attendanceBytes;
+    }
+
+    public long getTagBytes() {
+        return tagBytes;
+    }
+
+    /**
+     * Returns the estimated size of the JavaFX lists and properties of the persons, classes and model.
+     */
+    public long getFxListBytes() {
+        return fxListBytes;
+    }
+
+    /**
+     * Returns the estimated size of the index of persons by role, tag and name.
+     */
+    public long getIndexBytes() {
+        return indexBytes;
+    }
+
+    public long getTotalBytes() {
+        return studentBytes + tutorBytes + parentBytes + classBytes + sessionBytes + attendanceBytes + tagBytes
+                + fxListBytes + indexBytes;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("students", studentCount)
+                .add("tutors", tutorCount)
+                .add("parents", parentCount)
+                .add("classes", classCount)
+                .add("sessions", sessionCount)
+                .add("attendance", attendanceCount)
+                .add("tags", tagCount)
+                .add("totalBytes", getTotalBytes())
+                .toString();
+    }
+}
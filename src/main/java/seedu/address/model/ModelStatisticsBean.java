@@ -0,0 +1,168 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Exposes the {@link ModelStatistics} of a model over JMX.
+ * <p>
+ * JMX clients read attributes on threads of their own, while the model may only be read on the thread that changes
+ * it, and counting it walks the whole address book. So the model only marks its statistics as stale when it
+ * changes, and the attributes are read from the statistics last counted, which are never changed afterwards. A read
+ * of stale statistics asks the model's thread to count them again, at most once every {@value #MAX_AGE_MILLIS} ms,
+ * so the statistics may lag behind the model by that long plus the time the model's thread takes to get to it.
+ */
+class ModelStatisticsBean implements ModelStatisticsMXBean {
+
+    static final String TYPE = "Model";
+    static final long MAX_AGE_MILLIS = 1000;
+
+    private final Model model;
+    private final Executor modelThread;
+    private final LongSupplier clock;
+    private final AtomicBoolean isCountRequested = new AtomicBoolean();
+    private volatile ModelStatistics statistics;
+    private volatile long countedAt;
+    private volatile boolean isStale;
+
+    /**
+     * Creates a bean for {@code model} and counts it. Must be called on the thread that changes the model, which
+     * {@code modelThread} runs tasks on.
+     */
+    ModelStatisticsBean(Model model, Executor modelThread) {
+        this(model, modelThread, System::currentTimeMillis);
+    }
+
+    ModelStatisticsBean(Model model, Executor modelThread, LongSupplier clock) {
+        requireNonNull(model);
+        requireNonNull(modelThread);
+        requireNonNull(clock);
+        this.model = model;
+        this.modelThread = modelThread;
+        this.clock = clock;
+        count();
+    }
+
+    /**
+     * Marks the statistics as stale, so that they are counted again when they are next read.
+     * Called on the thread that changes the model.
+     */
+    void invalidate() {
+        isStale = true;
+    }
+
+    /**
+     * Returns the statistics last counted, and asks for them to be counted again if they are stale and older
+     * than {@link #MAX_AGE_MILLIS}.
+     */
+    ModelStatistics getStatistics() {
+        boolean isDue = isStale && clock.getAsLong() - countedAt >= MAX_AGE_MILLIS;
+        if (isDue && isCountRequested.compareAndSet(false, true)) {
+            modelThread.execute(this::count);
+        }
+        return statistics;
+    }
+
+    /**
+     * Counts the model. Runs on the thread that changes the model.
+     */
+    private void count() {
+        isStale = false;
+        statistics = model.getStatistics();
+        countedAt = clock.getAsLong();
+        isCountRequested.set(false);
+    }
+
+    @Override
+    public long getStudentCount() {
+        return getStatistics().getStudentCount();
+    }
+
+    @Override
+    public long getTutorCount() {
+        return getStatistics().getTutorCount();
+    }
+
+    @Override
+    public long getParentCount() {
+        return getStatistics().getParentCount();
+    }
+
+    @Override
+    public long getPersonCount() {
+        return getStatistics().getPersonCount();
+    }
+
+    @Override
+    public long getClassCount() {
+        return getStatistics().getClassCount();
+    }
+
+    @Override
+    public long getSessionCount() {
+        return getStatistics().getSessionCount();
+    }
+
+    @Override
+    public long getAttendanceCount() {
+        return getStatistics().getAttendanceCount();
+    }
+
+    @Override
+    public long getTagCount() {
+        return getStatistics().getTagCount();
+    }
+
+    @Override
+    public long getStudentBytes() {
+        return getStatistics().getStudentBytes();
+    }
+
+    @Override
+    public long getTutorBytes() {
+        return getStatistics().getTutorBytes();
+    }
+
+    @Override
+    public long getParentBytes() {
+        return getStatistics().getParentBytes();
+    }
+
+    @Override
+    public long getClassBytes() {
+        return getStatistics().getClassBytes();
+    }
+
+    @Override
+    public long getSessionBytes() {
+        return getStatistics().getSessionBytes();
+    }
+
+    @Override
+    public long getAttendanceBytes() {
+        return getStatistics().getAttendanceBytes();
+    }
+
+    @Override
+    public long getTagBytes() {
+        return getStatistics().getTagBytes();
+    }
+
+    @Override
+    public long getFxListBytes() {
+        return getStatistics().getFxListBytes();
+    }
+
+    @Override
+    public long getIndexBytes() {
+        return getStatistics().getIndexBytes();
+    }
+
+    @Override
+    public long getTotalBytes() {
+        return getStatistics().getTotalBytes();
+    }
+}
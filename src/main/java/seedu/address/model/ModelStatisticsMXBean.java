@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+/**
+ * The management interface through which JMX clients such as JConsole read the {@link ModelStatistics} of the
+ * address book that is open.
+ */
+public interface ModelStatisticsMXBean {
+
+    long getStudentCount();
+
+    long getTutorCount();
+
+    long getParentCount();
+
+    long getPersonCount();
+
+    long getClassCount();
+
+    long getSessionCount();
+
+    long getAttendanceCount();
+
+    long getTagCount();
+
+    long getStudentBytes();
+
+    long getTutorBytes();
+
+    long getParentBytes();
+
+    long getClassBytes();
+
+    long getSessionBytes();
+
+    long getAttendanceBytes();
+
+    long getTagBytes();
+
+    long getFxListBytes();
+
+    long getIndexBytes();
+
+    long getTotalBytes();
+}
@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    Path getAddressBookDatabasePath();
+
+    StorageBackend getStorageBackend();
+
+    long getAddressBookMemoryBudget();
+
+    int getUndoHistoryDepth();
+
 }
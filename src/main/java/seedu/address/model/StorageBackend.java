@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Identifies the storage format used to persist the address book.
+ */
+public enum StorageBackend {
+    /** A single JSON document, rewritten on every save. */
+    JSON,
+    /** An embedded H2 database file, updated row by row. */
+    H2
+}
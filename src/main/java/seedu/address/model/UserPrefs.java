@@ -7,14 +7,25 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Default number of records that loaded address books may hold in total before inactive ones are evicted. */
+    public static final long DEFAULT_ADDRESS_BOOK_MEMORY_BUDGET = 250_000;
+
+    /** Default number of changes that can be undone. */
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private Path addressBookDatabasePath = Paths.get("data", "addressbook.mv.db");
+    private StorageBackend storageBackend = StorageBackend.JSON;
+    private long addressBookMemoryBudget = DEFAULT_ADDRESS_BOOK_MEMORY_BUDGET;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookDatabasePath(newUserPrefs.getAddressBookDatabasePath());
+        setStorageBackend(newUserPrefs.getStorageBackend());
+        setAddressBookMemoryBudget(newUserPrefs.getAddressBookMemoryBudget());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +71,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Path getAddressBookDatabasePath() {
+        return addressBookDatabasePath;
+    }
+
+    public void setAddressBookDatabasePath(Path addressBookDatabasePath) {
+        requireNonNull(addressBookDatabasePath);
+        this.addressBookDatabasePath = addressBookDatabasePath;
+    }
+
+    public StorageBackend getStorageBackend() {
+        return storageBackend;
+    }
+
+    public void setStorageBackend(StorageBackend storageBackend) {
+        requireNonNull(storageBackend);
+        this.storageBackend = storageBackend;
+    }
+
+    public long getAddressBookMemoryBudget() {
+        return addressBookMemoryBudget;
+    }
+
+    public void setAddressBookMemoryBudget(long addressBookMemoryBudget) {
+        this.addressBookMemoryBudget = Math.max(0, addressBookMemoryBudget);
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = Math.max(0, undoHistoryDepth);
+    }
+
+    /**
+     * Points the address book file path and database path at the address book called {@code name},
+     * which is stored next to the current files and in the same formats.
+     */
+    public void switchAddressBook(String name) {
+        requireNonNull(name);
+        setAddressBookFilePath(FileUtil.replaceFileNameStem(addressBookFilePath, name));
+        setAddressBookDatabasePath(FileUtil.replaceFileNameStem(addressBookDatabasePath, name));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +128,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookDatabasePath.equals(otherUserPrefs.addressBookDatabasePath)
+                && storageBackend == otherUserPrefs.storageBackend
+                && addressBookMemoryBudget == otherUserPrefs.addressBookMemoryBudget
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookDatabasePath, storageBackend,
+                addressBookMemoryBudget, undoHistoryDepth);
     }
 
     @Override
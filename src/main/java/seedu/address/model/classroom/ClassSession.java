@@ -2,11 +2,13 @@ package seedu.address.model.classroom;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.model.Attendance;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.person.Student;
 
 /**
@@ -53,6 +55,16 @@ public class ClassSession {
      * @param location    location (nullable)
      */
     public ClassSession(TuitionClass parentClass, String sessionName, LocalDateTime dateTime, String location) {
+        this(parentClass, sessionName, dateTime, location, true);
+    }
+
+    /**
+     * Similar to {@link #ClassSession(TuitionClass, String, LocalDateTime, String)}, but only checks that no
+     * other session of {@code parentClass} is called {@code sessionName} if {@code isNameChecked}. Callers that
+     * add many sessions at once check all their names in one go instead.
+     */
+    ClassSession(TuitionClass parentClass, String sessionName, LocalDateTime dateTime, String location,
+            boolean isNameChecked) {
         if (parentClass == null) {
             throw new IllegalArgumentException("Parent class cannot be null for session: " + sessionName);
         }
@@ -70,7 +82,7 @@ public class ClassSession {
             throw new IllegalArgumentException("Location must not exceed "
                     + MAX_LOCATION_LENGTH + " characters");
         }
-        if (parentClass.hasSessionName(sessionName)) {
+        if (isNameChecked && parentClass.hasSessionName(sessionName)) {
             throw new IllegalArgumentException("This session name already exists for this class: " + sessionName);
         }
         this.parentClass = parentClass;
@@ -78,7 +90,10 @@ public class ClassSession {
         this.dateTime = dateTime;
         this.location = location;
         this.attendanceRecord = new HashMap<>();
-        initializeAttendance();
+        // A new session is not reachable from the address book yet, so there is nothing to record
+        for (Student s : parentClass.getStudents()) {
+            attendanceRecord.put(s, new Attendance(false, LocalDateTime.MIN));
+        }
     }
 
     // Getters / setters
@@ -99,7 +114,9 @@ public class ClassSession {
             throw new IllegalArgumentException("Session name must not exceed "
                     + MAX_SESSION_NAME_LENGTH + " characters");
         }
+        String previous = this.sessionName;
         this.sessionName = sessionName;
+        ChangeLog.record(() -> setSessionName(previous));
     }
 
     public LocalDateTime getDateTime() {
@@ -107,7 +124,9 @@ public class ClassSession {
     }
 
     public void setDateTime(LocalDateTime dateTime) {
+        LocalDateTime previous = this.dateTime;
         this.dateTime = dateTime;
+        ChangeLog.record(() -> setDateTime(previous));
     }
 
     public String getLocation() {
@@ -119,7 +138,9 @@ public class ClassSession {
             throw new IllegalArgumentException("Location must not exceed "
                     + MAX_LOCATION_LENGTH + " characters");
         }
+        String previous = this.location;
         this.location = location;
+        ChangeLog.record(() -> setLocation(previous));
     }
 
     public String getRemarks() {
@@ -131,7 +152,9 @@ public class ClassSession {
             throw new IllegalArgumentException("Remarks must not exceed "
                     + MAX_REMARK_LENGTH + " characters");
         }
+        String previous = this.remarks;
         this.remarks = remarks;
+        ChangeLog.record(() -> setRemarks(previous));
     }
 
     // Attendance
@@ -143,24 +166,36 @@ public class ClassSession {
      */
     public void initializeAttendance() {
         for (Student s : parentClass.getStudents()) {
-            attendanceRecord.putIfAbsent(s, new Attendance(false, LocalDateTime.MIN));
+            if (!attendanceRecord.containsKey(s)) {
+                ChangeLog.put(attendanceRecord, s, new Attendance(false, LocalDateTime.MIN));
+            }
         }
     }
 
     public void markPresent(Student student) {
-        attendanceRecord.put(student, new Attendance(true, LocalDateTime.now()));
+        ChangeLog.put(attendanceRecord, student, new Attendance(true, LocalDateTime.now()));
     }
 
     public void markAbsent(Student student) {
-        attendanceRecord.put(student, new Attendance(false, LocalDateTime.now()));
+        ChangeLog.put(attendanceRecord, student, new Attendance(false, LocalDateTime.now()));
     }
 
     public void markPresentAt(Student student, LocalDateTime timestamp) {
-        attendanceRecord.put(student, new Attendance(true, timestamp));
+        ChangeLog.put(attendanceRecord, student, new Attendance(true, timestamp));
     }
 
     public void markAbsentAt(Student student, LocalDateTime timestamp) {
-        attendanceRecord.put(student, new Attendance(false, timestamp));
+        ChangeLog.put(attendanceRecord, student, new Attendance(false, timestamp));
+    }
+
+    /**
+     * Marks every student in {@code students} as present or absent, all with the same time stamp.
+     */
+    public void markAll(Collection<Student> students, boolean isPresent) {
+        LocalDateTime timestamp = LocalDateTime.now();
+        for (Student student : students) {
+            ChangeLog.put(attendanceRecord, student, new Attendance(isPresent, timestamp));
+        }
     }
 
     /**
@@ -188,8 +223,9 @@ public class ClassSession {
      */
     public void updateStudentReference(Student oldStudent, Student editedStudent) {
         if (attendanceRecord.containsKey(oldStudent)) {
-            Attendance attendance = attendanceRecord.remove(oldStudent);
-            attendanceRecord.put(editedStudent, attendance);
+            Attendance attendance = attendanceRecord.get(oldStudent);
+            ChangeLog.remove(attendanceRecord, oldStudent);
+            ChangeLog.put(attendanceRecord, editedStudent, attendance);
         }
     }
 
@@ -4,14 +4,19 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -164,14 +169,12 @@ public class TuitionClass {
         // Remove from old tutor's class list if exists
         if (this.tutor != null) {
             this.tutor.unjoin(this);
-            this.tutorName.set("Unassigned");
         }
         // Assign new tutor
-        this.tutor = tutor;
+        assignTutor(tutor);
         // Add to new tutor's class list if not null
         if (tutor != null) {
             tutor.addClass(this);
-            this.tutorName.set(tutor.getName().fullName);
         }
     }
 
@@ -184,8 +187,17 @@ public class TuitionClass {
         if (this.tutor == null || !this.tutor.equals(tutorToRemove)) {
             throw new PersonNotFoundException();
         }
-        this.tutor = null;
-        this.tutorName.set("Unassigned");
+        assignTutor(null);
+    }
+
+    /**
+     * Sets the tutor of this class and the displayed tutor name, without updating either tutor's classes.
+     */
+    private void assignTutor(Tutor newTutor) {
+        Tutor previous = this.tutor;
+        this.tutor = newTutor;
+        this.tutorName.set(newTutor == null ? "Unassigned" : newTutor.getName().fullName);
+        ChangeLog.record(() -> assignTutor(previous));
     }
 
     /**
@@ -211,16 +223,32 @@ public class TuitionClass {
      * Adds a student to this tuition class if not already present.
      */
     public void addStudent(Student student) {
-        if (!students.contains(student)) {
-            students.add(student);
-            student.addClass(this);
-            this.studentCount.set(students.size());
-            for (ClassSession session : sessions) {
-                if (session.getDateTime().isAfter(LocalDateTime.now())) {
-                    session.initializeAttendance();
-                }
+        addStudents(List.of(student));
+    }
+
+    /**
+     * Adds every student in {@code toAdd} who is not in this class yet. Attendance of future sessions is
+     * initialised once for the whole batch rather than once per student.
+     */
+    public void addStudents(Collection<Student> toAdd) {
+        requireNonNull(toAdd);
+        Set<Student> enrolled = new HashSet<>(students);
+        boolean isChanged = false;
+        for (Student student : toAdd) {
+            if (enrolled.add(student)) {
+                ChangeLog.add(students, student);
+                student.addClass(this);
+                isChanged = true;
             }
         }
+        if (!isChanged) {
+            return;
+        }
+
+        setCount(studentCount, students.size());
+        for (ClassSession session : getFutureSessions()) {
+            session.initializeAttendance();
+        }
     }
 
     /**
@@ -238,10 +266,26 @@ public class TuitionClass {
      */
     public void removeStudent(Student student) {
         requireNonNull(student);
-        if (!students.remove(student)) {
+        if (!ChangeLog.remove(students, student)) {
             throw new PersonNotFoundException();
         }
-        this.studentCount.set(students.size());
+        setCount(studentCount, students.size());
+    }
+
+    /**
+     * Removes every student in {@code toRemove} from this tuition class in a single pass over the roster.
+     * Students who are not in this class are ignored.
+     */
+    public void removeStudents(Collection<Student> toRemove) {
+        requireNonNull(toRemove);
+        Set<Student> removed = new HashSet<>(toRemove);
+        List<Student> remaining = students.stream()
+                .filter(student -> !removed.contains(student))
+                .collect(Collectors.toList());
+        if (remaining.size() < students.size()) {
+            ChangeLog.setAll(students, remaining);
+            setCount(studentCount, students.size());
+        }
     }
 
     /**
@@ -259,7 +303,7 @@ public class TuitionClass {
             throw new PersonNotFoundException();
         }
 
-        students.set(index, editedStudent);
+        ChangeLog.set(students, index, editedStudent);
 
         // Update student reference in all session attendance records
         for (ClassSession session : sessions) {
@@ -276,17 +320,32 @@ public class TuitionClass {
      */
     public ClassSession addSession(String sessionName, LocalDateTime dateTime, String location) {
         ClassSession session = new ClassSession(this, sessionName, dateTime, location);
-        sessions.add(session);
-        this.sessionCount.set(sessions.size());
+        ChangeLog.add(sessions, session);
+        setCount(sessionCount, sessions.size());
         return session;
     }
 
+    /**
+     * Adds a session for each entry of {@code namesAndDateTimes}, all at {@code location}, and returns them
+     * in the same order. None of the names may be used by an existing session of this class; callers check
+     * that once for the whole batch, rather than once per session.
+     */
+    public List<ClassSession> addSessions(Map<String, LocalDateTime> namesAndDateTimes, String location) {
+        requireNonNull(namesAndDateTimes);
+        List<ClassSession> added = new ArrayList<>();
+        namesAndDateTimes.forEach((sessionName, dateTime) ->
+                added.add(new ClassSession(this, sessionName, dateTime, location, false)));
+        ChangeLog.addAll(sessions, added);
+        setCount(sessionCount, sessions.size());
+        return added;
+    }
+
     /**
      * Remove session from session list
      */
     public void removeSession(ClassSession session) {
-        sessions.remove(session);
-        this.sessionCount.set(sessions.size());
+        ChangeLog.remove(sessions, session);
+        setCount(sessionCount, sessions.size());
     }
 
     /**
@@ -301,7 +360,7 @@ public class TuitionClass {
      */
     public void copySessions(TuitionClass target) {
         List<ClassSession> sessionsToCopy = target.getAllSessions();
-        this.sessions.addAll(sessionsToCopy);
+        ChangeLog.addAll(this.sessions, sessionsToCopy);
     }
 
 
@@ -346,6 +405,15 @@ public class TuitionClass {
                 .findFirst();
     }
 
+    /**
+     * Sets {@code count}, one of the counts displayed for this class, to {@code value}.
+     */
+    private static void setCount(IntegerProperty count, int value) {
+        int previous = count.get();
+        count.set(value);
+        ChangeLog.record(() -> setCount(count, previous));
+    }
+
     public IntegerProperty getStudentCountProperty() {
         return this.studentCount;
     }
@@ -7,6 +7,7 @@ import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.classroom.exceptions.ClassNotFoundException;
 import seedu.address.model.classroom.exceptions.DuplicateClassException;
 
@@ -34,7 +35,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
         if (contains(toAdd)) {
             throw new DuplicateClassException();
         }
-        internalList.add(toAdd);
+        ChangeLog.add(internalList, toAdd);
     }
 
     /**
@@ -45,7 +46,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
         if (!classesAreUnique(classes)) {
             throw new DuplicateClassException();
         }
-        internalList.setAll(classes);
+        ChangeLog.setAll(internalList, classes);
     }
 
     /**
@@ -64,7 +65,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
             throw new DuplicateClassException();
         }
 
-        internalList.set(index, editedClass);
+        ChangeLog.set(internalList, index, editedClass);
     }
 
     /**
@@ -72,7 +73,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
      */
     public void remove(TuitionClass toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!ChangeLog.remove(internalList, toRemove)) {
             throw new ClassNotFoundException();
         }
     }
@@ -89,7 +90,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
     }
 
     public void clear() {
-        internalList.clear();
+        ChangeLog.setAll(internalList, List.of());
     }
 
     @Override
@@ -7,6 +7,7 @@ import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.classroom.TuitionClass;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -45,7 +46,7 @@ public class Parent extends Person {
      */
     public void addChild(Student child) {
         if (!children.contains(child)) {
-            children.add(child);
+            ChangeLog.add(children, child);
             child.addParent(this);
         }
     }
@@ -66,7 +67,7 @@ public class Parent extends Person {
             throw new DuplicatePersonException();
         }
 
-        children.set(index, editedChild);
+        ChangeLog.set(children, index, editedChild);
     }
 
 
@@ -77,7 +78,7 @@ public class Parent extends Person {
     public void editChildToParentMappings(Parent editedParent) {
         children.forEach(child -> {
             child.setParent(this, editedParent);
-            editedParent.children.add(child);
+            ChangeLog.add(editedParent.children, child);
         });
     }
 
@@ -92,7 +93,7 @@ public class Parent extends Person {
      * Remove child from children list
      */
     public void removeChild(Student childToRemove) {
-        if (!children.remove(childToRemove)) {
+        if (!ChangeLog.remove(children, childToRemove)) {
             throw new PersonNotFoundException();
         }
     }
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the persons of a {@link UniquePersonList} by role, by tag and by name, so that the persons with a
+ * given role or tag, or the person with a given name, can be found without going through every person.
+ * <p>
+ * The index is kept up to date by the list that owns it. The sets it returns are read-only views that change
+ * as the list does.
+ */
+public class PersonIndex {
+
+    private final Map<PersonType, Set<Person>> personsByType = new EnumMap<>(PersonType.class);
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    private final Map<Name, Person> personsByName = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonIndex() {
+        for (PersonType type : PersonType.values()) {
+            personsByType.put(type, new HashSet<>());
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        personsByType.get(person.getPersonType()).add(person);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, unused -> new HashSet<>()).add(person);
+        }
+        personsByName.put(person.getName(), person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        personsByType.get(person.getPersonType()).remove(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> tagged = personsByTag.get(tag);
+            if (tagged != null) {
+                tagged.remove(person);
+                if (tagged.isEmpty()) {
+                    personsByTag.remove(tag);
+                }
+            }
+        }
+        personsByName.remove(person.getName(), person);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByType.values().forEach(Set::clear);
+        personsByTag.clear();
+        personsByName.clear();
+    }
+
+    /**
+     * Returns the persons whose role is {@code type}.
+     */
+    public Set<Person> getPersonsOfType(PersonType type) {
+        requireNonNull(type);
+        return Collections.unmodifiableSet(personsByType.get(type));
+    }
+
+    /**
+     * Returns the persons tagged with {@code tag}.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(personsByTag.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the person called {@code name}, ignoring case, if there is one.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.classroom.TuitionClass;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -59,7 +60,7 @@ public class Student extends Person {
      */
     public void addParent(Parent parent) {
         if (!parents.contains(parent)) {
-            parents.add(parent);
+            ChangeLog.add(parents, parent);
             parent.addChild(this); // maintain bidirectional link
         }
     }
@@ -82,7 +83,7 @@ public class Student extends Person {
      */
     public void addClass(TuitionClass tuitionClass) {
         if (!tuitionClasses.contains(tuitionClass)) {
-            tuitionClasses.add(tuitionClass);
+            ChangeLog.add(tuitionClasses, tuitionClass);
         }
     }
 
@@ -91,7 +92,7 @@ public class Student extends Person {
      * @throws PersonNotFoundException if not enrolled in this class
      */
     public void unjoin(TuitionClass tuitionClass) {
-        if (!tuitionClasses.remove(tuitionClass)) {
+        if (!ChangeLog.remove(tuitionClasses, tuitionClass)) {
             throw new PersonNotFoundException();
         }
     }
@@ -101,7 +102,7 @@ public class Student extends Person {
      * @return true if the class was removed, false if not enrolled
      */
     public boolean unjoinSafely(TuitionClass tuitionClass) {
-        return tuitionClasses.remove(tuitionClass);
+        return ChangeLog.remove(tuitionClasses, tuitionClass);
     }
 
     /**
@@ -126,7 +127,7 @@ public class Student extends Person {
             throw new DuplicatePersonException();
         }
 
-        parents.set(index, editedParent);
+        ChangeLog.set(parents, index, editedParent);
     }
 
 
@@ -137,7 +138,7 @@ public class Student extends Person {
     public void editParentToChildMappings(Student editedChild) {
         parents.forEach(parent -> {
             parent.setChild(this, editedChild);
-            editedChild.parents.add(parent);
+            ChangeLog.add(editedChild.parents, parent);
         });
     }
 
@@ -151,7 +152,7 @@ public class Student extends Person {
         new ArrayList<>(tuitionClasses).forEach(tuitionClass -> {
             tuitionClass.setStudent(this, editedStudent);
             if (this != editedStudent) {
-                editedStudent.tuitionClasses.add(tuitionClass);
+                ChangeLog.add(editedStudent.tuitionClasses, tuitionClass);
             }
         });
     }
@@ -160,7 +161,7 @@ public class Student extends Person {
      * Remove parent from parents list
      */
     public void removeParent(Parent parentToRemove) {
-        if (!parents.remove(parentToRemove)) {
+        if (!ChangeLog.remove(parents, parentToRemove)) {
             throw new PersonNotFoundException();
         }
     }
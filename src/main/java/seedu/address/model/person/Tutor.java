@@ -1,10 +1,12 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.classroom.TuitionClass;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -47,7 +49,7 @@ public class Tutor extends Person {
      */
     public void addClass(TuitionClass tuitionClass) {
         if (!tuitionClasses.contains(tuitionClass)) {
-            tuitionClasses.add(tuitionClass);
+            ChangeLog.add(tuitionClasses, tuitionClass);
         }
     }
 
@@ -56,7 +58,7 @@ public class Tutor extends Person {
      * @throws PersonNotFoundException if not teaching this class
      */
     public void unjoin(TuitionClass tuitionClass) {
-        if (!tuitionClasses.remove(tuitionClass)) {
+        if (!ChangeLog.remove(tuitionClasses, tuitionClass)) {
             throw new PersonNotFoundException();
         }
     }
@@ -66,7 +68,7 @@ public class Tutor extends Person {
      * @return true if the class was removed, false if not teaching
      */
     public boolean unjoinSafely(TuitionClass tuitionClass) {
-        return tuitionClasses.remove(tuitionClass);
+        return ChangeLog.remove(tuitionClasses, tuitionClass);
     }
 
     /**
@@ -79,7 +81,7 @@ public class Tutor extends Person {
                 tuitionClass.removeTutor(this);
             }
         });
-        tuitionClasses.clear();
+        ChangeLog.setAll(tuitionClasses, List.of());
     }
 
     /**
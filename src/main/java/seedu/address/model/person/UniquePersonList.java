@@ -3,11 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -27,6 +31,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PersonIndex personIndex = new PersonIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -45,7 +50,25 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        insert(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds all {@code toAdd} persons to the end of the list in a single change.
+     * None of the persons may already exist in the list or appear twice in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<String> names = new HashSet<>();
+        for (Person person : internalList) {
+            names.add(person.getName().fullName.toLowerCase());
+        }
+        for (Person person : toAdd) {
+            if (!names.add(person.getName().fullName.toLowerCase())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        insertAll(internalList.size(), toAdd);
     }
 
     /**
@@ -65,7 +88,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        replace(index, editedPerson);
     }
 
     /**
@@ -74,14 +97,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeAt(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -94,7 +119,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceAll(persons);
+    }
+
+    /**
+     * Returns the index of the persons in this list, which is kept up to date as the list changes.
+     */
+    public PersonIndex getIndex() {
+        return personIndex;
     }
 
     /**
@@ -134,15 +166,58 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    // The changes below keep the index in step with the list, and record their inverses in the change log.
+
+    private void insert(int index, Person person) {
+        internalList.add(index, person);
+        personIndex.add(person);
+        ChangeLog.record(() -> removeAt(index));
+    }
+
+    private void insertAll(int fromIndex, List<Person> persons) {
+        List<Person> inserted = List.copyOf(persons);
+        internalList.addAll(fromIndex, inserted);
+        inserted.forEach(personIndex::add);
+        ChangeLog.record(() -> removeRange(fromIndex, fromIndex + inserted.size()));
+    }
+
+    private void removeAt(int index) {
+        Person removed = internalList.remove(index);
+        personIndex.remove(removed);
+        ChangeLog.record(() -> insert(index, removed));
+    }
+
+    private void removeRange(int fromIndex, int toIndex) {
+        List<Person> range = internalList.subList(fromIndex, toIndex);
+        List<Person> removed = new ArrayList<>(range);
+        range.clear();
+        removed.forEach(personIndex::remove);
+        ChangeLog.record(() -> insertAll(fromIndex, removed));
+    }
+
+    private void replace(int index, Person person) {
+        Person previous = internalList.set(index, person);
+        personIndex.remove(previous);
+        personIndex.add(person);
+        ChangeLog.record(() -> replace(index, previous));
+    }
+
+    private void replaceAll(List<Person> persons) {
+        List<Person> previous = ChangeLog.isRecording() ? new ArrayList<>(internalList) : List.of();
+        internalList.setAll(persons);
+        personIndex.clear();
+        internalList.forEach(personIndex::add);
+        ChangeLog.record(() -> replaceAll(previous));
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName().fullName.toLowerCase())) {
+                return false;
             }
         }
         return true;
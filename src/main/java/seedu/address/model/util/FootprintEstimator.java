@@ -0,0 +1,235 @@
+package seedu.address.model.util;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.Attendance;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Estimates how many bytes of heap the objects of an address book take, from the fields of each object.
+ * <p>
+ * The estimates assume a 64-bit JVM with compressed references, as used for heaps under 32 GB: a 12-byte object
+ * header, 4-byte references, objects padded to a multiple of 8 bytes, and strings of one byte per character.
+ * An object is counted with everything that it alone refers to, so a value such as an address that several
+ * persons share is counted once for each of them, and persons, classes and sessions that refer to each other
+ * count only the reference.
+ * <p>
+ * The tags of a person, and the JavaFX lists and properties of persons and classes, are estimated apart from
+ * the objects that hold them, so that they can be reported on their own.
+ */
+public class FootprintEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private static final int ARRAY_LIST = align(OBJECT_HEADER + 2 * 4 + REFERENCE);
+    /** An ObservableList made by FXCollections.observableArrayList, without the ArrayList it wraps. */
+    private static final int OBSERVABLE_LIST_WRAPPER = align(OBJECT_HEADER + 4 * REFERENCE + 4);
+    /** A view made by FXCollections.unmodifiableObservableList. */
+    private static final int UNMODIFIABLE_VIEW = align(OBJECT_HEADER + 3 * REFERENCE);
+    /** A FilteredList, without the array of the indices of the elements that pass its predicate. */
+    private static final int FILTERED_LIST = align(OBJECT_HEADER + 6 * REFERENCE + 4);
+    private static final int HASH_MAP = align(OBJECT_HEADER + 4 * REFERENCE + 3 * 4 + 4);
+    private static final int HASH_MAP_NODE = align(OBJECT_HEADER + 4 + 3 * REFERENCE);
+    private static final int HASH_SET = align(OBJECT_HEADER + REFERENCE);
+    private static final int ENUM_MAP = align(OBJECT_HEADER + 4 * REFERENCE + 4);
+    /** A SimpleStringProperty or SimpleIntegerProperty, without its value. */
+    private static final int PROPERTY = align(OBJECT_HEADER + 4 * REFERENCE + 4);
+    /** A LocalDateTime with the LocalDate and LocalTime that it holds. */
+    private static final int LOCAL_DATE_TIME = align(OBJECT_HEADER + 2 * REFERENCE)
+            + align(OBJECT_HEADER + 4 + 2 * 2) + align(OBJECT_HEADER + 3 + 4);
+
+    private FootprintEstimator() {
+    }
+
+    /**
+     * Returns {@code bytes} rounded up to the next multiple of 8.
+     */
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    /**
+     * Returns the estimated size of {@code string} and its characters, or 0 if it is null.
+     */
+    public static long estimate(String string) {
+        if (string == null) {
+            return 0;
+        }
+        return align(OBJECT_HEADER + 4 + 1 + 1 + REFERENCE) + align(ARRAY_HEADER + string.length());
+    }
+
+    /**
+     * Returns the estimated size of {@code person}, its details and the lists that link it to other persons, but
+     * not its tags or its JavaFX list.
+     */
+    public static long estimate(Person person) {
+        long size = align(OBJECT_HEADER + 5 * REFERENCE)
+                + valueObject(person.getName().fullName)
+                + valueObject(person.getPhone().value)
+                + valueObject(person.getEmail().value)
+                + valueObject(person.getAddress().value);
+        if (person instanceof Student) {
+            size += 2 * REFERENCE + arrayList(((Student) person).getParents().size());
+        } else if (person instanceof Tutor) {
+            size += REFERENCE;
+        } else if (person instanceof Parent) {
+            size += REFERENCE + arrayList(((Parent) person).getChildren().size());
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated size of the set of tags of {@code person} and the tags in it.
+     */
+    public static long estimateTags(Person person) {
+        long size = HASH_SET + hashMap(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            size += valueObject(tag.tagName);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated size of the JavaFX list of the classes of {@code person}, or 0 if it has none of its own.
+     */
+    public static long estimateFxLists(Person person) {
+        if (person instanceof Student || person instanceof Tutor) {
+            return estimateObservableList(person.getTuitionClasses().size());
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the estimated size of {@code tuitionClass}, its name and the lists of its students and sessions, but
+     * not its sessions or its JavaFX properties.
+     */
+    public static long estimate(TuitionClass tuitionClass) {
+        return align(OBJECT_HEADER + 7 * REFERENCE)
+                + valueObject(tuitionClass.getClassName())
+                + arrayList(tuitionClass.getStudentCountProperty().get())
+                + arrayList(tuitionClass.getSessionCountProperty().get());
+    }
+
+    /**
+     * Returns the estimated size of the JavaFX properties that show the tutor, student count and session count of
+     * {@code tuitionClass}.
+     */
+    public static long estimateFxProperties(TuitionClass tuitionClass) {
+        return 3 * PROPERTY + estimate(tuitionClass.getTutorProperty().get());
+    }
+
+    /**
+     * Returns the estimated size of {@code session}, its details and its attendance map, but not the attendance
+     * marks in it.
+     */
+    public static long estimate(ClassSession session) {
+        return align(OBJECT_HEADER + 6 * REFERENCE)
+                + estimate(session.getSessionName())
+                + LOCAL_DATE_TIME
+                + estimate(session.getLocation())
+                + estimate(session.getRemarks())
+                + HASH_MAP + table(session.getAttendanceRecord().size());
+    }
+
+    /**
+     * Returns the estimated size of the attendance marks of {@code session}, with the map entries that hold them.
+     */
+    public static long estimateAttendance(ClassSession session) {
+        long size = 0;
+        for (Map.Entry<Student, Attendance> entry : session.getAttendanceRecord().entrySet()) {
+            LocalDateTime timestamp = entry.getValue().getTimestamp();
+            size += HASH_MAP_NODE + align(OBJECT_HEADER + 1 + REFERENCE)
+                    + (timestamp == null ? 0 : LOCAL_DATE_TIME);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated size of a list of {@code size} elements made by FXCollections.observableArrayList,
+     * with the ArrayList that it wraps, but not the elements.
+     */
+    public static long estimateObservableList(int size) {
+        return OBSERVABLE_LIST_WRAPPER + arrayList(size);
+    }
+
+    /**
+     * Returns the estimated size of a view made by FXCollections.unmodifiableObservableList.
+     */
+    public static long estimateUnmodifiableView() {
+        return UNMODIFIABLE_VIEW;
+    }
+
+    /**
+     * Returns the estimated size of a FilteredList over a list of {@code sourceSize} elements, which keeps the
+     * index of each element of its source that passes its predicate.
+     */
+    public static long estimateFilteredList(int sourceSize) {
+        return FILTERED_LIST + align(ARRAY_HEADER + sourceSize * 4);
+    }
+
+    /**
+     * Returns the estimated size of an index of {@code persons} by role, tag and name, as kept by
+     * {@code PersonIndex}, but not of the persons, tags and names that it refers to.
+     */
+    public static long estimatePersonIndex(List<? extends Person> persons) {
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Person person : persons) {
+            person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+
+        // A set of persons for each role, a set of persons for each tag, and a map from name to person
+        long size = ENUM_MAP + align(ARRAY_HEADER + 3 * REFERENCE)
+                + 3 * (HASH_SET + HASH_MAP) + table(persons.size()) + (long) persons.size() * HASH_MAP_NODE
+                + hashMap(tagCounts.size())
+                + hashMap(persons.size());
+        for (int count : tagCounts.values()) {
+            size += HASH_SET + hashMap(count);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated size of an object with a single string field, such as a {@code Name}, and the string.
+     */
+    private static long valueObject(String value) {
+        return align(OBJECT_HEADER + REFERENCE) + estimate(value);
+    }
+
+    private static long arrayList(int size) {
+        return ARRAY_LIST + align(ARRAY_HEADER + size * REFERENCE);
+    }
+
+    /**
+     * Returns the estimated size of a HashMap with {@code size} entries, with the nodes of the entries but not the
+     * keys and values.
+     */
+    private static long hashMap(int size) {
+        return HASH_MAP + table(size) + (long) size * HASH_MAP_NODE;
+    }
+
+    /**
+     * Returns the estimated size of the table of a HashMap with {@code size} entries, which is the smallest power
+     * of two that keeps it at most three quarters full, and at least 16, once anything has been put in it.
+     */
+    private static long table(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int capacity = 16;
+        while (capacity * 3 / 4 < size) {
+            capacity *= 2;
+        }
+        return align(ARRAY_HEADER + capacity * REFERENCE);
+    }
+}
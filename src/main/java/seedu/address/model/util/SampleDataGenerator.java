@@ -0,0 +1,271 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+
+/**
+ * Generates address books of any size for capacity planning, benchmarks and tests.
+ * <p>
+ * The students are grouped into families of siblings who share one or two parents. Each student joins a few
+ * classes, each class is taught by a tutor and meets weekly, and the attendance of every session before the
+ * last {@value #UPCOMING_WEEKS} weeks is marked, with each student attending at their own rate.
+ * <p>
+ * The same seed and {@link Size} always give the same address book: nothing depends on the current time, and
+ * every random choice is drawn from a single {@link Random} in a fixed order.
+ */
+public class SampleDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    /** The number of weeks at the end of the schedule whose sessions have not happened yet. */
+    public static final int UPCOMING_WEEKS = 2;
+
+    /** The date of the first week of sessions. */
+    public static final LocalDate FIRST_WEEK = LocalDate.of(2024, 1, 1);
+
+    private static final String[] GIVEN_NAMES = {"Aaron", "Aisha", "Alex", "Amir", "Bernice", "Chloe", "Daniel",
+        "Divya", "Ethan", "Farah", "Gabriel", "Hana", "Isaac", "Jia Hui", "Kai", "Kavya", "Lucas", "Mei Ling",
+        "Nadia", "Nathan", "Olivia", "Priya", "Qi Xuan", "Rahul", "Sarah", "Siti", "Tyler", "Wei Jie", "Xin Yi",
+        "Zachary"};
+    private static final String[] SURNAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Ibrahim", "Rahman", "Kumar", "Nair", "Pillai", "Fernandez", "Smith", "Balakrishnan", "Yeoh", "Ho"};
+    private static final String[] STREETS = {"Ang Mo Kio Ave 3", "Bedok North Rd", "Clementi Ave 2",
+        "Geylang Street 29", "Jurong West Street 42", "Pasir Ris Drive 6", "Serangoon Gardens Street 26",
+        "Tampines Street 20", "Toa Payoh Lorong 1", "Woodlands Drive 14"};
+    private static final String[] SUBJECTS = {"Math", "Science", "English", "Chinese", "Physics", "Chemistry"};
+    private static final String[] LEVELS = {"P5", "P6", "Sec1", "Sec2", "Sec3", "Sec4"};
+
+    private static final int MAX_SIBLINGS = 3;
+    private static final int MAX_CLASSES_PER_STUDENT = 3;
+
+    private final long seed;
+
+    public SampleDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns a new address book of the given {@code size}.
+     */
+    public AddressBook generate(Size size) {
+        Random random = new Random(seed);
+        Names names = new Names();
+
+        List<Tutor> tutors = new ArrayList<>();
+        for (int i = 0; i < size.tutors; i++) {
+            String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+            tutors.add((Tutor) newPerson(names.next(random, null), 6, i, address(random), PersonType.TUTOR,
+                    subject));
+        }
+
+        List<Student> students = new ArrayList<>();
+        List<Parent> parents = new ArrayList<>();
+        while (students.size() < size.students) {
+            String surname = SURNAMES[random.nextInt(SURNAMES.length)];
+            Address address = address(random);
+            int siblings = Math.min(1 + random.nextInt(MAX_SIBLINGS), size.students - students.size());
+            List<Student> family = new ArrayList<>();
+            for (int i = 0; i < siblings; i++) {
+                String level = LEVELS[random.nextInt(LEVELS.length)];
+                family.add((Student) newPerson(names.next(random, surname), 8, students.size(), address,
+                        PersonType.STUDENT, level));
+                students.add(family.get(i));
+            }
+            int familyParents = 1 + random.nextInt(2);
+            for (int i = 0; i < familyParents; i++) {
+                Parent parent = (Parent) newPerson(names.next(random, surname), 9, parents.size(), address,
+                        PersonType.PARENT, null);
+                family.forEach(parent::addChild);
+                parents.add(parent);
+            }
+        }
+
+        List<TuitionClass> classes = new ArrayList<>();
+        for (int i = 0; i < size.classes; i++) {
+            Tutor tutor = tutors.isEmpty() ? null : tutors.get(random.nextInt(tutors.size()));
+            String subject = SUBJECTS[i % SUBJECTS.length];
+            classes.add(new TuitionClass(new ClassName(subject + " " + (i / SUBJECTS.length + 1)), tutor));
+        }
+
+        Map<TuitionClass, List<Student>> rosters = new LinkedHashMap<>();
+        classes.forEach(tuitionClass -> rosters.put(tuitionClass, new ArrayList<>()));
+        for (Student student : students) {
+            Set<TuitionClass> joined = new LinkedHashSet<>();
+            int classCount = Math.min(1 + random.nextInt(MAX_CLASSES_PER_STUDENT), classes.size());
+            while (joined.size() < classCount) {
+                joined.add(classes.get(random.nextInt(classes.size())));
+            }
+            joined.forEach(tuitionClass -> rosters.get(tuitionClass).add(student));
+        }
+
+        // Each student attends at a rate of their own, so that some are far more regular than others
+        Map<Student, Double> attendanceRates = new LinkedHashMap<>();
+        for (Student student : students) {
+            attendanceRates.put(student, 0.6 + 0.4 * random.nextDouble());
+        }
+
+        LocalDateTime firstUpcoming = FIRST_WEEK.plusWeeks(size.weeks - UPCOMING_WEEKS).atStartOfDay();
+        for (int i = 0; i < classes.size(); i++) {
+            TuitionClass tuitionClass = classes.get(i);
+            tuitionClass.addStudents(rosters.get(tuitionClass));
+
+            LocalDateTime firstSession = FIRST_WEEK.plusDays(i % 6).atTime(LocalTime.of(9 + i % 10, 0));
+            Map<String, LocalDateTime> sessions = new LinkedHashMap<>();
+            for (int week = 0; week < size.weeks; week++) {
+                sessions.put("Week " + (week + 1), firstSession.plusWeeks(week));
+            }
+            for (ClassSession session : tuitionClass.addSessions(sessions, "Room " + (i % 20 + 1))) {
+                if (!session.getDateTime().isBefore(firstUpcoming)) {
+                    continue;
+                }
+                for (Student student : tuitionClass.getStudents()) {
+                    if (random.nextDouble() < attendanceRates.get(student)) {
+                        session.markPresentAt(student, session.getDateTime().plusMinutes(random.nextInt(15)));
+                    } else {
+                        session.markAbsentAt(student, session.getDateTime());
+                    }
+                }
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>(tutors);
+        persons.addAll(students);
+        persons.addAll(parents);
+        addressBook.setPersons(persons);
+        addressBook.setClasses(classes);
+        return addressBook;
+    }
+
+    /**
+     * Returns a person whose phone number starts with {@code phonePrefix} and is unique among the persons with
+     * that prefix, given that {@code number} is.
+     */
+    private static Person newPerson(String name, int phonePrefix, int number, Address address, PersonType type,
+            String tag) {
+        String emailLocalPart = name.toLowerCase().replace(' ', '.');
+        return Person.newPerson(new Name(name), new Phone(String.format("%d%07d", phonePrefix, number)),
+                new Email(emailLocalPart + "@example.com"), address,
+                tag == null ? SampleDataUtil.getTagSet() : SampleDataUtil.getTagSet(tag), type);
+    }
+
+    private static Address address(Random random) {
+        return new Address(String.format("Blk %d %s, #%02d-%02d", 1 + random.nextInt(999),
+                STREETS[random.nextInt(STREETS.length)], 2 + random.nextInt(20), 1 + random.nextInt(99)));
+    }
+
+    /**
+     * Hands out names that are unique within one address book, by numbering the repeats of a name.
+     */
+    private static class Names {
+        private final Map<String, Integer> uses = new LinkedHashMap<>();
+
+        /**
+         * Returns a new name with a random given name and {@code surname}, or a random surname if it is null.
+         */
+        String next(Random random, String surname) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + (surname == null ? SURNAMES[random.nextInt(SURNAMES.length)] : surname);
+            int count = uses.merge(name, 1, Integer::sum);
+            return count == 1 ? name : name + " " + count;
+        }
+    }
+
+    /**
+     * The number of each kind of entity in a generated address book.
+     */
+    public static class Size {
+        /** The average number of students in a class. */
+        public static final int STUDENTS_PER_CLASS = 15;
+        public static final int STUDENTS_PER_TUTOR = 25;
+        public static final int DEFAULT_WEEKS = 52;
+
+        public final int students;
+        public final int tutors;
+        public final int classes;
+        public final int weeks;
+
+        /**
+         * Creates a Size with the given numbers of students, tutors, classes and weeks of sessions.
+         * The numbers of parents and enrolments follow from the number of students.
+         *
+         * @throws IllegalArgumentException if a number is negative, or there are students but no classes.
+         */
+        public Size(int students, int tutors, int classes, int weeks) {
+            if (students < 0 || tutors < 0 || classes < 0 || weeks < 0) {
+                throw new IllegalArgumentException("Sizes must not be negative");
+            }
+            if (students > 0 && classes == 0) {
+                throw new IllegalArgumentException("Students need at least one class to join");
+            }
+            this.students = students;
+            this.tutors = tutors;
+            this.classes = classes;
+            this.weeks = weeks;
+        }
+
+        /**
+         * Returns a Size with {@code students} students and typical numbers of tutors and classes for them,
+         * with a year of weekly sessions.
+         */
+        public static Size ofStudents(int students) {
+            int classes = Math.max(1, students * 2 / STUDENTS_PER_CLASS);
+            return new Size(students, Math.max(1, students / STUDENTS_PER_TUTOR), classes, DEFAULT_WEEKS);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Size)) {
+                return false;
+            }
+
+            Size otherSize = (Size) other;
+            return students == otherSize.students && tutors == otherSize.tutors
+                    && classes == otherSize.classes && weeks == otherSize.weeks;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(students, tutors, classes, weeks);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("students", students)
+                    .add("tutors", tutors)
+                    .add("classes", classes)
+                    .add("weeks", weeks)
+                    .toString();
+        }
+    }
+}
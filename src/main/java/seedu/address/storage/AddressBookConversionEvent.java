@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for converting a parsed JSON address book to the model, which rebuilds the links
+ * between persons, classes and sessions. Its duration is the time taken to do so.
+ */
+@Name("seedu.address.AddressBookConversion")
+@Label("Address Book Conversion")
+@Category({"TutBook", "Storage"})
+@Description("Converting a JSON address book to the model")
+class AddressBookConversionEvent extends Event {
+
+    @Label("Persons")
+    int personCount;
+
+    @Label("Classes")
+    int classCount;
+
+    @Label("Sessions")
+    int sessionCount;
+
+    @Label("Successful")
+    boolean isSuccessful;
+}
@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading an address book from a JSON file, including converting it to the
+ * model. Its duration is the time taken to do so.
+ */
+@Name("seedu.address.AddressBookRead")
+@Label("Address Book Read")
+@Category({"TutBook", "Storage"})
+@Description("Reading an address book from a JSON file")
+class AddressBookReadEvent extends Event {
+
+    @Label("File")
+    String path;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Persons")
+    int personCount;
+
+    @Label("Classes")
+    int classCount;
+
+    @Label("Successful")
+    boolean isSuccessful;
+}
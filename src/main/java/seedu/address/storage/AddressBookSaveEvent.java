@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for saving an address book to a JSON file. Its duration is the time taken to
+ * convert the address book and write the file.
+ */
+@Name("seedu.address.AddressBookSave")
+@Label("Address Book Save")
+@Category({"TutBook", "Storage"})
+@Description("Saving an address book to a JSON file")
+class AddressBookSaveEvent extends Event {
+
+    @Label("File")
+    String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Persons")
+    int personCount;
+
+    @Label("Classes")
+    int classCount;
+
+    @Label("Successful")
+    boolean isSuccessful;
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -45,17 +46,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        AddressBookReadEvent event = new AddressBookReadEvent();
+        event.begin();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                event.isSuccessful = true;
+                return Optional.empty();
+            }
+
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            if (event.shouldCommit()) {
+                event.bytesRead = fileSize(filePath);
+                event.personCount = addressBook.getPersonList().size();
+                event.classCount = addressBook.getClassList().size();
+                event.isSuccessful = true;
+            }
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            event.path = filePath.toString();
+            event.commit();
         }
     }
 
@@ -73,8 +87,33 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+            if (event.shouldCommit()) {
+                event.bytesWritten = fileSize(filePath);
+                event.personCount = addressBook.getPersonList().size();
+                event.classCount = addressBook.getClassList().size();
+                event.isSuccessful = true;
+            }
+        } finally {
+            event.path = filePath.toString();
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or -1 if it cannot be read.
+     * Only used for flight recorder events, which should not fail the read or save they describe.
+     */
+    private static long fileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
 }
@@ -71,6 +71,25 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        AddressBookConversionEvent event = new AddressBookConversionEvent();
+        event.begin();
+        try {
+            AddressBook addressBook = buildAddressBook();
+            if (event.shouldCommit()) {
+                event.personCount = addressBook.getPersonList().size();
+                event.classCount = addressBook.getClassList().size();
+                event.sessionCount = addressBook.getClassList().stream()
+                        .mapToInt(tuitionClass -> tuitionClass.getAllSessions().size())
+                        .sum();
+                event.isSuccessful = true;
+            }
+            return addressBook;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private AddressBook buildAddressBook() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
         // Step 1: Add all persons first
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.Attendance;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts between an address book and the rows of the SQL schema.
+ * <p>
+ * Loading goes through {@link JsonSerializableAddressBook} so that the SQL backend applies exactly the same
+ * validation and relationship restoration as the JSON backend.
+ */
+class SqlAddressBookRows {
+
+    static final SqlTable PERSONS = new SqlTable("persons", List.of("person_name"),
+            List.of("phone VARCHAR", "email VARCHAR", "address VARCHAR", "role VARCHAR"));
+    static final SqlTable PERSON_TAGS = new SqlTable("person_tags", List.of("person_name", "tag_name"), List.of());
+    static final SqlTable PARENT_LINKS = new SqlTable("parent_links", List.of("parent_name", "child_name"),
+            List.of());
+    static final SqlTable CLASSES = new SqlTable("classes", List.of("class_name"), List.of("tutor_name VARCHAR"));
+    static final SqlTable ENROLMENTS = new SqlTable("enrolments", List.of("class_name", "student_name"), List.of());
+    static final SqlTable SESSIONS = new SqlTable("sessions", List.of("class_name", "session_name"),
+            List.of("date_time VARCHAR", "location VARCHAR"));
+    static final SqlTable ATTENDANCE = new SqlTable("attendance",
+            List.of("class_name", "session_name", "student_name"),
+            List.of("is_present BOOLEAN", "marked_at VARCHAR"));
+
+    static final List<SqlTable> TABLES = List.of(
+            PERSONS, PERSON_TAGS, PARENT_LINKS, CLASSES, ENROLMENTS, SESSIONS, ATTENDANCE);
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private SqlAddressBookRows() {}
+
+    /**
+     * Returns the rows of every table for {@code addressBook}, in model order and without sequence numbers.
+     */
+    static Map<SqlTable, Map<List<Object>, List<Object>>> fromModel(ReadOnlyAddressBook addressBook) {
+        Map<SqlTable, Map<List<Object>, List<Object>>> rows = new LinkedHashMap<>();
+        TABLES.forEach(table -> rows.put(table, new LinkedHashMap<>()));
+
+        for (Person person : addressBook.getPersonList()) {
+            String name = person.getName().fullName;
+            rows.get(PERSONS).put(List.of(name), List.of(person.getPhone().value, person.getEmail().value,
+                    person.getAddress().value, person.getPersonType().name()));
+            for (Tag tag : person.getTags()) {
+                rows.get(PERSON_TAGS).put(List.of(name, tag.tagName), List.of());
+            }
+            if (person instanceof Parent) {
+                for (Student child : ((Parent) person).getChildren()) {
+                    rows.get(PARENT_LINKS).put(List.of(name, child.getName().fullName), List.of());
+                }
+            }
+        }
+
+        for (TuitionClass tuitionClass : addressBook.getClassList()) {
+            String className = tuitionClass.getName().value;
+            rows.get(CLASSES).put(List.of(className), Arrays.asList(
+                    tuitionClass.isAssignedToTutor() ? tuitionClass.getTutor().getName().fullName : null));
+            for (Student student : tuitionClass.getStudents()) {
+                rows.get(ENROLMENTS).put(List.of(className, student.getName().fullName), List.of());
+            }
+            for (ClassSession session : tuitionClass.getAllSessions()) {
+                rows.get(SESSIONS).put(List.of(className, session.getSessionName()),
+                        Arrays.asList(session.getDateTime().format(FORMATTER), session.getLocation()));
+                for (Map.Entry<Student, Attendance> entry : session.getAttendanceRecord().entrySet()) {
+                    LocalDateTime timestamp = entry.getValue().getTimestamp();
+                    rows.get(ATTENDANCE).put(
+                            List.of(className, session.getSessionName(), entry.getKey().getName().fullName),
+                            List.of(entry.getValue().isPresent(),
+                                    (timestamp != null ? timestamp : LocalDateTime.MIN).format(FORMATTER)));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Assembles the rows of every table back into a {@code JsonSerializableAddressBook}.
+     * Rows are expected in sequence order, with the sequence number as the last value.
+     */
+    static JsonSerializableAddressBook toSerializable(Map<SqlTable, Map<List<Object>, List<Object>>> rows) {
+        Map<Object, List<JsonAdaptedTag>> tagsByPerson = new HashMap<>();
+        rows.get(PERSON_TAGS).keySet().forEach(key ->
+                tagsByPerson.computeIfAbsent(key.get(0), k -> new ArrayList<>())
+                        .add(new JsonAdaptedTag((String) key.get(1))));
+        Map<Object, List<String>> childrenByParent = new HashMap<>();
+        Map<Object, List<String>> parentsByChild = new HashMap<>();
+        rows.get(PARENT_LINKS).keySet().forEach(key -> {
+            childrenByParent.computeIfAbsent(key.get(0), k -> new ArrayList<>()).add((String) key.get(1));
+            parentsByChild.computeIfAbsent(key.get(1), k -> new ArrayList<>()).add((String) key.get(0));
+        });
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        Map<Object, JsonAdaptedPerson> personsByName = new HashMap<>();
+        rows.get(PERSONS).forEach((key, values) -> {
+            Object name = key.get(0);
+            JsonAdaptedPerson person = new JsonAdaptedPerson((String) name, (String) values.get(0),
+                    (String) values.get(1), (String) values.get(2), tagsByPerson.get(name),
+                    values.get(3) == null ? null : PersonType.valueOf((String) values.get(3)),
+                    childrenByParent.get(name), parentsByChild.get(name));
+            persons.add(person);
+            personsByName.put(name, person);
+        });
+
+        Map<List<Object>, List<List<String>>> presentBySession = new HashMap<>();
+        Map<List<Object>, List<List<String>>> absentBySession = new HashMap<>();
+        rows.get(ATTENDANCE).forEach((key, values) -> {
+            List<Object> sessionKey = List.of(key.get(0), key.get(1));
+            List<String> record = new ArrayList<>(List.of((String) key.get(2), (String) values.get(1)));
+            (Boolean.TRUE.equals(values.get(0)) ? presentBySession : absentBySession)
+                    .computeIfAbsent(sessionKey, k -> new ArrayList<>()).add(record);
+        });
+        Map<Object, List<JsonAdaptedSession>> sessionsByClass = new HashMap<>();
+        rows.get(SESSIONS).forEach((key, values) -> sessionsByClass
+                .computeIfAbsent(key.get(0), k -> new ArrayList<>())
+                .add(new JsonAdaptedSession((String) key.get(1), (String) values.get(0), (String) values.get(1),
+                        presentBySession.get(key), absentBySession.get(key))));
+        Map<Object, List<JsonAdaptedPerson>> studentsByClass = new HashMap<>();
+        rows.get(ENROLMENTS).keySet().forEach(key -> studentsByClass
+                .computeIfAbsent(key.get(0), k -> new ArrayList<>())
+                .add(adaptedPersonNamed(personsByName, key.get(1))));
+
+        List<JsonAdaptedClass> classes = new ArrayList<>();
+        rows.get(CLASSES).forEach((key, values) -> classes.add(new JsonAdaptedClass((String) key.get(0),
+                values.get(0) == null ? null : adaptedPersonNamed(personsByName, values.get(0)),
+                studentsByClass.get(key.get(0)), sessionsByClass.get(key.get(0)))));
+
+        return new JsonSerializableAddressBook(persons, classes);
+    }
+
+    /**
+     * Returns the adapted person called {@code name}, or a person carrying only the name if there is none,
+     * which {@link JsonSerializableAddressBook#toModelType()} then rejects.
+     */
+    private static JsonAdaptedPerson adaptedPersonNamed(Map<Object, JsonAdaptedPerson> personsByName, Object name) {
+        JsonAdaptedPerson person = personsByName.get(name);
+        return person != null
+                ? person
+                : new JsonAdaptedPerson((String) name, null, null, null, null, null, null, null);
+    }
+
+}
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ * <p>
+ * Persons, tags, parent links, classes, enrolments, sessions and attendance are kept in separate tables.
+ * The storage remembers the rows it last read or wrote, so each save only inserts, updates or deletes the
+ * rows that differ, all inside a single transaction.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** File name suffix that H2 appends to the database name. */
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private Path filePath;
+
+    /** Rows as last read from or written to {@code persistedPath}. */
+    private Map<SqlTable, Map<List<Object>, List<Object>>> persistedRows;
+    private Path persistedPath;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Map<SqlTable, Map<List<Object>, List<Object>>> rows;
+        try (Connection connection = openConnection(filePath)) {
+            createTables(connection);
+            rows = readRows(connection);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            ReadOnlyAddressBook addressBook = SqlAddressBookRows.toSerializable(rows).toModelType();
+            persistedRows = rows;
+            persistedPath = filePath;
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Map<SqlTable, Map<List<Object>, List<Object>>> currentRows = SqlAddressBookRows.fromModel(addressBook);
+        try (Connection connection = openConnection(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                createTables(connection);
+                Map<SqlTable, Map<List<Object>, List<Object>>> previousRows = filePath.equals(persistedPath)
+                        ? persistedRows
+                        : readRows(connection);
+                Map<SqlTable, Map<List<Object>, List<Object>>> savedRows = new LinkedHashMap<>();
+                int changedRows = 0;
+                for (SqlTable table : SqlAddressBookRows.TABLES) {
+                    Map<List<Object>, List<Object>> sequenced =
+                            SqlTable.sequence(previousRows.get(table), currentRows.get(table));
+                    changedRows += writeChanges(connection, table, previousRows.get(table), sequenced);
+                    savedRows.put(table, sequenced);
+                }
+                connection.commit();
+                persistedRows = savedRows;
+                persistedPath = filePath;
+                logger.fine("Saved " + changedRows + " changed row(s) to " + filePath);
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save data to database " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copies the data in {@code source} into this storage if this storage's database does not exist yet.
+     *
+     * @return true if data was copied, false if the database already exists or {@code source} has no data.
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if the copied data could not be saved.
+     */
+    public boolean migrateFrom(AddressBookStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        if (Files.exists(filePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> sourceData = source.readAddressBook();
+        if (sourceData.isEmpty()) {
+            return false;
+        }
+        saveAddressBook(sourceData.get());
+        logger.info(() -> "Migrated data from " + source.getAddressBookFilePath() + " to " + filePath);
+        return true;
+    }
+
+    /**
+     * Returns a connection to the H2 database stored at {@code filePath}.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException {
+        String databaseName = filePath.toAbsolutePath().toString();
+        if (databaseName.endsWith(DATABASE_FILE_SUFFIX)) {
+            databaseName = databaseName.substring(0, databaseName.length() - DATABASE_FILE_SUFFIX.length());
+        }
+        return DriverManager.getConnection("jdbc:h2:file:" + databaseName);
+    }
+
+    private static void createTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (SqlTable table : SqlAddressBookRows.TABLES) {
+                statement.execute(table.createStatement());
+            }
+        }
+    }
+
+    private static Map<SqlTable, Map<List<Object>, List<Object>>> readRows(Connection connection)
+            throws SQLException {
+        Map<SqlTable, Map<List<Object>, List<Object>>> rows = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            for (SqlTable table : SqlAddressBookRows.TABLES) {
+                Map<List<Object>, List<Object>> tableRows = new LinkedHashMap<>();
+                try (ResultSet resultSet = statement.executeQuery(table.selectStatement())) {
+                    while (resultSet.next()) {
+                        List<Object> key = new ArrayList<>();
+                        for (int i = 1; i <= table.getKeyWidth(); i++) {
+                            key.add(resultSet.getString(i));
+                        }
+                        List<Object> values = new ArrayList<>();
+                        for (int i = table.getKeyWidth() + 1; i < table.getKeyWidth() + table.getValueWidth(); i++) {
+                            values.add(resultSet.getObject(i));
+                        }
+                        values.add(resultSet.getLong(table.getKeyWidth() + table.getValueWidth()));
+                        tableRows.put(key, values);
+                    }
+                }
+                rows.put(table, tableRows);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Writes the difference between {@code previous} and {@code current} to {@code table}.
+     *
+     * @return the number of rows inserted, updated or deleted.
+     */
+    private static int writeChanges(Connection connection, SqlTable table, Map<List<Object>, List<Object>> previous,
+            Map<List<Object>, List<Object>> current) throws SQLException {
+        int changes = 0;
+        try (PreparedStatement delete = connection.prepareStatement(table.deleteStatement());
+                PreparedStatement insert = connection.prepareStatement(table.insertStatement());
+                PreparedStatement update = connection.prepareStatement(table.updateStatement())) {
+            for (List<Object> key : previous.keySet()) {
+                if (!current.containsKey(key)) {
+                    setParameters(delete, key);
+                    delete.addBatch();
+                    changes++;
+                }
+            }
+            for (Map.Entry<List<Object>, List<Object>> row : current.entrySet()) {
+                List<Object> previousValues = previous.get(row.getKey());
+                if (previousValues == null) {
+                    List<Object> parameters = new ArrayList<>(row.getKey());
+                    parameters.addAll(row.getValue());
+                    setParameters(insert, parameters);
+                    insert.addBatch();
+                    changes++;
+                } else if (!previousValues.equals(row.getValue())) {
+                    List<Object> parameters = new ArrayList<>(row.getValue());
+                    parameters.addAll(row.getKey());
+                    setParameters(update, parameters);
+                    update.addBatch();
+                    changes++;
+                }
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+            update.executeBatch();
+        }
+        return changes;
+    }
+
+    private static void setParameters(PreparedStatement statement, List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Describes one table of the SQL address book schema.
+ * <p>
+ * A row is identified by its key columns and carries zero or more value columns followed by a
+ * {@code seq} column. The sequence number records the row's position in the in-memory model so
+ * that lists are restored in the same order they were saved in. Rows are represented as
+ * {@code key -> values} maps where the last element of {@code values} is the sequence number.
+ */
+class SqlTable {
+
+    static final String SEQ_COLUMN = "seq";
+
+    private final String name;
+    private final List<String> keyColumns;
+    private final List<String> valueColumns;
+    private final List<String> valueTypes;
+
+    /**
+     * Creates a table description.
+     *
+     * @param name Name of the table.
+     * @param keyColumns Names of the primary key columns, all stored as {@code VARCHAR}.
+     * @param valueColumns Column definitions of the form {@code "<name> <type>"}.
+     */
+    SqlTable(String name, List<String> keyColumns, List<String> valueColumns) {
+        this.name = name;
+        this.keyColumns = List.copyOf(keyColumns);
+        this.valueColumns = valueColumns.stream().map(c -> c.split(" ")[0]).collect(Collectors.toList());
+        this.valueTypes = valueColumns.stream().map(c -> c.split(" ")[1]).collect(Collectors.toList());
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getKeyWidth() {
+        return keyColumns.size();
+    }
+
+    /** Returns the number of value columns, including the trailing sequence column. */
+    int getValueWidth() {
+        return valueColumns.size() + 1;
+    }
+
+    String createStatement() {
+        StringBuilder sb = new StringBuilder("CREATE TABLE IF NOT EXISTS ").append(name).append(" (");
+        for (String key : keyColumns) {
+            sb.append(key).append(" VARCHAR NOT NULL, ");
+        }
+        for (int i = 0; i < valueColumns.size(); i++) {
+            sb.append(valueColumns.get(i)).append(' ').append(valueTypes.get(i)).append(", ");
+        }
+        sb.append(SEQ_COLUMN).append(" BIGINT NOT NULL, PRIMARY KEY (")
+                .append(String.join(", ", keyColumns)).append("))");
+        return sb.toString();
+    }
+
+    String selectStatement() {
+        return "SELECT " + String.join(", ", allColumns()) + " FROM " + name + " ORDER BY " + SEQ_COLUMN;
+    }
+
+    String insertStatement() {
+        List<String> columns = allColumns();
+        return "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
+    /** Returns an update statement whose parameters are the values (with sequence) followed by the key. */
+    String updateStatement() {
+        String assignments = Stream.concat(valueColumns.stream(), Stream.of(SEQ_COLUMN))
+                .map(c -> c + " = ?")
+                .collect(Collectors.joining(", "));
+        return "UPDATE " + name + " SET " + assignments + " WHERE " + keyCondition();
+    }
+
+    String deleteStatement() {
+        return "DELETE FROM " + name + " WHERE " + keyCondition();
+    }
+
+    private String keyCondition() {
+        return keyColumns.stream().map(c -> c + " = ?").collect(Collectors.joining(" AND "));
+    }
+
+    private List<String> allColumns() {
+        List<String> columns = new ArrayList<>(keyColumns);
+        columns.addAll(valueColumns);
+        columns.add(SEQ_COLUMN);
+        return columns;
+    }
+
+    /**
+     * Returns {@code current} with a sequence number appended to every row.
+     * <p>
+     * Rows that already exist in {@code previous} keep their sequence number, and a row that takes the
+     * place of a removed row (e.g. an edited person whose name changed) inherits the removed row's number,
+     * so that a typical command only touches the rows it actually changed. Other new rows are numbered
+     * after the largest existing number. If that would not reproduce the order of {@code current}, every
+     * row is renumbered instead.
+     *
+     * @param previous Rows as last persisted, with sequence numbers.
+     * @param current Rows in model order, without sequence numbers.
+     */
+    static Map<List<Object>, List<Object>> sequence(Map<List<Object>, List<Object>> previous,
+            Map<List<Object>, List<Object>> current) {
+        List<List<Object>> previousKeys = new ArrayList<>(previous.keySet());
+        long nextSeq = previous.values().stream().mapToLong(SqlTable::seqOf).max().orElse(0) + 1;
+
+        Map<List<Object>, List<Object>> sequenced = new LinkedHashMap<>();
+        Set<Long> usedSeqs = new HashSet<>();
+        long lastSeq = Long.MIN_VALUE;
+        boolean isOrdered = true;
+        int index = 0;
+        for (Map.Entry<List<Object>, List<Object>> row : current.entrySet()) {
+            long seq;
+            List<Object> previousRow = previous.get(row.getKey());
+            if (previousRow != null) {
+                seq = seqOf(previousRow);
+            } else if (index < previousKeys.size() && !current.containsKey(previousKeys.get(index))) {
+                seq = seqOf(previous.get(previousKeys.get(index)));
+            } else {
+                seq = nextSeq++;
+            }
+            isOrdered &= seq > lastSeq && usedSeqs.add(seq);
+            lastSeq = seq;
+            sequenced.put(row.getKey(), withSeq(row.getValue(), seq));
+            index++;
+        }
+
+        if (!isOrdered) {
+            sequenced.clear();
+            long seq = 1;
+            for (Map.Entry<List<Object>, List<Object>> row : current.entrySet()) {
+                sequenced.put(row.getKey(), withSeq(row.getValue(), seq++));
+            }
+        }
+        return sequenced;
+    }
+
+    private static long seqOf(List<Object> values) {
+        return ((Number) values.get(values.size() - 1)).longValue();
+    }
+
+    private static List<Object> withSeq(List<Object> values, long seq) {
+        List<Object> result = new ArrayList<>(values);
+        result.add(seq);
+        return result;
+    }
+
+}
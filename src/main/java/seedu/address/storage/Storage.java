@@ -23,6 +23,18 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the file path of the address book called {@code name}, which is stored next to the
+     * current address book file and in the same format.
+     */
+    Path getAddressBookFilePath(String name);
+
+    /**
+     * Makes {@link #readAddressBook()} and {@link #saveAddressBook(ReadOnlyAddressBook)} use the file of
+     * the address book called {@code name}.
+     */
+    void setAddressBookName(String name);
+
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
@@ -7,6 +7,8 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JmxUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,6 +21,13 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private Path addressBookFilePath;
+
+    // Written by the thread that saves and read by JMX clients
+    private volatile long saveCount;
+    private volatile long saveFailureCount;
+    private volatile long lastSaveNanos;
+    private volatile long maxSaveNanos;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -26,6 +35,7 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookFilePath = addressBookStorage.getAddressBookFilePath();
     }
 
     // ================ UserPrefs methods ==============================
@@ -50,29 +60,89 @@ public class StorageManager implements Storage {
 
     @Override
     public Path getAddressBookFilePath() {
-        return addressBookStorage.getAddressBookFilePath();
+        return addressBookFilePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath(String name) {
+        return FileUtil.replaceFileNameStem(addressBookFilePath, name);
+    }
+
+    @Override
+    public void setAddressBookName(String name) {
+        addressBookFilePath = getAddressBookFilePath(name);
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        return readAddressBook(addressBookFilePath);
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        saveAddressBook(addressBook, addressBookFilePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
+        boolean isSuccessful = false;
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            isSuccessful = true;
+        } finally {
+            recordSave(System.nanoTime() - start, isSuccessful);
+        }
+    }
+
+    private synchronized void recordSave(long nanos, boolean isSuccessful) {
+        saveCount++;
+        if (!isSuccessful) {
+            saveFailureCount++;
+        }
+        lastSaveNanos = nanos;
+        maxSaveNanos = Math.max(maxSaveNanos, nanos);
+    }
+
+    // ================ Statistics methods ==============================
+
+    /**
+     * Returns the number of times that an address book has been saved, including the saves that failed.
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    public long getSaveFailureCount() {
+        return saveFailureCount;
+    }
+
+    /**
+     * Returns how long the latest save took in nanoseconds, or 0 if nothing has been saved.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns how long the slowest save took in nanoseconds, or 0 if nothing has been saved.
+     */
+    public long getMaxSaveNanos() {
+        return maxSaveNanos;
+    }
+
+    /**
+     * Registers the statistics of this storage with the platform MBean server, as {@code seedu.address:type=Storage}.
+     */
+    public void registerMBean() {
+        JmxUtil.register(StorageStatisticsBean.TYPE, new StorageStatisticsBean(this));
     }
 
 }
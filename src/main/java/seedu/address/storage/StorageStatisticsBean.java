@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exposes the save statistics of a {@link StorageManager} and the size of its data file over JMX.
+ */
+class StorageStatisticsBean implements StorageStatisticsMXBean {
+
+    static final String TYPE = "Storage";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final StorageManager storage;
+
+    StorageStatisticsBean(StorageManager storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    @Override
+    public String getDataFilePath() {
+        return storage.getAddressBookFilePath().toString();
+    }
+
+    @Override
+    public long getDataFileSize() {
+        Path path = storage.getAddressBookFilePath();
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public long getSaveCount() {
+        return storage.getSaveCount();
+    }
+
+    @Override
+    public long getSaveFailureCount() {
+        return storage.getSaveFailureCount();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return storage.getLastSaveNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxSaveMillis() {
+        return storage.getMaxSaveNanos() / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.storage;
+
+/**
+ * The management interface through which JMX clients such as JConsole read how the address book has been saved.
+ */
+public interface StorageStatisticsMXBean {
+
+    String getDataFilePath();
+
+    /**
+     * Returns the size of the data file in bytes, or -1 if it does not exist or cannot be read.
+     */
+    long getDataFileSize();
+
+    long getSaveCount();
+
+    long getSaveFailureCount();
+
+    double getLastSaveMillis();
+
+    double getMaxSaveMillis();
+}
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +21,26 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -49,6 +61,38 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Tab button pressed event by completing the command word being typed, as far as it is
+     * shared by every command word that starts with it.
+     */
+    private void handleCompletionRequested() {
+        String commandText = commandTextField.getText();
+        if (commandText.isEmpty() || commandText.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        }
+
+        List<String> completions = commandCompleter.complete(commandText);
+        if (completions.isEmpty()) {
+            return;
+        }
+        String completed = completions.size() == 1 ? completions.get(0) + " " : getCommonPrefix(completions);
+        commandTextField.setText(completed);
+        commandTextField.end();
+    }
+
+    private static String getCommonPrefix(List<String> words) {
+        String prefix = words.get(0);
+        for (String word : words) {
+            int length = 0;
+            while (length < prefix.length() && length < word.length()
+                    && prefix.charAt(length) == word.charAt(length)) {
+                length++;
+            }
+            prefix = prefix.substring(0, length);
+        }
+        return prefix;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +126,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests command words.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command words that start with {@code prefix}.
+         *
+         * @see seedu.address.logic.Logic#getCommandCompletions(String)
+         */
+        List<String> complete(String prefix);
+    }
+
 }
@@ -23,7 +23,8 @@ public class HelpWindow extends UiPart<Stage> {
             + "delete - Delete a person\n"
             + "list - List all persons\n"
             + "find - Find persons by keyword\n"
-            + "filter - Filter persons by role\n\n"
+            + "filter - Filter persons by role\n"
+            + "query - List persons by role, tag, class, relationship and name\n\n"
             + "=== CLASS MANAGEMENT ===\n"
             + "addclass - Add a tuition class\n"
             + "editclass - Edit a class\n"
@@ -31,22 +32,34 @@ public class HelpWindow extends UiPart<Stage> {
             + "listclass - List all classes\n"
             + "join - Add person to class\n"
             + "unjoin - Remove person from class\n"
+            + "joinall / unjoinall - Add or remove many students by name or tag\n"
             + "liststudents - List students in class\n\n"
             + "=== SESSION MANAGEMENT ===\n"
             + "addsession - Add a session\n"
+            + "addrecurring - Add numbered sessions that repeat every few days\n"
             + "deletesession - Delete a session\n"
             + "listsessions - List sessions of class\n"
             + "viewsession - View session details\n\n"
             + "=== ATTENDANCE ===\n"
-            + "attend - Mark attendance\n\n"
+            + "attend - Mark attendance\n"
+            + "attendall - Mark attendance for many students at once\n"
+            + "export - Export attendance to a CSV or JSON Lines file\n\n"
             + "=== PARENT-CHILD RELATIONSHIPS ===\n"
             + "link - Link parent to child\n"
             + "childrenof - List children of parent\n"
             + "parentsof - List parents of child\n\n"
             + "=== GENERAL ===\n"
+            + "import - Import persons from a CSV file\n"
+            + "switch - Switch to another address book\n"
+            + "run - Run the commands in a script file\n"
+            + "begin, commit, rollback - Keep or undo a group of changes together\n"
+            + "undo, redo - Undo or redo the latest change\n"
+            + "latency - Show how long each command has taken\n"
+            + "footprint - Show how much memory the data takes\n"
             + "clear - Clear all entries\n"
-            + "help - Show this help window\n"
+            + "help [COMMAND_WORD] - Show this help window, or the usage of a command\n"
             + "exit - Exit the program\n\n"
+            + "Command words can be shortened as long as they stay unique, and Tab completes them.\n\n"
             + "For detailed documentation, visit:\n" + USERGUIDE_URL;
 
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
@@ -12,7 +12,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.Logic;
+import seedu.address.logic.SlowCommandLog;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -35,6 +37,7 @@ public class MainWindow extends UiPart<Stage> {
     private SessionListPanel sessionListPanel;
     private ClassListPanel classListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -128,10 +131,10 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.readyProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -203,7 +206,9 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            boolean isTimed = CommandMetrics.isEnabled() || SlowCommandLog.isEnabled();
+            long refreshStartTime = isTimed ? System.nanoTime() : 0;
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -214,6 +219,10 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
+            if (commandResult.getAddressBookName().isPresent()) {
+                statusBarFooter.setSaveLocation(logic.getAddressBookFilePath());
+            }
+
             // Handle panel switching based on display type
             switch (commandResult.getDisplayType()) {
             case SESSIONS:
@@ -228,9 +237,12 @@ public class MainWindow extends UiPart<Stage> {
                 break;
             }
 
+            if (isTimed) {
+                logic.recordUiRefreshTime(System.nanoTime() - refreshStartTime);
+            }
             return commandResult;
         } catch (IllegalArgumentException | CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
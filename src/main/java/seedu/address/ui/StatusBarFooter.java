@@ -3,8 +3,10 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 
 /**
@@ -17,12 +19,35 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private ProgressBar loadingProgress;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * A progress indicator is shown for as long as {@code ready} is false.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<Boolean> ready) {
         super(FXML);
+        setSaveLocation(saveLocation);
+        setLoading(!ready.getValue());
+        ready.addListener((observable, wasReady, isReady) -> setLoading(!isReady));
+    }
+
+    /**
+     * Shows {@code saveLocation} as the location the data is saved to.
+     */
+    public void setSaveLocation(Path saveLocation) {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    private void setLoading(boolean isLoading) {
+        loadingStatus.setVisible(isLoading);
+        loadingStatus.setManaged(isLoading);
+        loadingProgress.setVisible(isLoading);
+        loadingProgress.setManaged(isLoading);
+    }
+
 }
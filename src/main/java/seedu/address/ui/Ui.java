@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code message} to the user as an error, from any thread. */
+    void showErrorLater(String title, String message);
+
 }
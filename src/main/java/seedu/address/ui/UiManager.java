@@ -50,6 +50,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showErrorLater(String title, String message) {
+        Platform.runLater(() -> showAlertDialogAndWait(AlertType.ERROR, title, title, message));
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,113 @@
+package seedu.address.perf;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.TuitionClass;
+
+/**
+ * Runs the main commands end to end, from the command text to the saved file, against generated address books of
+ * increasing size, and fails if one of them is over its budget. See {@link PerfBudget}.
+ * <p>
+ * The time budgets leave room for slower machines, and are meant to catch a change in how the time grows rather
+ * than a few percent: a path that is quadratic in the number of persons has an exponent of about 2. The allocation
+ * budgets do not depend on the machine, so each is twice the bytes measured at the largest size, rounded up.
+ */
+public class EndToEndPerfTest {
+
+    /** The numbers of students in the address books, in increasing order. */
+    private static final int[] SIZES = {1000, 2000, 4000};
+
+    /** The exponent budget of an operation that should do a fixed amount of work per person or class. */
+    private static final double LINEAR = 1.5;
+    private static final long KB = 1024;
+    private static final long MB = 1024 * KB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void load() throws Exception {
+        PerfBudget budget = new PerfBudget("load", 8000, 1400 * MB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            budget.measure(size, run -> fixture.storage.readAddressBook().orElseThrow());
+        }
+        budget.check();
+    }
+
+    @Test
+    public void save() throws Exception {
+        PerfBudget budget = new PerfBudget("save", 1000, 240 * MB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            budget.measure(size, run -> fixture.storage.saveAddressBook(fixture.model.getAddressBook()));
+        }
+        budget.check();
+    }
+
+    @Test
+    public void find() throws Exception {
+        PerfBudget budget = new PerfBudget("find", 250, 56 * MB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            budget.measure(size, run -> fixture.execute("find Tan Lim"));
+        }
+        budget.check();
+    }
+
+    @Test
+    public void attend() throws Exception {
+        PerfBudget budget = new PerfBudget("attend", 1000, 240 * MB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            TuitionClass tuitionClass = fixture.getLargestClass();
+            List<String> sessions = PerfFixture.getSessionNames(tuitionClass);
+            List<String> students = tuitionClass.getStudents().stream()
+                    .map(student -> student.getName().fullName).toList();
+            budget.measure(size, run -> fixture.execute("attend n/" + students.get(run % students.size())
+                    + " c/" + tuitionClass.getClassName() + " s/" + sessions.get(run % sessions.size())
+                    + " status/" + (run % 2 == 0 ? "ABSENT" : "PRESENT")));
+        }
+        budget.check();
+    }
+
+    @Test
+    public void joinClass() throws Exception {
+        PerfBudget budget = new PerfBudget("join", 1000, 240 * MB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            TuitionClass newClass = new TuitionClass(new ClassName("Perf Class"));
+            fixture.model.addClass(newClass);
+            List<String> students = fixture.getStudentNames();
+            budget.measure(size, run -> fixture.execute("join n/" + students.get(run) + " c/Perf Class"));
+        }
+        budget.check();
+    }
+
+    @Test
+    public void listSessions() throws Exception {
+        PerfBudget budget = new PerfBudget("listsessions", 50, 96 * KB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            String className = fixture.getLargestClass().getClassName();
+            budget.measure(size, run -> fixture.execute("listsessions c/" + className));
+        }
+        budget.check();
+    }
+
+    @Test
+    public void deleteClass() throws Exception {
+        PerfBudget budget = new PerfBudget("deleteclass", 1000, 240 * MB, LINEAR);
+        for (int size : SIZES) {
+            PerfFixture fixture = PerfFixture.generate(size, temporaryFolder);
+            List<String> classNames = fixture.getClasses().stream().map(TuitionClass::getClassName).toList();
+            budget.measure(size, run -> fixture.execute("deleteclass c/" + classNames.get(run)));
+        }
+        budget.check();
+    }
+}
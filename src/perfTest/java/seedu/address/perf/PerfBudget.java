@@ -0,0 +1,165 @@
+package seedu.address.perf;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Measures an operation against address books of increasing size and checks the measurements against budgets:
+ * the median time and the bytes allocated per run at the largest size, and how fast the time grows with the size.
+ * <p>
+ * The growth is the exponent {@code k} of the best fit of {@code time = c * size^k}, so about 1 for an operation
+ * that does a fixed amount of work per person and about 2 for one that compares every person with every other.
+ * The same exponent is fitted to the allocated bytes, which do not depend on timer noise or the machine, and is
+ * always checked. The exponent of the time is only checked once the operation takes long enough at the largest
+ * size for timer noise not to dominate.
+ * <p>
+ * Time budgets are multiplied by the {@code perf.budgetScale} system property (default: 1), so that slower machines
+ * can run the suite without changing the budgets.
+ */
+class PerfBudget {
+
+    static final int WARMUP_RUNS = 3;
+    static final int MEASURED_RUNS = 7;
+
+    /** The shortest median time, in ms, at which the growth exponent is checked. */
+    static final double MIN_MILLIS_FOR_EXPONENT = 5;
+
+    private static final double BUDGET_SCALE = Double.parseDouble(System.getProperty("perf.budgetScale", "1"));
+
+    /**
+     * An operation to measure. {@code run} is given the number of the run, counting warm-up runs, so that an
+     * operation that cannot be repeated on the same data can pick different data each time.
+     */
+    @FunctionalInterface
+    interface Operation {
+        void run(int run) throws Exception;
+    }
+
+    /**
+     * The measurements of an operation at one size.
+     */
+    static class Sample {
+        final int size;
+        final double medianMillis;
+        final long allocatedBytes;
+
+        Sample(int size, double medianMillis, long allocatedBytes) {
+            this.size = size;
+            this.medianMillis = medianMillis;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    private final String scenario;
+    private final double maxMillis;
+    private final long maxAllocatedBytes;
+    private final double maxExponent;
+    private final List<Sample> samples = new ArrayList<>();
+
+    /**
+     * Creates a budget for {@code scenario}, with the limits that apply at the largest size.
+     */
+    PerfBudget(String scenario, double maxMillis, long maxAllocatedBytes, double maxExponent) {
+        this.scenario = scenario;
+        this.maxMillis = maxMillis * BUDGET_SCALE;
+        this.maxAllocatedBytes = maxAllocatedBytes;
+        this.maxExponent = maxExponent;
+    }
+
+    /**
+     * Runs {@code operation} on an address book of {@code size} students, and records its median time and the
+     * median of the bytes it allocates on this thread.
+     */
+    void measure(int size, Operation operation) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            operation.run(run);
+        }
+
+        long[] nanos = new long[MEASURED_RUNS];
+        long[] allocated = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            operation.run(WARMUP_RUNS + i);
+            nanos[i] = System.nanoTime() - start;
+            allocated[i] = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        samples.add(new Sample(size, median(nanos) / 1e6, median(allocated)));
+    }
+
+    /**
+     * Prints the measurements, and fails if the largest size is over the time or allocation budget, or the time or
+     * the allocated bytes grow faster than the exponent budget.
+     */
+    void check() {
+        Sample largest = samples.get(samples.size() - 1);
+        double exponent = getExponent();
+        double allocationExponent = getAllocationExponent();
+        StringBuilder report = new StringBuilder("[perf] " + scenario + ":");
+        for (Sample sample : samples) {
+            report.append(String.format(" %d students %.2f ms %.1f KB;", sample.size, sample.medianMillis,
+                    sample.allocatedBytes / 1024.0));
+        }
+        System.out.println(report.append(String.format(" exponent %.2f, of allocation %.2f", exponent,
+                allocationExponent)));
+
+        assertTrue(largest.medianMillis <= maxMillis, String.format(
+                "%s took %.2f ms at %d students, over its budget of %.2f ms", scenario, largest.medianMillis,
+                largest.size, maxMillis));
+        assertTrue(largest.allocatedBytes <= maxAllocatedBytes, String.format(
+                "%s allocated %d bytes at %d students, over its budget of %d bytes", scenario,
+                largest.allocatedBytes, largest.size, maxAllocatedBytes));
+        assertTrue(largest.medianMillis < MIN_MILLIS_FOR_EXPONENT || exponent <= maxExponent, String.format(
+                "%s grew with exponent %.2f of the number of students, over its budget of %.2f", scenario,
+                exponent, maxExponent));
+        assertTrue(allocationExponent <= maxExponent, String.format(
+                "%s allocated bytes that grew with exponent %.2f of the number of students, over its budget of %.2f",
+                scenario, allocationExponent, maxExponent));
+    }
+
+    /**
+     * Returns the slope of the least-squares line through the logarithms of the sizes and median times.
+     */
+    double getExponent() {
+        return getExponent(sample -> sample.medianMillis);
+    }
+
+    /**
+     * Returns the slope of the least-squares line through the logarithms of the sizes and allocated bytes.
+     */
+    double getAllocationExponent() {
+        return getExponent(sample -> sample.allocatedBytes);
+    }
+
+    private double getExponent(ToDoubleFunction<Sample> measurement) {
+        int n = samples.size();
+        double meanX = 0;
+        double meanY = 0;
+        for (Sample sample : samples) {
+            meanX += Math.log(sample.size) / n;
+            meanY += Math.log(Math.max(measurement.applyAsDouble(sample), 1e-6)) / n;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (Sample sample : samples) {
+            double x = Math.log(sample.size) - meanX;
+            covariance += x * (Math.log(Math.max(measurement.applyAsDouble(sample), 1e-6)) - meanY);
+            variance += x * x;
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
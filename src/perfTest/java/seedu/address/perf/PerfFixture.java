@@ -0,0 +1,93 @@
+package seedu.address.perf;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Student;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.model.util.SampleDataGenerator.Size;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * A generated address book of a given number of students, opened the way the application opens one: in a
+ * {@code ModelManager} behind a {@code LogicManager} that saves to a JSON file after each command that may change it.
+ */
+class PerfFixture {
+
+    /** The weeks of sessions of each class. Fewer than a year, so that the largest address books load quickly. */
+    static final int WEEKS = 12;
+
+    final int students;
+    final ModelManager model;
+    final StorageManager storage;
+    final Logic logic;
+
+    private PerfFixture(int students, ModelManager model, StorageManager storage) {
+        this.students = students;
+        this.model = model;
+        this.storage = storage;
+        this.logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Generates an address book of {@code students} students, saves it in {@code folder} and opens it.
+     */
+    static PerfFixture generate(int students, Path folder) throws Exception {
+        Size typical = Size.ofStudents(students);
+        AddressBook addressBook = new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED)
+                .generate(new Size(students, typical.tutors, typical.classes, WEEKS));
+        Path file = folder.resolve("perf-" + students + ".json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(file),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        storage.saveAddressBook(addressBook);
+        return new PerfFixture(students, new ModelManager(addressBook, new UserPrefs()), storage);
+    }
+
+    CommandResult execute(String commandText) throws Exception {
+        return logic.execute(commandText);
+    }
+
+    List<TuitionClass> getClasses() {
+        return model.getAddressBook().getClassList();
+    }
+
+    /**
+     * Returns the class with the most students, so that commands on it do the most work.
+     */
+    TuitionClass getLargestClass() {
+        TuitionClass largest = getClasses().get(0);
+        for (TuitionClass tuitionClass : getClasses()) {
+            if (tuitionClass.getStudentCountProperty().get() > largest.getStudentCountProperty().get()) {
+                largest = tuitionClass;
+            }
+        }
+        return largest;
+    }
+
+    List<String> getStudentNames() {
+        List<String> names = new ArrayList<>();
+        model.getAddressBook().getPersonList().stream()
+                .filter(person -> person instanceof Student)
+                .forEach(person -> names.add(person.getName().fullName));
+        return names;
+    }
+
+    static List<String> getSessionNames(TuitionClass tuitionClass) {
+        List<String> names = new ArrayList<>();
+        for (ClassSession session : tuitionClass.getAllSessions()) {
+            names.add(session.getSessionName());
+        }
+        return names;
+    }
+}
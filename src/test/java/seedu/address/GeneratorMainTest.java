@@ -0,0 +1,57 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class GeneratorMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void run_validArguments_savesAddressBook() throws Exception {
+        Path file = temporaryFolder.resolve("generated.json");
+
+        int status = run("--students=30", "--tutors=2", "--classes=3", "--weeks=4", "--seed=5", "--output=" + file);
+
+        assertEquals(0, status);
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(file).readAddressBook().get();
+        assertEquals(3, addressBook.getClassList().size());
+        assertEquals(String.format(GeneratorMain.MESSAGE_SUCCESS, addressBook.getPersonList().size(), 3, file)
+                + System.lineSeparator(), output(out));
+        assertEquals("", output(err));
+    }
+
+    @Test
+    public void run_invalidArguments_printsUsage() {
+        assertEquals(1, run("--students=many"));
+        assertTrue(output(err).contains(GeneratorMain.MESSAGE_USAGE));
+
+        err.reset();
+        assertEquals(1, run("--colour=blue"));
+        assertTrue(output(err).startsWith("Unknown argument: --colour=blue"));
+    }
+
+    private int run(String... args) {
+        return GeneratorMain.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        logic = new LogicManager(new ModelManager(), storage);
+    }
+
+    @Test
+    public void runCommands_validAndInvalidCommands_printsFeedbackAndCountsFailures() throws Exception {
+        int failedCommands = run("list\n\n   \nunknowncommand\nlist\n", false);
+
+        assertEquals(1, failedCommands);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output(out));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), output(err));
+    }
+
+    @Test
+    public void runCommands_exitCommand_stopsReading() throws Exception {
+        int failedCommands = run("exit\nunknowncommand\n", false);
+
+        assertEquals(0, failedCommands);
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output(out));
+        assertEquals("", output(err));
+    }
+
+    @Test
+    public void runCommands_showPrompt_promptsBeforeEachLine() throws Exception {
+        run("list\n", true);
+
+        assertEquals(HeadlessMain.PROMPT + ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + HeadlessMain.PROMPT, output(out));
+    }
+
+    private int run(String input, boolean showPrompt) throws Exception {
+        return HeadlessMain.runCommands(logic, new BufferedReader(new StringReader(input)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8),
+                showPrompt);
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+}
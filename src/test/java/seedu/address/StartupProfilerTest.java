@@ -0,0 +1,90 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.StartupProfiler.PhaseTiming;
+import seedu.address.commons.util.JsonUtil;
+
+public class StartupProfilerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void endPhase_recordsPhasesOneAfterAnother() {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.endPhase("config");
+        int[] allocated = new int[100_000];
+        profiler.endPhase("model");
+
+        List<PhaseTiming> phases = profiler.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("config", phases.get(0).getName());
+        assertEquals("model", phases.get(1).getName());
+        assertEquals(Thread.currentThread().getName(), phases.get(1).getThreadName());
+        // The JVMs that the tests run on can tell how much each thread allocates
+        assertTrue(phases.get(1).getAllocatedBytes() >= 4L * allocated.length);
+        assertTrue(profiler.getTotalMillis() >= 0);
+    }
+
+    @Test
+    public void time_recordsPhaseOnAnyThreadEvenIfItFails() throws Exception {
+        StartupProfiler profiler = new StartupProfiler();
+        Thread loader = new Thread(() -> assertEquals("data", profiler.time("read data", () -> "data")), "loader");
+        loader.start();
+        loader.join();
+        assertThrows(IllegalStateException.class, () -> profiler.time("show window", () -> {
+            throw new IllegalStateException();
+        }));
+
+        List<PhaseTiming> phases = profiler.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("read data", phases.get(0).getName());
+        assertEquals("loader", phases.get(0).getThreadName());
+        assertEquals("show window", phases.get(1).getName());
+    }
+
+    @Test
+    public void getSummary_listsEachPhase() {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.endPhase("config");
+        profiler.time("read data", () -> { });
+
+        String[] lines = profiler.getSummary().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("Startup took "));
+        assertTrue(lines[1].trim().startsWith("config "));
+        assertTrue(lines[2].trim().startsWith("read data "));
+    }
+
+    @Test
+    public void writeJson_writesTotalAndPhases() throws Exception {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.endPhase("config");
+        profiler.endPhase("ui");
+        Path profilePath = temporaryFolder.resolve("startup.json");
+        profiler.writeJson(profilePath);
+
+        Map<?, ?> profile = JsonUtil.readJsonFile(profilePath, Map.class).get();
+        assertEquals(profiler.getTotalMillis(), ((Number) profile.get("totalMillis")).longValue());
+        assertTrue(profile.containsKey("uptimeMillis"));
+        List<?> phases = (List<?>) profile.get("phases");
+        assertEquals(2, phases.size());
+        Map<?, ?> config = (Map<?, ?>) phases.get(0);
+        assertEquals("config", config.get("name"));
+        assertTrue(config.containsKey("millis"));
+        assertTrue(config.containsKey("allocatedBytes"));
+        assertTrue(config.containsKey("threadName"));
+        assertFalse(config.containsKey("endNanos"));
+    }
+}
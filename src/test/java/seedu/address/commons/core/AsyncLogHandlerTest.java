@@ -0,0 +1,220 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.DropPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncLogHandler(List.of(), 0, DropPolicy.DISCARD_NEWEST));
+    }
+
+    @Test
+    public void publish_publishesToTargetsInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, DropPolicy.DISCARD_NEWEST);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.ALL);
+        logger.addHandler(handler);
+        logger.info("first");
+        logger.fine(() -> "second");
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), target.getMessages());
+        // The caller is found on the logging thread, not the writer thread
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullDiscardNewest_dropsNewRecords() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1, DropPolicy.DISCARD_NEWEST);
+        fillWhileBlocked(handler, target);
+
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(List.of("blocking", String.format(AsyncLogHandler.MESSAGE_DROPPED, 1), "queued"),
+                target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullDiscardOldest_dropsOldRecords() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1, DropPolicy.DISCARD_OLDEST);
+        fillWhileBlocked(handler, target);
+
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(List.of("blocking", String.format(AsyncLogHandler.MESSAGE_DROPPED, 1), "overflow"),
+                target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullDiscardOldest_keepsQueuedWarnings() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, DropPolicy.DISCARD_OLDEST);
+        target.block();
+        handler.publish(record(Level.INFO, "blocking"));
+        assertTrue(target.awaitBlocked());
+        handler.publish(record(Level.FINE, "old"));
+        handler.publish(record(Level.WARNING, "warning"));
+
+        // the oldest record below WARNING is dropped, not the warning ahead of it in the queue
+        handler.publish(record(Level.FINE, "new"));
+        target.unblock();
+        handler.flush();
+
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(List.of("blocking", String.format(AsyncLogHandler.MESSAGE_DROPPED, 1), "warning", "new"),
+                target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullOfWarningsDiscardOldest_waitsForSpace() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, DropPolicy.DISCARD_OLDEST);
+        target.block();
+        handler.publish(record(Level.INFO, "blocking"));
+        assertTrue(target.awaitBlocked());
+        handler.publish(record(Level.WARNING, "first"));
+        handler.publish(record(Level.SEVERE, "second"));
+
+        Thread logging = new Thread(() -> handler.publish(record(Level.FINE, "fine")));
+        logging.start();
+        logging.join(200);
+        assertTrue(logging.isAlive());
+        target.unblock();
+        logging.join();
+        handler.flush();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(List.of("blocking", "first", "second", "fine"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_waitingForSpaceWhenClosed_givesUp() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1, DropPolicy.BLOCK);
+        target.block();
+        handler.publish(record(Level.INFO, "blocking"));
+        assertTrue(target.awaitBlocked());
+        handler.publish(record(Level.WARNING, "queued"));
+        Thread logging = new Thread(() -> handler.publish(record(Level.WARNING, "late")));
+        logging.start();
+        logging.join(200);
+        assertTrue(logging.isAlive());
+
+        Thread closing = new Thread(handler::close);
+        closing.start();
+        // the waiting record gives up once the handler is closed, without waiting for the writer
+        logging.join(2000);
+        assertFalse(logging.isAlive());
+        target.unblock();
+        closing.join();
+
+        assertEquals(List.of("blocking", "queued"), target.getMessages());
+    }
+
+    @Test
+    public void close_closesTargetsAndIgnoresLaterRecords() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, DropPolicy.BLOCK);
+        handler.publish(record(Level.INFO, "before"));
+        handler.close();
+        handler.publish(record(Level.INFO, "after"));
+        handler.close();
+
+        assertEquals(List.of("before"), target.getMessages());
+        assertTrue(target.isClosed);
+    }
+
+    /**
+     * Publishes a record that the writer thread blocks on, then fills the queue of one record and publishes one
+     * more, which overflows it. Lets the writer go on once all three have been published.
+     */
+    private static void fillWhileBlocked(AsyncLogHandler handler, RecordingHandler target) throws Exception {
+        target.block();
+        handler.publish(record(Level.INFO, "blocking"));
+        assertTrue(target.awaitBlocked());
+        handler.publish(record(Level.INFO, "queued"));
+        handler.publish(record(Level.INFO, "overflow"));
+        target.unblock();
+        handler.flush();
+    }
+
+    private static LogRecord record(Level level, String message) {
+        return new LogRecord(level, message);
+    }
+
+    /**
+     * Keeps the records published to it, and can hold up the thread that publishes them.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new ArrayList<>();
+        private CountDownLatch blocked = new CountDownLatch(0);
+        private CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean isClosed;
+
+        void block() {
+            blocked = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        synchronized List<String> getMessages() {
+            List<String> messages = new ArrayList<>();
+            records.forEach(record -> messages.add(record.getMessage()));
+            return messages;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            synchronized (this) {
+                records.add(record);
+            }
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -12,7 +12,13 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", commandMetricsEnabled=" + config.isCommandMetricsEnabled()
+                + ", asyncLogging=" + config.isAsyncLogging()
+                + ", logQueueCapacity=" + config.getLogQueueCapacity()
+                + ", logDropPolicy=" + config.getLogDropPolicy()
+                + ", slowCommandThresholdMillis=" + config.getSlowCommandThresholdMillis()
+                + ", startupProfilePath=" + config.getStartupProfilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void getValidQueueCapacity() {
+        // positive -> kept
+        assertEquals(1, LogsCenter.getValidQueueCapacity(1));
+        assertEquals(50, LogsCenter.getValidQueueCapacity(50));
+
+        // zero or negative -> default
+        assertEquals(Config.DEFAULT_LOG_QUEUE_CAPACITY, LogsCenter.getValidQueueCapacity(0));
+        assertEquals(Config.DEFAULT_LOG_QUEUE_CAPACITY, LogsCenter.getValidQueueCapacity(-5));
+    }
+}
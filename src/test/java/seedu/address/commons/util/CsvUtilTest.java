@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_plainFields_split() throws Exception {
+        assertEquals(List.of("a", "b", "c"), CsvUtil.splitLine("a,b,c"));
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+        assertEquals(List.of("a", "", ""), CsvUtil.splitLine("a,,"));
+    }
+
+    @Test
+    public void splitLine_quotedFields_quotesRemoved() throws Exception {
+        assertEquals(List.of("Blk 1, Clementi Rd", "x"), CsvUtil.splitLine("\"Blk 1, Clementi Rd\",x"));
+        assertEquals(List.of("say \"hi\""), CsvUtil.splitLine("\"say \"\"hi\"\"\""));
+    }
+
+    @Test
+    public void splitLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitLine("a,\"b"));
+    }
+
+    @Test
+    public void escape_plainField_unchanged() {
+        assertEquals("Math101", CsvUtil.escape("Math101"));
+        assertEquals("", CsvUtil.escape(""));
+    }
+
+    @Test
+    public void escape_specialCharacters_quoted() throws Exception {
+        assertEquals("\"Blk 1, Clementi Rd\"", CsvUtil.escape("Blk 1, Clementi Rd"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvUtil.escape("say \"hi\""));
+        assertEquals("\" padded \"", CsvUtil.escape(" padded "));
+        assertEquals(List.of("a, b", "say \"hi\""),
+                CsvUtil.splitLine(CsvUtil.escape("a, b") + "," + CsvUtil.escape("say \"hi\"")));
+    }
+
+}
@@ -1,9 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class FileUtilTest {
@@ -20,4 +23,20 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getFileNameStem() {
+        assertEquals("addressbook", FileUtil.getFileNameStem(Paths.get("data", "addressbook.json")));
+        assertEquals("addressbook", FileUtil.getFileNameStem(Paths.get("data", "addressbook.mv.db")));
+        assertEquals("addressbook", FileUtil.getFileNameStem(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void replaceFileNameStem() {
+        assertEquals(Paths.get("data", "east.json"),
+                FileUtil.replaceFileNameStem(Paths.get("data", "ab.json"), "east"));
+        assertEquals(Paths.get("data", "east.mv.db"),
+                FileUtil.replaceFileNameStem(Paths.get("data", "ab.mv.db"), "east"));
+        assertEquals(Paths.get("east"), FileUtil.replaceFileNameStem(Paths.get("ab"), "east"));
+    }
+
 }
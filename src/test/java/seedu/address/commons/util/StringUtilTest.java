@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,14 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for formatBytes --------------------------------------
+
+    @Test
+    public void formatBytes() {
+        assertEquals("0 B", StringUtil.formatBytes(0));
+        assertEquals("1023 B", StringUtil.formatBytes(1023));
+        assertEquals("1.0 KB", StringUtil.formatBytes(1024));
+        assertEquals("1.5 MB", StringUtil.formatBytes(3 * 512 * 1024));
+    }
+
 }
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,21 +12,41 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.ROLE_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -32,6 +55,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -83,6 +107,251 @@ public class LogicManagerTest {
                         String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(filePath));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + ROLE_AMY);
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_transaction_savesOnlyOnCommit() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + ROLE_AMY);
+        assertFalse(Files.exists(filePath));
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_switchInTransaction_throwsCommandException() throws Exception {
+        logic = new LogicManager(model, storageAt("main.json"));
+        logic.execute(BeginCommand.COMMAND_WORD);
+
+        assertCommandException(SwitchCommand.COMMAND_WORD + " east", LogicManager.MESSAGE_SWITCH_IN_TRANSACTION);
+        assertEquals(Paths.get("data", "addressbook.json"), model.getAddressBookFilePath());
+        logic.execute(RollbackCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void execute_undoRedo_restoresAddressBook() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ROLE_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        // read-only commands are not undone
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(new AddressBook(), new AddressBook(model.getAddressBook()));
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void getCommandCompletions_prefix_returnsMatchingCommandWords() {
+        assertEquals(List.of("delete", "deleteclass", "deletesession"), logic.getCommandCompletions("del"));
+        assertEquals(List.of(), logic.getCommandCompletions("xyz"));
+    }
+
+    @Test
+    public void execute_switchAddressBook_switchesDataAndFile() throws Exception {
+        model.addPerson(ALICE);
+        logic = new LogicManager(model, storageAt("main.json"));
+
+        logic.execute(SwitchCommand.COMMAND_WORD + " east");
+        assertEquals(new AddressBook(), new AddressBook(model.getAddressBook()));
+        assertEquals(Paths.get("data", "east.json"), model.getAddressBookFilePath());
+        // The address book switched away from is saved, but the one switched to is not written back unchanged
+        assertTrue(Files.exists(temporaryFolder.resolve("main.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("east.json")));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + ROLE_AMY);
+        logic.execute(SwitchCommand.COMMAND_WORD + " main");
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+
+        logic.execute(SwitchCommand.COMMAND_WORD + " east");
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(AMY.getName(), model.getAddressBook().getPersonList().get(0).getName());
+    }
+
+    @Test
+    public void execute_switchToEvictedAddressBook_readsFromFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookMemoryBudget(0);
+        model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), userPrefs);
+        logic = new LogicManager(model, storageAt("main.json"));
+
+        logic.execute(SwitchCommand.COMMAND_WORD + " east");
+        logic.execute(SwitchCommand.COMMAND_WORD + " main");
+
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertNotSame(ALICE, model.getAddressBook().getPersonList().get(0));
+        assertEquals(ALICE.getName(), model.getAddressBook().getPersonList().get(0).getName());
+    }
+
+    @Test
+    public void execute_switchToCorruptedAddressBook_throwsCommandException() throws Exception {
+        Files.writeString(temporaryFolder.resolve("east.json"), "not json");
+        logic = new LogicManager(model, storageAt("main.json"));
+
+        assertCommandException(SwitchCommand.COMMAND_WORD + " east", String.format(
+                LogicManager.ADDRESS_BOOK_LOADING_ERROR_FORMAT, "east", temporaryFolder.resolve("east.json")));
+        assertEquals(Paths.get("data", "addressbook.json"), model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void loadAddressBook_whileLoading_rejectsCommands() throws Exception {
+        List<Runnable> pendingLoads = new ArrayList<>();
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.loadAddressBook(() -> new AddressBookBuilder().withPerson(ALICE).build(),
+                pendingLoads::add, Runnable::run);
+
+        assertFalse(logic.readyProperty().get());
+        assertCommandException(ListCommand.COMMAND_WORD,
+                String.format(LogicManager.MESSAGE_NOT_READY, model.getAddressBookFilePath()));
+
+        pendingLoads.forEach(Runnable::run);
+        assertTrue(logic.readyProperty().get());
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void loadAddressBook_loaderFails_startsFromEmptyAddressBook() throws Exception {
+        model.addPerson(ALICE);
+        List<Runnable> uiTasks = new ArrayList<>();
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.loadAddressBook(() -> {
+            throw new IllegalStateException("dummy loading failure");
+        }, Runnable::run, uiTasks::add);
+
+        assertFalse(logic.readyProperty().get());
+        assertEquals(1, uiTasks.size());
+        uiTasks.forEach(Runnable::run);
+
+        assertTrue(logic.readyProperty().get());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commandMetrics_recordsEachPhaseUnderCommandWord() throws Exception {
+        CommandMetrics.clear();
+        try {
+            logic.execute("ls");
+            logic.recordUiRefreshTime(1000);
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY + ROLE_AMY);
+
+            assertEquals(1, CommandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.PARSE).get().getCount());
+            assertEquals(1, CommandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.EXECUTE).get().getCount());
+            assertEquals(1000, CommandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.UI_REFRESH).get().getMax());
+            // Read-only commands are not saved
+            assertFalse(CommandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.PERSIST).isPresent());
+            assertEquals(1, CommandMetrics.getHistogram(AddCommand.COMMAND_WORD, Phase.PERSIST).get().getCount());
+
+            CommandMetrics.setEnabled(false);
+            logic.execute(ListCommand.COMMAND_WORD);
+            assertEquals(1, CommandMetrics.getHistogram(ListCommand.COMMAND_WORD, Phase.EXECUTE).get().getCount());
+        } finally {
+            CommandMetrics.setEnabled(true);
+            CommandMetrics.clear();
+        }
+    }
+
+    @Test
+    public void execute_slowCommandLog_describesEachCommandOverThreshold() throws Exception {
+        List<String> entries = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                entries.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        LogsCenter.getSlowCommandLogger().addHandler(handler);
+        // Every command is at least as slow as a threshold of 0
+        SlowCommandLog.setThresholdMillis(0);
+        try {
+            logic.execute("ls");
+            String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY + ROLE_AMY;
+            logic.execute(addCommand);
+
+            assertEquals(2, entries.size());
+            assertTrue(entries.get(0).startsWith("[ls] took "));
+            assertFalse(entries.get(0).contains("persist"));
+            assertFalse(entries.get(0).contains("data file"));
+            assertTrue(entries.get(1).startsWith("[" + addCommand + "] took "));
+            assertTrue(entries.get(1).contains("persist: "));
+            assertTrue(entries.get(1).contains("model: 1 persons"));
+            assertTrue(entries.get(1).contains("data file: " + temporaryFolder.resolve("addressBook.json")));
+
+            // with a UI refresh to come, a command is described once, with the refresh among its phases
+            ((LogicManager) logic).setUiRefreshRecorded(true);
+            logic.execute("ls");
+            assertEquals(2, entries.size());
+            logic.recordUiRefreshTime(1000);
+            assertEquals(3, entries.size());
+            assertTrue(entries.get(2).startsWith("[ls] took "));
+            assertTrue(entries.get(2).contains("ui refresh: "));
+
+            // a failed command is not refreshed, so it is described straight away
+            assertThrows(CommandException.class, () -> logic.execute(addCommand));
+            assertEquals(4, entries.size());
+            assertFalse(entries.get(3).contains("ui refresh"));
+        } finally {
+            SlowCommandLog.setThresholdMillis(-1);
+            LogsCenter.getSlowCommandLogger().removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void execute_recordsFlightRecorderEvents() throws Exception {
+        Path recordingPath = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.start();
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY + ROLE_AMY);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.Command"))
+                .collect(Collectors.toList());
+        assertEquals(2, events.size());
+        RecordedEvent add = events.get(0);
+        assertEquals(AddCommand.COMMAND_WORD, add.getString("commandWord"));
+        assertTrue(add.getBoolean("isMutating"));
+        assertTrue(add.getBoolean("isSuccessful"));
+        assertEquals(1, add.getInt("personCount"));
+
+        RecordedEvent unknown = events.get(1);
+        assertEquals(null, unknown.getString("commandWord"));
+        assertFalse(unknown.getBoolean("isSuccessful"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -98,6 +367,11 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredSessionList().remove(0));
     }
 
+    private StorageManager storageAt(String fileName) {
+        return new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve(fileName)),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,115 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelStatistics;
+import seedu.address.testutil.TypicalPersons;
+
+public class SlowCommandLogTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ModelStatistics statistics = ModelStatistics.of(TypicalPersons.getTypicalAddressBook());
+
+    @AfterEach
+    public void tearDown() {
+        SlowCommandLog.setThresholdMillis(-1);
+    }
+
+    @Test
+    public void format_describesPhasesModelAndDataFile() throws Exception {
+        Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        phaseNanos.put(Phase.PARSE, 100_000L);
+        phaseNanos.put(Phase.EXECUTE, 1_500_000_000L);
+        phaseNanos.put(Phase.PERSIST, 250_000_000L);
+        Path dataFile = temporaryFolder.resolve("addressbook.json");
+        Files.write(dataFile, new byte[2048]);
+
+        String expected = "[attend 1 s/Week 1] took 1750.1 ms\n"
+                + "  parse: 0.1 ms, execute: 1500.0 ms, persist: 250.0 ms\n"
+                + String.format(SlowCommandLog.MESSAGE_MODEL, statistics.getPersonCount(),
+                        statistics.getStudentCount(), statistics.getTutorCount(), statistics.getParentCount(),
+                        statistics.getClassCount(), statistics.getSessionCount(), statistics.getAttendanceCount(),
+                        StringUtil.formatBytes(statistics.getTotalBytes())) + "\n"
+                + String.format(SlowCommandLog.MESSAGE_DATA_FILE, dataFile, "2.0 KB");
+        assertEquals(expected, SlowCommandLog.format("attend 1 s/Week 1", phaseNanos, statistics,
+                Optional.of(dataFile)));
+
+        // A data file that cannot be read is still named
+        Path missingFile = temporaryFolder.resolve("missing.json");
+        assertTrue(SlowCommandLog.format("list", Map.of(Phase.PARSE, 1L), statistics, Optional.of(missingFile))
+                .endsWith(String.format(SlowCommandLog.MESSAGE_DATA_FILE, missingFile,
+                        SlowCommandLog.MESSAGE_DATA_FILE_SIZE_UNKNOWN)));
+        assertFalse(SlowCommandLog.format("list", Map.of(Phase.PARSE, 1L), statistics, Optional.empty())
+                .contains("data file"));
+    }
+
+    @Test
+    public void recordIfSlow_onlyLogsCommandsOverThreshold() {
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = LogsCenter.getSlowCommandLogger();
+        logger.addHandler(handler);
+        try {
+            assertFalse(SlowCommandLog.isEnabled());
+            SlowCommandLog.recordIfSlow("list", Map.of(Phase.EXECUTE, 5_000_000_000L), this::failToCount,
+                    Optional.empty());
+            assertEquals(0, records.size());
+
+            SlowCommandLog.setThresholdMillis(1000);
+            assertTrue(SlowCommandLog.isEnabled());
+            SlowCommandLog.recordIfSlow("list", Map.of(Phase.EXECUTE, 999_000_000L), this::failToCount,
+                    Optional.empty());
+            assertEquals(0, records.size());
+
+            SlowCommandLog.recordIfSlow("list", Map.of(Phase.PARSE, 1_000_000L, Phase.EXECUTE, 999_000_000L),
+                    () -> ModelStatistics.of(new AddressBook()), Optional.empty());
+            assertEquals(1, records.size());
+            assertTrue(records.get(0).getMessage().startsWith("[list] took 1000.0 ms"));
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    /**
+     * Stands in for the statistics of a command that is not slow, which should never be counted.
+     */
+    private ModelStatistics failToCount() {
+        throw new AssertionError("Counted the address book for a command that is not slow");
+    }
+}
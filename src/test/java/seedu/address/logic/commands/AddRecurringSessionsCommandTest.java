@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+
+/**
+ * Contains unit tests for {@code AddRecurringSessionsCommand}.
+ */
+public class AddRecurringSessionsCommandTest {
+
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2024, 1, 8, 14, 30);
+
+    private Model model;
+    private TuitionClass tuitionClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        tuitionClass = new TuitionClass(new ClassName("Math101"));
+        model.addClass(tuitionClass);
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new AddRecurringSessionsCommand(null, "Week", FIRST_DATE_TIME, 13, 7, null));
+        assertThrows(NullPointerException.class, () ->
+                new AddRecurringSessionsCommand("Math101", null, FIRST_DATE_TIME, 13, 7, null));
+        assertThrows(NullPointerException.class, () ->
+                new AddRecurringSessionsCommand("Math101", "Week", null, 13, 7, null));
+    }
+
+    @Test
+    public void execute_weekly_addsNumberedSessions() throws Exception {
+        CommandResult result = new AddRecurringSessionsCommand("math101", "Week", FIRST_DATE_TIME, 13, 7,
+                "COM1-B103").execute(model);
+
+        assertEquals(String.format(AddRecurringSessionsCommand.MESSAGE_SUCCESS, 13, "Math101", "Week 1", "Week 13"),
+                result.getFeedbackToUser());
+        assertEquals(CommandResult.DisplayType.SESSIONS, result.getDisplayType());
+
+        List<ClassSession> sessions = tuitionClass.getAllSessions();
+        assertEquals(13, sessions.size());
+        assertEquals(13, tuitionClass.getSessionCountProperty().get());
+        for (int i = 0; i < sessions.size(); i++) {
+            assertEquals("Week " + (i + 1), sessions.get(i).getSessionName());
+            assertEquals(FIRST_DATE_TIME.plusWeeks(i), sessions.get(i).getDateTime());
+            assertEquals("COM1-B103", sessions.get(i).getLocation());
+        }
+    }
+
+    @Test
+    public void execute_customInterval_spacesSessionsByInterval() throws Exception {
+        new AddRecurringSessionsCommand("Math101", "Lesson", FIRST_DATE_TIME, 3, 3, null).execute(model);
+
+        List<ClassSession> sessions = tuitionClass.getAllSessions();
+        assertEquals(FIRST_DATE_TIME, sessions.get(0).getDateTime());
+        assertEquals(FIRST_DATE_TIME.plusDays(3), sessions.get(1).getDateTime());
+        assertEquals(FIRST_DATE_TIME.plusDays(6), sessions.get(2).getDateTime());
+    }
+
+    @Test
+    public void execute_classNotFound_throwsCommandException() {
+        AddRecurringSessionsCommand command =
+                new AddRecurringSessionsCommand("Physics", "Week", FIRST_DATE_TIME, 3, 7, null);
+        assertThrows(CommandException.class, AddSessionCommand.MESSAGE_CLASS_NOT_EXIST, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_duplicateSessionName_addsNothing() {
+        tuitionClass.addSession("week 2", LocalDateTime.of(2023, 12, 1, 9, 0), null);
+        AddRecurringSessionsCommand command =
+                new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 3, 7, null);
+
+        assertThrows(CommandException.class, String.format(AddRecurringSessionsCommand.MESSAGE_DUPLICATE_SESSIONS,
+                "Week 2"), () -> command.execute(model));
+        assertEquals(1, tuitionClass.getAllSessions().size());
+    }
+
+    @Test
+    public void execute_duplicateDateTime_addsNothing() {
+        tuitionClass.addSession("Make-up", FIRST_DATE_TIME.plusWeeks(2), null);
+        AddRecurringSessionsCommand command =
+                new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 3, 7, null);
+
+        assertThrows(CommandException.class, String.format(AddRecurringSessionsCommand.MESSAGE_DUPLICATE_DATETIMES,
+                "2024-01-22 14:30"), () -> command.execute(model));
+        assertEquals(1, tuitionClass.getAllSessions().size());
+    }
+
+    @Test
+    public void equals() {
+        AddRecurringSessionsCommand command =
+                new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 13, 7, null);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 13, 7, null)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 12, 7, null)));
+        assertFalse(command.equals(new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 13, 14, null)));
+        assertFalse(command.equals(new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 13, 7,
+                "COM1-B103")));
+    }
+}
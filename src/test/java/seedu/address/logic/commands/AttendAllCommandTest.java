@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+
+/**
+ * Contains unit tests for {@code AttendAllCommand}.
+ */
+public class AttendAllCommandTest {
+
+    private Model model;
+    private ClassSession session;
+    private Student alice;
+    private Student bob;
+    private Student carl;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        alice = createStudent("Alice Pauline", "91234567");
+        bob = createStudent("Bob Tan", "92345678");
+        carl = createStudent("Carl Kurz", "93456789");
+
+        TuitionClass tuitionClass = new TuitionClass(new ClassName("Math101"));
+        tuitionClass.addStudent(alice);
+        tuitionClass.addStudent(bob);
+        tuitionClass.addStudent(carl);
+        session = tuitionClass.addSession("Session1", LocalDateTime.of(2025, 10, 25, 14, 0), "Room 101");
+        model.addClass(tuitionClass);
+    }
+
+    @Test
+    public void execute_wholeClass_marksEveryStudent() throws Exception {
+        CommandResult result = new AttendAllCommand("math101", "session1", true, Set.of(), true).execute(model);
+
+        assertEquals(String.format(AttendAllCommand.MESSAGE_SUCCESS, 3, "PRESENT", "Math101", "Session1"),
+                result.getFeedbackToUser());
+        assertTrue(session.hasAttended(alice));
+        assertTrue(session.hasAttended(bob));
+        assertTrue(session.hasAttended(carl));
+    }
+
+    @Test
+    public void execute_names_marksOnlyNamedStudents() throws Exception {
+        new AttendAllCommand("Math101", "Session1", true, Set.of(new Name("alice pauline"), new Name("Carl Kurz")),
+                false).execute(model);
+
+        assertTrue(session.hasAttended(alice));
+        assertFalse(session.hasAttended(bob));
+        assertTrue(session.hasAttended(carl));
+        assertEquals(session.getAttendanceRecord().get(alice).getTimestamp(),
+                session.getAttendanceRecord().get(carl).getTimestamp());
+    }
+
+    @Test
+    public void execute_exceptions_marksOtherStudents() throws Exception {
+        new AttendAllCommand("Math101", "Session1", true, Set.of(new Name("Bob Tan")), true).execute(model);
+
+        assertTrue(session.hasAttended(alice));
+        assertFalse(session.hasAttended(bob));
+        assertTrue(session.hasAttended(carl));
+    }
+
+    @Test
+    public void execute_absent_marksStudentsAbsent() throws Exception {
+        session.markPresent(alice);
+        new AttendAllCommand("Math101", "Session1", false, Set.of(), true).execute(model);
+
+        assertFalse(session.hasAttended(alice));
+    }
+
+    @Test
+    public void execute_unknownStudents_throwsCommandExceptionAndMarksNobody() {
+        AttendAllCommand command = new AttendAllCommand("Math101", "Session1", true,
+                Set.of(new Name("Alice Pauline"), new Name("Nobody")), false);
+
+        assertThrows(CommandException.class, String.format(AttendAllCommand.MESSAGE_STUDENTS_NOT_FOUND, "Nobody"), ()
+            -> command.execute(model));
+        assertFalse(session.hasAttended(alice));
+    }
+
+    @Test
+    public void execute_everyStudentExcepted_throwsCommandException() {
+        AttendAllCommand command = new AttendAllCommand("Math101", "Session1", true,
+                Set.of(new Name("Alice Pauline"), new Name("Bob Tan"), new Name("Carl Kurz")), true);
+
+        assertThrows(CommandException.class, String.format(AttendAllCommand.MESSAGE_NO_STUDENTS, "Math101"), ()
+            -> command.execute(model));
+    }
+
+    @Test
+    public void execute_unknownClassOrSession_throwsCommandException() {
+        assertThrows(CommandException.class,
+                String.format(AttendCommand.MESSAGE_SESSION_NOT_FOUND, "Session1", "Physics101"), ()
+                -> new AttendAllCommand("Physics101", "Session1", true, Set.of(), true).execute(model));
+        assertThrows(CommandException.class,
+                String.format(AttendCommand.MESSAGE_SESSION_NOT_FOUND, "Session9", "Math101"), ()
+                -> new AttendAllCommand("Math101", "Session9", true, Set.of(), true).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AttendAllCommand command = new AttendAllCommand("Math101", "Session1", true, Set.of(new Name("Bob Tan")),
+                true);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AttendAllCommand("Math101", "Session1", true, Set.of(new Name("Bob Tan")),
+                true)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new AttendAllCommand("Math101", "Session1", true, Set.of(new Name("Bob Tan")),
+                false)));
+        assertFalse(command.equals(new AttendAllCommand("Math101", "Session1", false, Set.of(new Name("Bob Tan")),
+                true)));
+        assertFalse(command.equals(new AttendAllCommand("Math101", "Session2", true, Set.of(new Name("Bob Tan")),
+                true)));
+    }
+
+    private static Student createStudent(String name, String phone) {
+        return new Student(new Name(name), new Phone(phone), new Email("student@example.com"),
+                new Address("456 Second St"), new HashSet<>());
+    }
+}
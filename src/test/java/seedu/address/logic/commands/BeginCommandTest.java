@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class BeginCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @AfterEach
+    public void tearDown() {
+        if (model.isInTransaction()) {
+            model.rollbackTransaction();
+        }
+    }
+
+    @Test
+    public void execute_noTransaction_startsTransaction() throws Exception {
+        CommandResult result = new BeginCommand().execute(model);
+
+        assertEquals(BeginCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_inTransaction_throwsCommandException() {
+        model.beginTransaction();
+        assertThrows(CommandException.class, BeginCommand.MESSAGE_ALREADY_IN_TRANSACTION, () ->
+                new BeginCommand().execute(model));
+    }
+
+    @Test
+    public void equals() {
+        BeginCommand beginCommand = new BeginCommand();
+        assertTrue(beginCommand.equals(new BeginCommand()));
+        assertFalse(beginCommand.equals(new CommitCommand()));
+        assertFalse(beginCommand.equals(null));
+    }
+}
@@ -33,6 +33,10 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different addressBookName value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", false, false,
+                CommandResult.DisplayType.NONE, "branch")));
     }
 
     @Test
@@ -57,7 +61,8 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + ", displayType=" + commandResult.getDisplayType() + "}";
+                + ", exit=" + commandResult.isExit() + ", displayType=" + commandResult.getDisplayType()
+                + ", addressBookName=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class CommitCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_inTransaction_keepsChanges() throws Exception {
+        model.beginTransaction();
+        model.addPerson(ALICE);
+
+        CommandResult result = new CommitCommand().execute(model);
+
+        assertEquals(CommitCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertFalse(model.isInTransaction());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() {
+        assertThrows(CommandException.class, CommitCommand.MESSAGE_NO_TRANSACTION, () ->
+                new CommitCommand().execute(model));
+    }
+
+    @Test
+    public void equals() {
+        CommitCommand commitCommand = new CommitCommand();
+        assertTrue(commitCommand.equals(new CommitCommand()));
+        assertFalse(commitCommand.equals(new RollbackCommand()));
+        assertFalse(commitCommand.equals(null));
+    }
+}
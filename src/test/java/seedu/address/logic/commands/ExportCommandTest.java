@@ -0,0 +1,204 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Format;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+
+public class ExportCommandTest {
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        Student alice = addStudent("Alice Tan");
+        Student ben = addStudent("Ben Lim");
+
+        TuitionClass math = new TuitionClass(new ClassName("Math101"));
+        model.addClass(math);
+        math.addStudent(ben);
+        math.addStudent(alice);
+        ClassSession week1 = math.addSession("Week 1", LocalDateTime.of(2025, 1, 6, 10, 0), "Room 1, Level 2");
+        week1.markPresentAt(alice, LocalDateTime.of(2025, 1, 6, 10, 5));
+        ClassSession week5 = math.addSession("Week 5", LocalDateTime.of(2025, 2, 3, 10, 0), null);
+        week5.markAbsentAt(ben, LocalDateTime.of(2025, 2, 3, 10, 15));
+
+        TuitionClass science = new TuitionClass(new ClassName("Science"));
+        model.addClass(science);
+        science.addStudent(ben);
+        science.addSession("Lab \"A\"", LocalDateTime.of(2025, 1, 2, 9, 0), null);
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, Format.CSV, null, null, null));
+    }
+
+    @Test
+    public void execute_wholeCentreToCsv_allSessionsInDateOrder() throws Exception {
+        Path file = testFolder.resolve("reports").resolve("all.csv");
+
+        CommandResult result = exportCommand(file, Format.CSV, null, null, null).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 3, file), result.getFeedbackToUser());
+        assertEquals(List.of(
+                "class,session,dateTime,location,student,status,markedAt",
+                "Science,\"Lab \"\"A\"\"\",2025-01-02 09:00,,Ben Lim,absent,",
+                "Math101,Week 1,2025-01-06 10:00,\"Room 1, Level 2\",Alice Tan,present,2025-01-06 10:05",
+                "Math101,Week 1,2025-01-06 10:00,\"Room 1, Level 2\",Ben Lim,absent,",
+                "Math101,Week 5,2025-02-03 10:00,,Alice Tan,absent,",
+                "Math101,Week 5,2025-02-03 10:00,,Ben Lim,absent,2025-02-03 10:15"), Files.readAllLines(file));
+        assertFalse(Files.exists(file.resolveSibling("all.csv" + ExportCommand.TEMPORARY_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void execute_classAndDateRangeToJsonLines_matchingSessionsOnly() throws Exception {
+        Path file = testFolder.resolve("jan.jsonl");
+
+        CommandResult result = exportCommand(file, Format.JSON_LINES, "math101",
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 6)).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), result.getFeedbackToUser());
+        assertEquals(List.of(
+                "{\"class\":\"Math101\",\"session\":\"Week 1\",\"dateTime\":\"2025-01-06 10:00\","
+                        + "\"location\":\"Room 1, Level 2\",\"student\":\"Alice Tan\",\"status\":\"present\","
+                        + "\"markedAt\":\"2025-01-06 10:05\"}",
+                "{\"class\":\"Math101\",\"session\":\"Week 1\",\"dateTime\":\"2025-01-06 10:00\","
+                        + "\"location\":\"Room 1, Level 2\",\"student\":\"Ben Lim\",\"status\":\"absent\","
+                        + "\"markedAt\":null}"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("science.csv");
+        Files.writeString(file, "old report\nwith more lines\n");
+
+        exportCommand(file, Format.CSV, "Science", null, null).execute(model);
+
+        assertEquals(2, Files.readAllLines(file).size());
+        assertTrue(Files.readAllLines(file).get(1).startsWith("Science,"));
+    }
+
+    @Test
+    public void execute_laterChanges_notExported() throws Exception {
+        Path file = testFolder.resolve("science.csv");
+        List<Runnable> pendingExports = new ArrayList<>();
+        TuitionClass science = model.getClassByName("Science");
+
+        exportCommand(file, Format.CSV, "Science", null, null, pendingExports::add).execute(model);
+        science.getSession("Lab \"A\"").get().markPresentAt(science.getStudents().get(0), LocalDateTime.now());
+        science.getSession("Lab \"A\"").get().setSessionName("Renamed");
+        pendingExports.forEach(Runnable::run);
+
+        // The sessions and their attendance are copied when the command runs, as the worker cannot read the model
+        assertEquals("Science,\"Lab \"\"A\"\"\",2025-01-02 09:00,,Ben Lim,absent,", Files.readAllLines(file).get(1));
+    }
+
+    @Test
+    public void execute_writeFails_failureReported() throws Exception {
+        Path notAFolder = testFolder.resolve("taken");
+        Files.writeString(notAFolder, "a file, not a folder");
+        Path file = notAFolder.resolve("science.csv");
+        List<String> failures = new ArrayList<>();
+        ExportCommand.setFailureListener(failures::add);
+        try {
+            exportCommand(file, Format.CSV, "Science", null, null).execute(model);
+        } finally {
+            ExportCommand.setFailureListener(message -> { });
+        }
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).startsWith("Could not export attendance to " + file));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_unknownClass_throwsCommandException() {
+        ExportCommand command = exportCommand(testFolder.resolve("a.csv"), Format.CSV, "Physics", null, null);
+        assertThrows(CommandException.class, ExportCommand.MESSAGE_CLASS_NOT_FOUND, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_noSessionsInRange_throwsCommandException() {
+        ExportCommand command = exportCommand(testFolder.resolve("a.csv"), Format.CSV, null,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        assertThrows(CommandException.class, ExportCommand.MESSAGE_NO_SESSIONS, () -> command.execute(model));
+        assertFalse(Files.exists(testFolder.resolve("a.csv")));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportA = new ExportCommand(Paths.get("a.csv"), Format.CSV, "Math101", null, null);
+
+        assertTrue(exportA.equals(exportA));
+        assertTrue(exportA.equals(new ExportCommand(Paths.get("a.csv"), Format.CSV, "Math101", null, null)));
+        assertFalse(exportA.equals(1));
+        assertFalse(exportA.equals(null));
+        assertFalse(exportA.equals(new ExportCommand(Paths.get("b.csv"), Format.CSV, "Math101", null, null)));
+        assertFalse(exportA.equals(new ExportCommand(Paths.get("a.csv"), Format.JSON_LINES, "Math101", null, null)));
+        assertFalse(exportA.equals(new ExportCommand(Paths.get("a.csv"), Format.CSV, null, null, null)));
+        assertFalse(exportA.equals(new ExportCommand(Paths.get("a.csv"), Format.CSV, "Math101",
+                LocalDate.of(2025, 1, 1), null)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.csv"), Format.CSV, "Math101", null,
+                LocalDate.of(2025, 1, 31));
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=a.csv, format=CSV, "
+                + "className=Math101, fromDate=null, toDate=2025-01-31}";
+        assertEquals(expected, exportCommand.toString());
+    }
+
+    private ExportCommand exportCommand(Path file, Format format, String className, LocalDate from, LocalDate to) {
+        return exportCommand(file, format, className, from, to, DIRECT_EXECUTOR);
+    }
+
+    private ExportCommand exportCommand(Path file, Format format, String className, LocalDate from, LocalDate to,
+            Executor executor) {
+        return new ExportCommand(file, format, className, from, to, executor);
+    }
+
+    private Student addStudent(String name) {
+        Student student = new Student(new Name(name), new Phone("91234567"), new Email("student@example.com"),
+                new Address("1 Clementi Road"), new HashSet<>());
+        model.addPerson(student);
+        return student;
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelStatistics;
+import seedu.address.model.UserPrefs;
+
+public class FootprintCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_showsEachCategoryAndTotal() {
+        ModelStatistics statistics = model.getStatistics();
+        String feedback = new FootprintCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(FootprintCommand.MESSAGE_HEADER));
+        assertTrue(feedback.contains(String.format(FootprintCommand.MESSAGE_COUNTED_ENTRY, "Students",
+                StringUtil.formatBytes(statistics.getStudentBytes()), statistics.getStudentCount())));
+        assertTrue(feedback.contains(String.format(FootprintCommand.MESSAGE_COUNTED_ENTRY, "Tags",
+                StringUtil.formatBytes(statistics.getTagBytes()), statistics.getTagCount())));
+        assertTrue(feedback.contains(String.format(FootprintCommand.MESSAGE_ENTRY, "JavaFX lists",
+                StringUtil.formatBytes(statistics.getFxListBytes()))));
+        assertTrue(feedback.contains(String.format(FootprintCommand.MESSAGE_ENTRY, "Total",
+                StringUtil.formatBytes(statistics.getTotalBytes()))));
+        assertTrue(feedback.contains("JVM heap in use: "));
+    }
+
+    @Test
+    public void equals() {
+        FootprintCommand footprintCommand = new FootprintCommand();
+        assertTrue(footprintCommand.equals(new FootprintCommand()));
+        assertFalse(footprintCommand.equals(new ListCommand()));
+        assertFalse(footprintCommand.equals(null));
+    }
+}
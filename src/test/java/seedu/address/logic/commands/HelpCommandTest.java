@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.HelpCommand.SHOWING_HELP_MESSAGE;
 
@@ -17,4 +19,23 @@ public class HelpCommandTest {
         CommandResult expectedCommandResult = new CommandResult(SHOWING_HELP_MESSAGE, true, false);
         assertCommandSuccess(new HelpCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_helpWithUsage_showsUsage() {
+        CommandResult expectedCommandResult = new CommandResult(ListCommand.MESSAGE_USAGE);
+        assertCommandSuccess(new HelpCommand(ListCommand.MESSAGE_USAGE), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        HelpCommand helpCommand = new HelpCommand();
+        HelpCommand listHelpCommand = new HelpCommand(ListCommand.MESSAGE_USAGE);
+
+        assertTrue(helpCommand.equals(helpCommand));
+        assertTrue(helpCommand.equals(new HelpCommand()));
+        assertTrue(listHelpCommand.equals(new HelpCommand(ListCommand.MESSAGE_USAGE)));
+        assertFalse(helpCommand.equals(null));
+        assertFalse(helpCommand.equals(listHelpCommand));
+        assertFalse(listHelpCommand.equals(new HelpCommand(ExitCommand.MESSAGE_USAGE)));
+    }
 }
@@ -0,0 +1,224 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,role,tags,classes,parents";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private TuitionClass tuitionClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        tuitionClass = new TuitionClass(new ClassName("Math101"));
+        model.addClass(tuitionClass);
+        model.addPerson(new Parent(new Name("Mary Tan"), new Phone("91234567"), new Email("mary@example.com"),
+                new Address("1 Clementi Road"), new HashSet<>()));
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_allRowsImported() throws Exception {
+        Path file = writeCsv("classes,parents,name,phone,email,address,role,tags",
+                ",,Peter Lim,92345678,peter@example.com,\"Blk 2, Jurong West\",parent,",
+                "math101,Mary Tan;Peter Lim,Ben Tan,98765432,ben@example.com,1 Clementi Road,student,sec2;new",
+                "",
+                ",,Ms Lee,93456789,lee@example.com,2 Tutor Lane,tutor,");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, 1, 2, file), result.getFeedbackToUser());
+        assertEquals(4, model.getPersonList().size());
+        Student ben = (Student) findPerson("Ben Tan");
+        assertEquals("Blk 2, Jurong West", findPerson("Peter Lim").getAddress().value);
+        assertEquals(2, ben.getTags().size());
+        assertTrue(tuitionClass.hasStudent(ben));
+        assertEquals(2, ben.getParents().size());
+        assertTrue(((Parent) findPerson("Mary Tan")).getChildren().contains(ben));
+    }
+
+    @Test
+    public void execute_studentsOfOneClass_enrolledTogether() throws Exception {
+        tuitionClass.addSession("Week 9", LocalDateTime.now().plusDays(7), "Room 1");
+        Path file = writeCsv("classes,name,phone,email,address,role",
+                "Math101;math101,Ann Lee,91234567,ann@example.com,1 Road,student",
+                "Math101,Bob Lim,91234568,bob@example.com,1 Road,student");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        // A class named twice in a row is only joined once
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 2, 0, file), result.getFeedbackToUser());
+        assertEquals(2, tuitionClass.getStudents().size());
+        assertEquals(2, tuitionClass.getSession("Week 9").get().getAttendanceRecord().size());
+    }
+
+    @Test
+    public void execute_invalidRows_allReportedAndNothingImported() throws Exception {
+        Path file = writeCsv(HEADER,
+                "Ann,9123,ann@example.com,1 Road,student,,,",
+                "Bob,91234567,bob@example.com,1 Road,student,,Physics,Nobody",
+                "Mary Tan,91234567,mary2@example.com,1 Road,parent,,,",
+                "Cat,91234567,cat@example.com,1 Road,student,,,",
+                "cat,91234567,cat2@example.com,1 Road,student,,,",
+                "Dan,91234567,dan@example.com,1 Road,tutor,,Math101,",
+                "Eve,91234567");
+
+        CommandException e = assertThrowsCommandException(file);
+
+        String message = e.getMessage();
+        assertTrue(message.startsWith(String.format(ImportCommand.MESSAGE_INVALID_ROWS, 6, "")));
+        assertTrue(message.contains("Line 2: "));
+        assertTrue(message.contains("Line 3: " + String.format(ImportCommand.MESSAGE_CLASS_NOT_EXIST, "Physics")
+                + "; " + String.format(ImportCommand.MESSAGE_PARENT_NOT_EXIST, "Nobody")));
+        assertTrue(message.contains("Line 4: " + String.format(ImportCommand.MESSAGE_DUPLICATE_PERSON, "Mary Tan")));
+        assertTrue(message.contains("Line 6: " + String.format(ImportCommand.MESSAGE_DUPLICATE_IN_FILE, "cat", 5)));
+        assertTrue(message.contains("Line 7: " + String.format(ImportCommand.MESSAGE_ONLY_STUDENTS,
+                ImportCommand.COLUMN_CLASSES)));
+        assertTrue(message.contains("Line 8: " + String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 8, 2)));
+        assertTrue(message.indexOf("Line 2: ") < message.indexOf("Line 8: "));
+        assertFalse(message.contains("Line 5: "));
+        assertEquals(1, model.getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportTruncated() throws Exception {
+        Path file = testFolder.resolve("many.csv");
+        int rowCount = ImportCommand.BATCH_SIZE + 10;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(HEADER);
+            for (int i = 0; i < rowCount; i++) {
+                writer.write("\nStudent " + i + ",bad,s" + i + "@example.com,1 Road,student,,,");
+            }
+        }
+
+        String message = assertThrowsCommandException(file).getMessage();
+        assertTrue(message.contains(String.format(ImportCommand.MESSAGE_MORE_INVALID_ROWS,
+                rowCount - ImportCommand.MAX_REPORTED_ERRORS)));
+        assertTrue(message.startsWith(String.format(ImportCommand.MESSAGE_INVALID_ROWS, rowCount, "")));
+    }
+
+    @Test
+    public void execute_largeFile_importedAcrossBatches() throws Exception {
+        Path file = testFolder.resolve("large.csv");
+        int rowCount = ImportCommand.BATCH_SIZE * 2 + 1;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(HEADER);
+            for (int i = 0; i < rowCount; i++) {
+                writer.write("\nStudent " + i + ",91234567,s" + i + "@example.com,1 Road,student,,Math101,");
+            }
+        }
+
+        new ImportCommand(file).execute(model);
+
+        assertEquals(rowCount + 1, model.getPersonList().size());
+        assertEquals(rowCount, tuitionClass.getStudents().size());
+        assertEquals("Student " + (rowCount - 1), model.getPersonList().get(rowCount).getName().fullName);
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path file = writeCsv("name,phone,email,role", "Ann,91234567,ann@example.com,student");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, "address"), () ->
+                new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_unknownColumn_throwsCommandException() throws Exception {
+        Path file = writeCsv(HEADER + ",age");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_UNKNOWN_COLUMN, "age"), () ->
+                new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file), () ->
+                new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path file = writeCsv();
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_EMPTY_FILE, file), () ->
+                new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importA = new ImportCommand(Paths.get("a.csv"));
+        ImportCommand importB = new ImportCommand(Paths.get("b.csv"));
+
+        assertTrue(importA.equals(importA));
+        assertTrue(importA.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertFalse(importA.equals(1));
+        assertFalse(importA.equals(null));
+        assertFalse(importA.equals(importB));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+        assertEquals(ImportCommand.class.getCanonicalName() + "{filePath=a.csv}", importCommand.toString());
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path file = testFolder.resolve("import.csv");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+
+    private CommandException assertThrowsCommandException(Path file) {
+        try {
+            new ImportCommand(file).execute(model);
+        } catch (CommandException e) {
+            return e;
+        }
+        throw new AssertionError("Expected CommandException");
+    }
+
+    private Person findPerson(String name) {
+        return model.getPersonList().stream()
+                .filter(p -> p.getName().fullName.equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+
+public class JoinAllCommandTest {
+
+    private Model model;
+    private Student alice;
+    private Student bob;
+    private Student carl;
+    private TuitionClass tuitionClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        alice = createStudent("Alice Tan", "91234567");
+        bob = createStudent("Bob Lim", "92345678", "sec3");
+        carl = createStudent("Carl Ong", "93456789", "sec3");
+        tuitionClass = new TuitionClass(new ClassName("CS2103T"));
+
+        model.addPerson(alice);
+        model.addPerson(bob);
+        model.addPerson(carl);
+        model.addPerson(new Tutor(new Name("Mr Smith"), new Phone("91111111"), new Email("smith@example.com"),
+                new Address("1 Tutor Lane"), new HashSet<>()));
+        model.addClass(tuitionClass);
+    }
+
+    @Test
+    public void execute_namesAndTags_addsEveryMatchingStudent() throws Exception {
+        ClassSession futureSession = tuitionClass.addSession("Week 1", LocalDateTime.now().plusDays(7), "Room 1");
+        JoinAllCommand command = new JoinAllCommand("cs2103t",
+                new StudentSelector(Set.of(new Name("alice tan")), Set.of(new Tag("sec3"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(JoinAllCommand.MESSAGE_SUCCESS, 3, "CS2103T"), result.getFeedbackToUser());
+        assertEquals(List.of(alice, bob, carl), tuitionClass.getStudents());
+        assertEquals(3, tuitionClass.getStudentCountProperty().get());
+        assertTrue(futureSession.getAttendanceRecord().keySet().containsAll(List.of(alice, bob, carl)));
+    }
+
+    @Test
+    public void execute_someAlreadyInClass_addsTheRest() throws Exception {
+        model.addStudentToClass(bob, tuitionClass);
+        JoinAllCommand command = new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("sec3"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(JoinAllCommand.MESSAGE_SUCCESS, 1, "CS2103T") + " (1 already in the class)",
+                result.getFeedbackToUser());
+        assertEquals(List.of(bob, carl), tuitionClass.getStudents());
+    }
+
+    @Test
+    public void execute_allAlreadyInClass_throwsCommandException() {
+        model.addStudentToClass(alice, tuitionClass);
+        JoinAllCommand command = new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(new Name("Alice Tan")), Set.of()));
+
+        assertThrows(CommandException.class,
+                String.format(JoinAllCommand.MESSAGE_ALL_ALREADY_IN_CLASS, "CS2103T"), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_noMatchingStudents_throwsCommandException() {
+        JoinAllCommand command = new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("sec4"))));
+
+        assertThrows(CommandException.class, JoinAllCommand.MESSAGE_NO_STUDENTS, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_unknownOrNonStudentNames_throwsCommandException() {
+        JoinAllCommand unknownCommand = new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(new Name("Alice Tan"), new Name("Nobody")), Set.of()));
+        assertThrows(CommandException.class, String.format(StudentSelector.MESSAGE_PERSONS_NOT_FOUND, "Nobody"), ()
+            -> unknownCommand.execute(model));
+
+        JoinAllCommand tutorCommand = new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(new Name("Mr Smith")), Set.of()));
+        assertThrows(CommandException.class, String.format(StudentSelector.MESSAGE_NOT_STUDENTS, "Mr Smith"), ()
+            -> tutorCommand.execute(model));
+
+        assertTrue(tuitionClass.getStudents().isEmpty());
+    }
+
+    @Test
+    public void execute_unknownClass_throwsCommandException() {
+        JoinAllCommand command = new JoinAllCommand("CS9999",
+                new StudentSelector(Set.of(new Name("Alice Tan")), Set.of()));
+
+        assertThrows(CommandException.class, JoinClassCommand.MESSAGE_CLASS_NOT_EXIST, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        StudentSelector selector = new StudentSelector(Set.of(new Name("Alice Tan")), Set.of());
+        JoinAllCommand command = new JoinAllCommand("CS2103T", selector);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(new Name("Alice Tan")), Set.of()))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new JoinAllCommand("CS2101", selector)));
+        assertFalse(command.equals(new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("sec3"))))));
+    }
+
+    private static Student createStudent(String name, String phone, String... tags) {
+        Set<Tag> tagSet = new HashSet<>();
+        for (String tag : tags) {
+            tagSet.add(new Tag(tag));
+        }
+        return new Student(new Name(name), new Phone(phone), new Email("student@example.com"),
+                new Address("10 Kent Ridge Road"), tagSet);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class LatencyCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @BeforeEach
+    public void setUp() {
+        CommandMetrics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CommandMetrics.clear();
+        CommandMetrics.setEnabled(true);
+    }
+
+    @Test
+    public void execute_nothingRecorded_showsNoCommands() {
+        assertEquals(LatencyCommand.MESSAGE_NO_COMMANDS, new LatencyCommand().execute(model).getFeedbackToUser());
+
+        CommandMetrics.setEnabled(false);
+        assertEquals(LatencyCommand.MESSAGE_DISABLED, new LatencyCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_durationsRecorded_showsPercentilesPerCommandAndPhase() {
+        CommandMetrics.record("list", Phase.PARSE, 10_000);
+        CommandMetrics.record("list", Phase.EXECUTE, 2_000_000);
+        CommandMetrics.record("add", Phase.EXECUTE, 1_000_000);
+        CommandMetrics.record("add", Phase.EXECUTE, 3_000_000);
+        CommandMetrics.record("add", Phase.PERSIST, 5_000_000);
+        CommandMetrics.record("add", Phase.UI_REFRESH, 40);
+
+        // A percentile is the highest duration in its bucket, but never above the longest duration recorded
+        String expected = LatencyCommand.MESSAGE_HEADER + "\n"
+                + String.format(LatencyCommand.MESSAGE_COMMAND, "add", 2) + "\n"
+                + "  execute: 1.016 / 3.000 / 3.000 / 3.000\n"
+                + "  persist: 5.000 / 5.000 / 5.000 / 5.000\n"
+                + "  ui refresh: 0.000 / 0.000 / 0.000 / 0.000\n"
+                + String.format(LatencyCommand.MESSAGE_COMMAND, "list", 1) + "\n"
+                + "  parse: 0.010 / 0.010 / 0.010 / 0.010\n"
+                + "  execute: 2.000 / 2.000 / 2.000 / 2.000";
+        assertEquals(expected, new LatencyCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        LatencyCommand latencyCommand = new LatencyCommand();
+        assertTrue(latencyCommand.equals(new LatencyCommand()));
+        assertFalse(latencyCommand.equals(new ListCommand()));
+        assertFalse(latencyCommand.equals(null));
+    }
+}
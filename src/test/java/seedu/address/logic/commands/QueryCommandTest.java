@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.query.AndQuery;
+import seedu.address.logic.query.ChildrenOfQuery;
+import seedu.address.logic.query.ClassQuery;
+import seedu.address.logic.query.NameQuery;
+import seedu.address.logic.query.NotQuery;
+import seedu.address.logic.query.OrQuery;
+import seedu.address.logic.query.ParentsOfQuery;
+import seedu.address.logic.query.Query;
+import seedu.address.logic.query.QueryPlan;
+import seedu.address.logic.query.RoleQuery;
+import seedu.address.logic.query.TagQuery;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains unit tests for {@code QueryCommand} and the planning of its queries.
+ */
+public class QueryCommandTest {
+
+    private static final Query STUDENTS = new RoleQuery(PersonType.STUDENT);
+    private static final Query SCHOLARS = new TagQuery(new Tag("scholar"));
+    private static final Query MATH = new ClassQuery("math101");
+
+    private Model model;
+    private Student alice;
+    private Student bob;
+    private Student carl;
+    private Student finn;
+    private Parent dana;
+    private Tutor elle;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        alice = (Student) build("Alice Tan", PersonType.STUDENT, "scholar");
+        bob = (Student) build("Bob Lim", PersonType.STUDENT);
+        carl = (Student) build("Carl Ong", PersonType.STUDENT, "scholar");
+        finn = (Student) build("Finn Ho", PersonType.STUDENT);
+        dana = (Parent) build("Dana Tan", PersonType.PARENT);
+        elle = (Tutor) build("Elle Goh", PersonType.TUTOR, "scholar");
+        for (Person person : List.of(alice, bob, carl, finn, dana, elle)) {
+            model.addPerson(person);
+        }
+        dana.addChild(alice);
+
+        TuitionClass math = new TuitionClass(new ClassName("Math101"), elle);
+        model.addClass(math);
+        model.addStudentToClass(alice, math);
+        model.addStudentToClass(bob, math);
+    }
+
+    @Test
+    public void execute_and_startsFromMostSelectiveIndex() throws Exception {
+        Query query = new AndQuery(List.of(STUDENTS, MATH));
+
+        QueryPlan plan = query.plan(model);
+        assertTrue(plan.getIndexScan().get().getDescription().startsWith("class roster"));
+        assertEquals(List.of(STUDENTS), plan.getRemainingQueries());
+
+        assertListed(query, alice, bob);
+    }
+
+    @Test
+    public void execute_orOfIndexedTerms_needsNoFurtherTests() throws Exception {
+        Query query = new OrQuery(List.of(SCHOLARS, MATH));
+
+        QueryPlan plan = query.plan(model);
+        assertTrue(plan.getIndexScan().get().isExact());
+        assertEquals(List.of(), plan.getRemainingQueries());
+
+        assertListed(query, alice, bob, carl, elle);
+    }
+
+    @Test
+    public void execute_not_excludesMatches() throws Exception {
+        assertListed(new AndQuery(List.of(STUDENTS, new NotQuery(SCHOLARS))), bob, finn);
+    }
+
+    @Test
+    public void execute_nameOnly_scansEveryPerson() throws Exception {
+        Query query = new NameQuery(List.of("tan"));
+
+        assertFalse(query.plan(model).getIndexScan().isPresent());
+        assertListed(query, alice, dana);
+    }
+
+    @Test
+    public void execute_relationships() throws Exception {
+        assertListed(new ChildrenOfQuery(new Name("Dana Tan")), alice);
+        assertListed(new ParentsOfQuery(new Name("alice tan")), dana);
+        assertListed(new ChildrenOfQuery(new Name("Bob Lim")));
+    }
+
+    @Test
+    public void execute_unknownClass_throwsCommandException() {
+        QueryCommand command = new QueryCommand(new AndQuery(List.of(STUDENTS, new ClassQuery("Physics"))));
+        assertThrows(CommandException.class, String.format(ClassQuery.MESSAGE_CLASS_NOT_FOUND, "Physics"), () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void execute_unknownPerson_throwsCommandException() {
+        QueryCommand command = new QueryCommand(new ParentsOfQuery(new Name("Nobody")));
+        assertThrows(CommandException.class, String.format(StudentSelector.MESSAGE_PERSONS_NOT_FOUND, "Nobody"), () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        QueryCommand command = new QueryCommand(new AndQuery(List.of(STUDENTS, MATH)));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new QueryCommand(new AndQuery(List.of(STUDENTS, new ClassQuery("MATH101"))))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new QueryCommand(new OrQuery(List.of(STUDENTS, MATH)))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new OrQuery(List.of(new AndQuery(List.of(STUDENTS, new NotQuery(SCHOLARS))), MATH));
+        assertEquals("((ro/student AND NOT t/scholar) OR c/math101)", query.toString());
+    }
+
+    private void assertListed(Query query, Person... expected) throws CommandException {
+        CommandResult result = new QueryCommand(query).execute(model);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, expected.length),
+                result.getFeedbackToUser());
+        assertEquals(Set.of(expected), new HashSet<>(model.getFilteredPersonList()));
+    }
+
+    private static Person build(String name, PersonType type, String... tags) {
+        return new PersonBuilder().withName(name).withPersonType(type).withTags(tags).build();
+    }
+}
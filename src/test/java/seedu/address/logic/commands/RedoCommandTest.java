@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_undoneChangeInHistory_redoesChange() throws Exception {
+        ChangeLog changes = model.startChangeLog();
+        model.addPerson(ALICE);
+        changes.stop();
+        model.addToHistory(changes);
+        model.undo();
+
+        CommandResult result = new RedoCommand().execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(ALICE));
+        assertFalse(model.canRedo());
+    }
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_NOTHING_TO_REDO, () ->
+                new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+        assertTrue(redoCommand.equals(new RedoCommand()));
+        assertFalse(redoCommand.equals(new UndoCommand()));
+        assertFalse(redoCommand.equals(null));
+    }
+}
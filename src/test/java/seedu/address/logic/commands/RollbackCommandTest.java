@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RollbackCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_inTransaction_undoesChanges() throws Exception {
+        model.beginTransaction();
+        model.addPerson(ALICE);
+
+        CommandResult result = new RollbackCommand().execute(model);
+
+        assertEquals(RollbackCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertFalse(model.isInTransaction());
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() {
+        assertThrows(CommandException.class, RollbackCommand.MESSAGE_NO_TRANSACTION, () ->
+                new RollbackCommand().execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RollbackCommand rollbackCommand = new RollbackCommand();
+        assertTrue(rollbackCommand.equals(new RollbackCommand()));
+        assertFalse(rollbackCommand.equals(new BeginCommand()));
+        assertFalse(rollbackCommand.equals(null));
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.RunCommand.Mode;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.TuitionClass;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, Mode.STOP));
+        assertThrows(NullPointerException.class, () -> new RunCommand(Paths.get("script.txt"), null));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path script = writeScript("# set up classes", "addclass c/Math101", "", "  addclass c/Physics201  ");
+
+        CommandResult result = new RunCommand(script, Mode.STOP).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script, 2, 0) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 2) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 4), result.getFeedbackToUser());
+        assertTrue(hasClass("Math101"));
+        assertTrue(hasClass("Physics201"));
+    }
+
+    @Test
+    public void execute_stopMode_stopsAtFirstFailure() throws Exception {
+        Path script = writeScript("addclass c/Math101", "addclass c/Math101", "addclass c/Physics201");
+
+        CommandResult result = new RunCommand(script, Mode.STOP).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script, 1, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, AddClassCommand.MESSAGE_DUPLICATE_CLASS) + "\n"
+                + String.format(RunCommand.MESSAGE_STOPPED, 2), result.getFeedbackToUser());
+        assertTrue(hasClass("Math101"));
+        assertFalse(hasClass("Physics201"));
+    }
+
+    @Test
+    public void execute_continueMode_runsRemainingCommands() throws Exception {
+        Path script = writeScript("addclass c/Math101", "unknowncommand", "switch east", "addclass c/Physics201");
+
+        CommandResult result = new RunCommand(script, Mode.CONTINUE).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 4, script, 2, 2) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 3,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, SwitchCommand.COMMAND_WORD)) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 4), result.getFeedbackToUser());
+        assertTrue(hasClass("Physics201"));
+    }
+
+    @Test
+    public void execute_atomicMode_undoesScriptOnFailure() throws Exception {
+        Path script = writeScript("addclass c/Math101", "addclass c/Physics201", "addclass c/Math101");
+
+        CommandResult result = new RunCommand(script, Mode.ATOMIC).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, script, 2, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 2) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 3, AddClassCommand.MESSAGE_DUPLICATE_CLASS) + "\n"
+                + String.format(RunCommand.MESSAGE_ROLLED_BACK, 3) + "\n"
+                + String.format(RunCommand.MESSAGE_STOPPED, 3), result.getFeedbackToUser());
+        assertFalse(hasClass("Math101"));
+        assertFalse(hasClass("Physics201"));
+    }
+
+    @Test
+    public void execute_unexpectedException_lineFailsAndIsUndone() throws Exception {
+        model = new ModelManager(new AddressBook(), new UserPrefs()) {
+            @Override
+            public void addClass(TuitionClass c) {
+                super.addClass(c);
+                if (c.getName().equals(new ClassName("Broken"))) {
+                    throw new IllegalStateException("broken class");
+                }
+            }
+        };
+        Path script = writeScript("addclass c/Broken", "addclass c/Math101");
+
+        CommandResult result = new RunCommand(script, Mode.CONTINUE).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script, 1, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 1, "broken class") + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 2), result.getFeedbackToUser());
+        assertFalse(hasClass("Broken"));
+        assertTrue(hasClass("Math101"));
+    }
+
+    @Test
+    public void execute_transactionCommand_rejected() throws Exception {
+        Path script = writeScript(BeginCommand.COMMAND_WORD);
+
+        CommandResult result = new RunCommand(script, Mode.STOP).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains(
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, BeginCommand.COMMAND_WORD)));
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_nestedScript_rejected() throws Exception {
+        Path script = writeScript("run " + testFolder.resolve("script.txt"));
+
+        CommandResult result = new RunCommand(script, Mode.STOP).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains(
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missing = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class,
+                String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, missing), () ->
+                        new RunCommand(missing, Mode.STOP).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runScript = new RunCommand(Paths.get("script.txt"), Mode.STOP);
+
+        // same object -> returns true
+        assertTrue(runScript.equals(runScript));
+
+        // same values -> returns true
+        assertTrue(runScript.equals(new RunCommand(Paths.get("script.txt"), Mode.STOP)));
+
+        // different types -> returns false
+        assertFalse(runScript.equals(1));
+
+        // null -> returns false
+        assertFalse(runScript.equals(null));
+
+        // different mode -> returns false
+        assertFalse(runScript.equals(new RunCommand(Paths.get("script.txt"), Mode.CONTINUE)));
+
+        // different file -> returns false
+        assertFalse(runScript.equals(new RunCommand(Paths.get("other.txt"), Mode.STOP)));
+    }
+
+    private boolean hasClass(String className) {
+        return model.hasClass(new TuitionClass(new ClassName(className)));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class SwitchCommandTest {
+
+    private Model model = new ModelManager();
+
+    @Test
+    public void constructor_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SwitchCommand(null));
+    }
+
+    @Test
+    public void execute_otherAddressBook_requestsSwitch() throws Exception {
+        CommandResult result = new SwitchCommand("east").execute(model);
+
+        assertEquals(String.format(SwitchCommand.MESSAGE_SUCCESS, "east"), result.getFeedbackToUser());
+        assertEquals("east", result.getAddressBookName().get());
+        assertEquals(CommandResult.DisplayType.CLASSES, result.getDisplayType());
+    }
+
+    @Test
+    public void execute_activeAddressBook_throwsCommandException() {
+        assertCommandFailure(new SwitchCommand("addressbook"), model,
+                String.format(SwitchCommand.MESSAGE_ALREADY_ACTIVE, "addressbook"));
+    }
+
+    @Test
+    public void isValidName() {
+        assertTrue(SwitchCommand.isValidName("east"));
+        assertTrue(SwitchCommand.isValidName("Branch_2-east"));
+        assertTrue(SwitchCommand.isValidName("a".repeat(50)));
+
+        assertFalse(SwitchCommand.isValidName(""));
+        assertFalse(SwitchCommand.isValidName("-east"));
+        assertFalse(SwitchCommand.isValidName("east.json"));
+        assertFalse(SwitchCommand.isValidName("../east"));
+        assertFalse(SwitchCommand.isValidName("branch east"));
+        assertFalse(SwitchCommand.isValidName("a".repeat(51)));
+    }
+
+    @Test
+    public void equals() {
+        SwitchCommand switchEast = new SwitchCommand("east");
+
+        assertTrue(switchEast.equals(switchEast));
+        assertTrue(switchEast.equals(new SwitchCommand("east")));
+        assertFalse(switchEast.equals(1));
+        assertFalse(switchEast.equals(null));
+        assertFalse(switchEast.equals(new SwitchCommand("west")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(SwitchCommand.class.getCanonicalName() + "{name=east}", new SwitchCommand("east").toString());
+    }
+
+}
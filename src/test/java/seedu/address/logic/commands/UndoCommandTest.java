@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_changeInHistory_undoesChange() throws Exception {
+        ChangeLog changes = model.startChangeLog();
+        model.addPerson(ALICE);
+        changes.stop();
+        model.addToHistory(changes);
+
+        CommandResult result = new UndoCommand().execute(model);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertFalse(model.hasPerson(ALICE));
+        assertTrue(model.canRedo());
+    }
+
+    @Test
+    public void execute_emptyHistory_throwsCommandException() {
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_NOTHING_TO_UNDO, () ->
+                new UndoCommand().execute(model));
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand();
+        assertTrue(undoCommand.equals(new UndoCommand()));
+        assertFalse(undoCommand.equals(new RedoCommand()));
+        assertFalse(undoCommand.equals(null));
+    }
+}
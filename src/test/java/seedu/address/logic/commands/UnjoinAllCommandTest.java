@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+public class UnjoinAllCommandTest {
+
+    private Model model;
+    private Student alice;
+    private Student bob;
+    private Student carl;
+    private TuitionClass tuitionClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        alice = new Student(new Name("Alice Tan"), new Phone("91234567"), new Email("alice@example.com"),
+                new Address("10 Kent Ridge Road"), new HashSet<>());
+        bob = new Student(new Name("Bob Lim"), new Phone("92345678"), new Email("bob@example.com"),
+                new Address("10 Kent Ridge Road"), Set.of(new Tag("graduated")));
+        carl = new Student(new Name("Carl Ong"), new Phone("93456789"), new Email("carl@example.com"),
+                new Address("10 Kent Ridge Road"), Set.of(new Tag("graduated")));
+        tuitionClass = new TuitionClass(new ClassName("CS2103T"));
+
+        model.addPerson(alice);
+        model.addPerson(bob);
+        model.addPerson(carl);
+        model.addClass(tuitionClass);
+        model.addStudentsToClass(List.of(alice, bob), tuitionClass);
+    }
+
+    @Test
+    public void execute_tag_removesTaggedStudentsInClass() throws Exception {
+        UnjoinAllCommand command = new UnjoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("graduated"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(UnjoinAllCommand.MESSAGE_SUCCESS, 1, "CS2103T"), result.getFeedbackToUser());
+        assertEquals(List.of(alice), tuitionClass.getStudents());
+        assertEquals(1, tuitionClass.getStudentCountProperty().get());
+        assertFalse(bob.getTuitionClasses().contains(tuitionClass));
+    }
+
+    @Test
+    public void execute_names_removesNamedStudents() throws Exception {
+        new UnjoinAllCommand("cs2103t", new StudentSelector(Set.of(new Name("Alice Tan"), new Name("Bob Lim")),
+                Set.of())).execute(model);
+
+        assertTrue(tuitionClass.getStudents().isEmpty());
+    }
+
+    @Test
+    public void execute_noneInClass_throwsCommandException() {
+        UnjoinAllCommand command = new UnjoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(new Name("Carl Ong")), Set.of()));
+
+        assertThrows(CommandException.class, String.format(UnjoinAllCommand.MESSAGE_NONE_IN_CLASS, "CS2103T"), ()
+            -> command.execute(model));
+    }
+
+    @Test
+    public void execute_unknownClass_throwsCommandException() {
+        UnjoinAllCommand command = new UnjoinAllCommand("CS9999",
+                new StudentSelector(Set.of(new Name("Alice Tan")), Set.of()));
+
+        assertThrows(CommandException.class, String.format(UnjoinClassCommand.MESSAGE_CLASS_NOT_FOUND, "CS9999"), ()
+            -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        UnjoinAllCommand command = new UnjoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("graduated"))));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new UnjoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("graduated"))))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new JoinAllCommand("CS2103T",
+                new StudentSelector(Set.of(), Set.of(new Tag("graduated"))))));
+        assertFalse(command.equals(new UnjoinAllCommand("CS2101",
+                new StudentSelector(Set.of(), Set.of(new Tag("graduated"))))));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddRecurringSessionsCommand;
+
+public class AddRecurringSessionsCommandParserTest {
+
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2024, 1, 8, 14, 30);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddRecurringSessionsCommand.MESSAGE_USAGE);
+
+    private final AddRecurringSessionsCommandParser parser = new AddRecurringSessionsCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " c/Math101 s/Week dt/2024-01-08 14:30 count/13 every/14 lo/COM1-B103",
+                new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 13, 14, "COM1-B103"));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_weeklyWithoutLocation() {
+        assertParseSuccess(parser, " c/Math101 s/Week dt/2024-01-08 14:30 count/13",
+                new AddRecurringSessionsCommand("Math101", "Week", FIRST_DATE_TIME, 13,
+                        AddRecurringSessionsCommand.DEFAULT_INTERVAL_DAYS, null));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        assertParseFailure(parser, " s/Week dt/2024-01-08 14:30 count/13", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/Math101 dt/2024-01-08 14:30 count/13", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/Math101 s/Week count/13", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/Math101 s/Week dt/2024-01-08 14:30", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " extra c/Math101 s/Week dt/2024-01-08 14:30 count/13", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidCount_failure() {
+        String prefix = " c/Math101 s/Week dt/2024-01-08 14:30 count/";
+        assertParseFailure(parser, prefix + "0", AddRecurringSessionsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, prefix + "-1", AddRecurringSessionsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, prefix + "abc", AddRecurringSessionsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, prefix + (AddRecurringSessionsCommand.MAX_COUNT + 1),
+                AddRecurringSessionsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, prefix + "99999999999", AddRecurringSessionsCommandParser.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_invalidInterval_failure() {
+        String prefix = " c/Math101 s/Week dt/2024-01-08 14:30 count/13 every/";
+        assertParseFailure(parser, prefix + "0", AddRecurringSessionsCommandParser.MESSAGE_INVALID_INTERVAL);
+        assertParseFailure(parser, prefix + "367", AddRecurringSessionsCommandParser.MESSAGE_INVALID_INTERVAL);
+    }
+
+    @Test
+    public void parse_numberedNameTooLong_failure() {
+        assertParseFailure(parser, " c/Math101 s/" + "a".repeat(98) + " dt/2024-01-08 14:30 count/10",
+                AddRecurringSessionsCommandParser.MESSAGE_SESSION_NAME_TOO_LONG);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,23 +16,39 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddClassCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddRecurringSessionsCommand;
+import seedu.address.logic.commands.AttendAllCommand;
 import seedu.address.logic.commands.AttendCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteClassCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditClassCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FootprintCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.JoinAllCommand;
 import seedu.address.logic.commands.JoinClassCommand;
+import seedu.address.logic.commands.LatencyCommand;
 import seedu.address.logic.commands.ListChildrenCommand;
 import seedu.address.logic.commands.ListClassCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListParentsCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnjoinAllCommand;
 import seedu.address.logic.commands.UnjoinClassCommand;
 import seedu.address.logic.commands.ViewSessionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -118,6 +135,53 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " out.jsonl");
+        assertEquals(new ExportCommand(Paths.get("out.jsonl"), ExportCommand.Format.JSON_LINES, null, null, null),
+                command);
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        assertEquals(new SwitchCommand("east"), parser.parseCommand(SwitchCommand.COMMAND_WORD + " east"));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("script.txt"), RunCommand.Mode.CONTINUE),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt mode/continue"));
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertEquals(new BeginCommand(), parser.parseCommand(BeginCommand.COMMAND_WORD));
+        assertEquals(new CommitCommand(), parser.parseCommand(CommitCommand.COMMAND_WORD));
+        assertEquals(new RollbackCommand(), parser.parseCommand(RollbackCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertEquals(new UndoCommand(), parser.parseCommand(UndoCommand.COMMAND_WORD));
+        assertEquals(new RedoCommand(), parser.parseCommand(RedoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_latency() throws Exception {
+        assertEquals(new LatencyCommand(), parser.parseCommand(LatencyCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_footprint() throws Exception {
+        assertEquals(new FootprintCommand(), parser.parseCommand(FootprintCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/new.csv");
+        assertEquals(new ImportCommand(Paths.get("data", "new.csv")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -143,6 +207,33 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(FilterCommand.COMMAND_WORD + " ro/student") instanceof FilterCommand);
     }
 
+    @Test
+    public void parseCommand_joinAllAndUnjoinAll() throws Exception {
+        assertTrue(parser.parseCommand(JoinAllCommand.COMMAND_WORD + " c/Math101 n/Alice t/sec3")
+                instanceof JoinAllCommand);
+        assertTrue(parser.parseCommand(UnjoinAllCommand.COMMAND_WORD + " c/Math101 t/sec3")
+                instanceof UnjoinAllCommand);
+    }
+
+    @Test
+    public void parseCommand_addRecurring() throws Exception {
+        String commandString = AddRecurringSessionsCommand.COMMAND_WORD
+                + " c/className s/Week dt/2024-01-08 14:30 count/13";
+        assertTrue(parser.parseCommand(commandString) instanceof AddRecurringSessionsCommand);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        String commandString = QueryCommand.COMMAND_WORD + " ro/student AND (c/Math101 OR t/friends)";
+        assertTrue(parser.parseCommand(commandString) instanceof QueryCommand);
+    }
+
+    @Test
+    public void parseCommand_attendAll() throws Exception {
+        String commandString = AttendAllCommand.COMMAND_WORD + " c/className s/sessionName status/PRESENT except/Bob";
+        assertTrue(parser.parseCommand(commandString) instanceof AttendAllCommand);
+    }
+
     @Test
     public void parseCommand_attend() throws Exception {
         String commandString = AttendCommand.COMMAND_WORD + " n/Alice c/className s/sessionName status/PRESENT";
@@ -179,6 +270,46 @@ public class AddressBookParserTest {
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_multiLineInput_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(ListCommand.COMMAND_WORD + " 3\nclear"));
+    }
+
+    @Test
+    public void parseCommand_tabAfterCommandWord_success() throws Exception {
+        assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + "\t3") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_helpWithCommandWord_showsUsage() throws Exception {
+        assertEquals(new HelpCommand(AddCommand.MESSAGE_USAGE),
+                parser.parseCommand(HelpCommand.COMMAND_WORD + " " + AddCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_alias() throws Exception {
+        assertTrue(parser.parseCommand("ls") instanceof ListCommand);
+        assertTrue(parser.parseCommand("quit") instanceof ExitCommand);
+    }
+
+    @Test
+    public void parseCommand_abbreviation() throws Exception {
+        assertTrue(parser.parseCommand("liststu c/Math101") instanceof ListStudentsCommand);
+        assertTrue(parser.parseCommand("exi") instanceof ExitCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        // exit and export
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ex"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedClear_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cle"));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
@@ -338,4 +338,38 @@ public class ArgumentTokenizerTest {
         assertEquals("CS2103T", argMultimap.getValue(classPrefix).get());
         assertEquals("Week 1", argMultimap.getValue(sessionPrefix).get());
     }
+
+    @Test
+    @DisplayName("A tokenizer can be reused for different arguments strings")
+    public void split_reusedTokenizer_independentResults() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(prefixA, prefixB);
+
+        ArgumentMultimap first = tokenizer.split("one a/1 b/2");
+        ArgumentMultimap second = tokenizer.split("two b/3");
+
+        assertEquals("one", first.getPreamble());
+        assertEquals("1", first.getValue(prefixA).get());
+        assertEquals("2", first.getValue(prefixB).get());
+        assertEquals("two", second.getPreamble());
+        assertFalse(second.getValue(prefixA).isPresent());
+        assertEquals("3", second.getValue(prefixB).get());
+    }
+
+    @Test
+    @DisplayName("Tokenize with a non-ASCII prefix")
+    public void tokenize_nonAsciiPrefix_success() {
+        Prefix nonAsciiPrefix = new Prefix("名/");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("名/值 a/value", nonAsciiPrefix, prefixA);
+
+        assertEquals("值", argMultimap.getValue(nonAsciiPrefix).get());
+        assertEquals("value", argMultimap.getValue(prefixA).get());
+    }
+
+    @Test
+    @DisplayName("Tokenize with the same prefix given twice")
+    public void tokenize_duplicatePrefixGiven_valuesNotRepeated() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("a/value", prefixA, new Prefix("a/"));
+
+        assertEquals(1, argMultimap.getAllValues(prefixA).size());
+    }
 }
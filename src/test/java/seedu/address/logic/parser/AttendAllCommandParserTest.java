@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_ATTENDANCE_STATUS;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendAllCommand;
+import seedu.address.model.person.Name;
+
+/**
+ * Contains unit tests for {@code AttendAllCommandParser}.
+ */
+public class AttendAllCommandParserTest {
+
+    private static final String SESSION_DESC = " " + PREFIX_CLASS + "Math101 " + PREFIX_SESSION + "Session1 "
+            + PREFIX_STATUS + "PRESENT";
+
+    private AttendAllCommandParser parser = new AttendAllCommandParser();
+
+    @Test
+    public void parse_noNames_marksWholeClass() {
+        assertParseSuccess(parser, SESSION_DESC,
+                new AttendAllCommand("Math101", "Session1", true, Set.of(), true));
+    }
+
+    @Test
+    public void parse_names_marksNamedStudents() {
+        assertParseSuccess(parser, SESSION_DESC + " " + PREFIX_NAME + "Alice Pauline " + PREFIX_NAME + "Bob Tan",
+                new AttendAllCommand("Math101", "Session1", true,
+                        Set.of(new Name("Alice Pauline"), new Name("Bob Tan")), false));
+    }
+
+    @Test
+    public void parse_exceptions_marksOtherStudents() {
+        assertParseSuccess(parser, SESSION_DESC + " " + PREFIX_EXCEPT + "Bob Tan",
+                new AttendAllCommand("Math101", "Session1", true, Set.of(new Name("Bob Tan")), true));
+    }
+
+    @Test
+    public void parse_namesAndExceptions_failure() {
+        assertParseFailure(parser, SESSION_DESC + " " + PREFIX_NAME + "Alice Pauline " + PREFIX_EXCEPT + "Bob Tan",
+                AttendAllCommandParser.MESSAGE_NAMES_AND_EXCEPTIONS);
+    }
+
+    @Test
+    public void parse_missingSession_failure() {
+        assertParseFailure(parser, " " + PREFIX_CLASS + "Math101 " + PREFIX_STATUS + "PRESENT",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendAllCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidStatus_failure() {
+        assertParseFailure(parser, " " + PREFIX_CLASS + "Math101 " + PREFIX_SESSION + "Session1 "
+                + PREFIX_STATUS + "LATE", MESSAGE_INVALID_ATTENDANCE_STATUS);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " everyone" + SESSION_DESC,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendAllCommand.MESSAGE_USAGE));
+    }
+}
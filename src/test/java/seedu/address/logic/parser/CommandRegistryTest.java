@@ -0,0 +1,113 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListClassCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.CommandRegistry.CommandEntry;
+import seedu.address.model.Model;
+
+public class CommandRegistryTest {
+
+    private final CommandEntry listEntry = new CommandEntry(ListCommand.class, ListCommand.COMMAND_WORD,
+            ListCommand.MESSAGE_USAGE, false, args -> new ListCommand()).withAliases("ls");
+    private final CommandEntry listClassEntry = new CommandEntry(ListClassCommand.class,
+            ListClassCommand.COMMAND_WORD, ListClassCommand.MESSAGE_USAGE, false, args -> new ListClassCommand());
+    private final CommandEntry clearEntry = new CommandEntry(ClearCommand.class, ClearCommand.COMMAND_WORD,
+            ClearCommand.MESSAGE_USAGE, true, args -> new ClearCommand()).withoutAbbreviation();
+    private final CommandEntry exitEntry = new CommandEntry(ExitCommand.class, ExitCommand.COMMAND_WORD,
+            ExitCommand.MESSAGE_USAGE, false, args -> new ExitCommand());
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register(listEntry);
+        registry.register(listClassEntry);
+        registry.register(clearEntry);
+        registry.register(exitEntry);
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register(new CommandEntry(ExitCommand.class,
+                "bye", ExitCommand.MESSAGE_USAGE, false, args -> new ExitCommand()).withAliases("ls")));
+    }
+
+    @Test
+    public void resolve_commandWordOrAlias_returnsEntry() {
+        assertEquals(Optional.of(listEntry), registry.resolve("list"));
+        assertEquals(Optional.of(listEntry), registry.resolve("ls"));
+        assertEquals(Optional.of(clearEntry), registry.resolve("clear"));
+    }
+
+    @Test
+    public void resolve_uniqueAbbreviation_returnsEntry() {
+        assertEquals(Optional.of(listClassEntry), registry.resolve("listc"));
+        assertEquals(Optional.of(exitEntry), registry.resolve("e"));
+    }
+
+    @Test
+    public void resolve_ambiguousAbbreviation_returnsEmpty() {
+        // ls, list and listclass
+        assertEquals(Optional.empty(), registry.resolve("l"));
+    }
+
+    @Test
+    public void resolve_abbreviatedCommandThatMustBeTypedInFull_returnsEmpty() {
+        assertEquals(Optional.empty(), registry.resolve("cl"));
+    }
+
+    @Test
+    public void resolve_unknownWord_returnsEmpty() {
+        assertEquals(Optional.empty(), registry.resolve("lists"));
+        assertEquals(Optional.empty(), registry.resolve("LIST"));
+    }
+
+    @Test
+    public void isMutating() {
+        assertTrue(registry.isMutating(new ClearCommand()));
+        assertFalse(registry.isMutating(new ListCommand()));
+
+        // unregistered commands are assumed to change the address book
+        assertTrue(registry.isMutating(new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                return new CommandResult("");
+            }
+        }));
+    }
+
+    @Test
+    public void getCompletions() {
+        assertEquals(List.of("list", "listclass", "ls"), registry.getCompletions("l"));
+        assertEquals(List.of("list", "listclass"), registry.getCompletions("list"));
+        assertEquals(List.of(), registry.getCompletions("x"));
+    }
+
+    @Test
+    public void getEntries_returnsEntriesInRegistrationOrder() {
+        assertEquals(List.of(listEntry, listClassEntry, clearEntry, exitEntry), registry.getEntries());
+    }
+
+    @Test
+    public void defaultRegistry_everyCommandHasUsage() {
+        for (CommandEntry entry : AddressBookParser.createDefaultRegistry().getEntries()) {
+            assertTrue(entry.getUsage().startsWith(entry.getCommandWord()), entry.getCommandWord());
+        }
+    }
+}
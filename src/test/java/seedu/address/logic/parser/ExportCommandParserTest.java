@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Format;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " c/Math101",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_pathOnly_returnsExportCommand() {
+        assertParseSuccess(parser, " reports/all.csv",
+                new ExportCommand(Paths.get("reports", "all.csv"), Format.CSV, null, null, null));
+        assertParseSuccess(parser, " reports/All Classes.JSONL ",
+                new ExportCommand(Paths.get("reports", "All Classes.JSONL"), Format.JSON_LINES, null, null, null));
+    }
+
+    @Test
+    public void parse_allFilters_returnsExportCommand() {
+        assertParseSuccess(parser, " jan.csv c/Math101 from/2025-01-01 to/2025-01-31",
+                new ExportCommand(Paths.get("jan.csv"), Format.CSV, "Math101",
+                        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)));
+        assertParseSuccess(parser, " jan.csv to/2025-01-31",
+                new ExportCommand(Paths.get("jan.csv"), Format.CSV, null, null, LocalDate.of(2025, 1, 31)));
+    }
+
+    @Test
+    public void parse_unknownExtension_throwsParseException() {
+        assertParseFailure(parser, " report.txt", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, " jan.csv from/2025-02-01 to/2025-01-31", ExportCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " jan.csv from/2025-02-30",
+                "Invalid date. Please check if the date exists "
+                        + "(e.g., Feb 29 only in leap years, no April 31). Format: yyyy-MM-dd");
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, " jan.csv c/Math101 c/Science",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_CLASS));
+    }
+
+}
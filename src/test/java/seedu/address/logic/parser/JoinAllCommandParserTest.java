@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.JoinAllCommand;
+import seedu.address.logic.commands.StudentSelector;
+import seedu.address.logic.commands.UnjoinAllCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.tag.Tag;
+
+public class JoinAllCommandParserTest {
+
+    private final JoinAllCommandParser parser = new JoinAllCommandParser();
+    private final UnjoinAllCommandParser unjoinAllParser = new UnjoinAllCommandParser();
+
+    @Test
+    public void parse_namesAndTags_success() {
+        StudentSelector selector = new StudentSelector(Set.of(new Name("Alice Tan"), new Name("Bob Lim")),
+                Set.of(new Tag("sec3")));
+        assertParseSuccess(parser, " c/CS2103T n/Alice Tan n/Bob Lim t/sec3", new JoinAllCommand("CS2103T", selector));
+        assertParseSuccess(unjoinAllParser, " c/CS2103T n/Alice Tan n/Bob Lim t/sec3",
+                new UnjoinAllCommand("CS2103T", selector));
+    }
+
+    @Test
+    public void parse_tagOnly_success() {
+        assertParseSuccess(parser, " c/CS2103T t/sec3",
+                new JoinAllCommand("CS2103T", new StudentSelector(Set.of(), Set.of(new Tag("sec3")))));
+    }
+
+    @Test
+    public void parse_noNamesOrTags_failure() {
+        assertParseFailure(parser, " c/CS2103T",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, JoinAllCommand.MESSAGE_USAGE));
+        assertParseFailure(unjoinAllParser, " c/CS2103T",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnjoinAllCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingClassOrPreamble_failure() {
+        assertParseFailure(parser, " n/Alice Tan",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, JoinAllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " everyone c/CS2103T n/Alice Tan",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, JoinAllCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_failure() {
+        assertParseFailure(parser, " c/CS2103T n/Alice*", Name.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -261,4 +262,16 @@ public class ParserUtilTest {
         String tutorNameWithWhitespace = WHITESPACE + "Ms Lee" + WHITESPACE;
         assertEquals("Ms Lee", ParserUtil.parseTutorName(tutorNameWithWhitespace));
     }
+
+    @Test
+    public void parseDate_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDate("2025-02-29"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDate("2025-01-01 10:00"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDate("01/01/2025"));
+    }
+
+    @Test
+    public void parseDate_validValueWithWhitespace_returnsDate() throws Exception {
+        assertEquals(LocalDate.of(2024, 2, 29), ParserUtil.parseDate(WHITESPACE + "2024-02-29" + WHITESPACE));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.query.AndQuery;
+import seedu.address.logic.query.ChildrenOfQuery;
+import seedu.address.logic.query.ClassQuery;
+import seedu.address.logic.query.NameQuery;
+import seedu.address.logic.query.NotQuery;
+import seedu.address.logic.query.OrQuery;
+import seedu.address.logic.query.ParentsOfQuery;
+import seedu.address.logic.query.RoleQuery;
+import seedu.address.logic.query.TagQuery;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleTerm_success() {
+        assertParseSuccess(parser, " ro/tutor", new QueryCommand(new RoleQuery(PersonType.TUTOR)));
+        assertParseSuccess(parser, " c/Sec 3 Math", new QueryCommand(new ClassQuery("Sec 3 Math")));
+        assertParseSuccess(parser, " parent/John Doe", new QueryCommand(new ChildrenOfQuery(new Name("John Doe"))));
+        assertParseSuccess(parser, " child/Jane Doe", new QueryCommand(new ParentsOfQuery(new Name("Jane Doe"))));
+        assertParseSuccess(parser, " n/alex bernice", new QueryCommand(new NameQuery(List.of("alex", "bernice"))));
+    }
+
+    @Test
+    public void parse_operatorPrecedence_notThenAndThenOr() {
+        // ro/student AND t/friends OR NOT c/Math101  ==  (ro/student AND t/friends) OR (NOT c/Math101)
+        assertParseSuccess(parser, " ro/student AND t/friends OR NOT c/Math101",
+                new QueryCommand(new OrQuery(List.of(
+                        new AndQuery(List.of(new RoleQuery(PersonType.STUDENT), new TagQuery(new Tag("friends")))),
+                        new NotQuery(new ClassQuery("Math101"))))));
+    }
+
+    @Test
+    public void parse_adjacentTermsAndParentheses_success() {
+        assertParseSuccess(parser, " ro/student (c/Math101 OR t/scholar) NOT n/alex",
+                new QueryCommand(new AndQuery(List.of(
+                        new RoleQuery(PersonType.STUDENT),
+                        new OrQuery(List.of(new ClassQuery("Math101"), new TagQuery(new Tag("scholar")))),
+                        new NotQuery(new NameQuery(List.of("alex")))))));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ro/student AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " OR t/friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unbalancedParentheses_failure() {
+        assertParseFailure(parser, " (ro/student OR t/friends", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, " ro/student)", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " t/best friends", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " parent/J@ne", Name.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.Mode;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " mode/stop",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        // no mode -> stops at the first error
+        assertParseSuccess(parser, "  scripts/new term.txt  ",
+                new RunCommand(Paths.get("scripts", "new term.txt"), Mode.STOP));
+
+        // modes are case-insensitive
+        assertParseSuccess(parser, " script.txt mode/Continue",
+                new RunCommand(Paths.get("script.txt"), Mode.CONTINUE));
+        assertParseSuccess(parser, " script.txt mode/stop", new RunCommand(Paths.get("script.txt"), Mode.STOP));
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        assertParseFailure(parser, " script.txt mode/skip", RunCommandParser.MESSAGE_UNKNOWN_MODE);
+    }
+
+    @Test
+    public void parse_duplicateMode_throwsParseException() {
+        assertParseFailure(parser, " script.txt mode/stop mode/continue",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_MODE));
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SwitchCommand;
+
+public class SwitchCommandParserTest {
+
+    private SwitchCommandParser parser = new SwitchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsLowerCaseName() {
+        assertParseSuccess(parser, "  Branch-East  ", new SwitchCommand("branch-east"));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "branch east", SwitchCommand.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "../east", SwitchCommand.MESSAGE_CONSTRAINTS);
+    }
+
+}
@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AddressBookCacheTest {
+
+    private final AddressBook oneRecord = new AddressBookBuilder().withPerson(ALICE).build();
+    private final AddressBook twoRecords = new AddressBookBuilder().withPerson(BENSON).withPerson(CARL).build();
+
+    @Test
+    public void estimateSize_countsPersonsClassesSessionsAndAttendance() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        TuitionClass tuitionClass = new TuitionClass(new ClassName("Math101"));
+        addressBook.addClass(tuitionClass);
+        tuitionClass.addSession("Week 1", LocalDateTime.of(2025, 1, 6, 10, 0), null);
+
+        assertEquals(3, AddressBookCache.estimateSize(addressBook));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + getTypicalAddressBook().getClassList().size(),
+                AddressBookCache.estimateSize(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void take_cachedAddressBook_removedFromCache() {
+        AddressBookCache cache = new AddressBookCache(100);
+        cache.put("east", oneRecord, 0);
+
+        assertSame(oneRecord, cache.take("east").get());
+        assertFalse(cache.take("east").isPresent());
+        assertEquals(0, cache.getCachedSize());
+    }
+
+    @Test
+    public void put_overBudget_evictsLeastRecentlyUsed() {
+        AddressBookCache cache = new AddressBookCache(4);
+        cache.put("east", oneRecord, 1);
+        cache.put("west", twoRecords, 1);
+        assertEquals(List.of("east", "west"), cache.getNames());
+
+        cache.put("north", oneRecord, 1);
+        assertEquals(List.of("west", "north"), cache.getNames());
+        assertEquals(3, cache.getCachedSize());
+
+        cache.put("east", oneRecord, 2);
+        assertEquals(List.of("north", "east"), cache.getNames());
+    }
+
+    @Test
+    public void put_sameName_replacesEntry() {
+        AddressBookCache cache = new AddressBookCache(100);
+        cache.put("east", oneRecord, 0);
+        cache.put("east", twoRecords, 0);
+
+        assertEquals(List.of("east"), cache.getNames());
+        assertEquals(2, cache.getCachedSize());
+    }
+
+    @Test
+    public void put_zeroBudget_keepsNothing() {
+        AddressBookCache cache = new AddressBookCache(0);
+        cache.put("east", oneRecord, 0);
+        assertEquals(List.of(), cache.getNames());
+    }
+
+    @Test
+    public void put_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookCache(1).put("east", null, 0));
+    }
+
+}
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeHistoryTest {
+
+    private final ChangeLog.Recorder recorder = new ChangeLog.Recorder();
+    private final List<String> list = new ArrayList<>();
+
+    @Test
+    public void undoRedo_restoresEachStep() {
+        ChangeHistory history = new ChangeHistory(10);
+        history.add(change("a"));
+        history.add(change("b"));
+
+        history.undo();
+        assertEquals(List.of("a"), list);
+        history.undo();
+        assertEquals(List.of(), list);
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertEquals(List.of("a"), list);
+        history.redo();
+        assertEquals(List.of("a", "b"), list);
+        assertFalse(history.canRedo());
+
+        history.undo();
+        assertEquals(List.of("a"), list);
+    }
+
+    @Test
+    public void add_afterUndo_forgetsUndoneSteps() {
+        ChangeHistory history = new ChangeHistory(10);
+        history.add(change("a"));
+        history.undo();
+        assertTrue(history.canRedo());
+
+        history.add(change("b"));
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void add_emptyChanges_ignored() {
+        ChangeHistory history = new ChangeHistory(10);
+        ChangeLog changes = recorder.start();
+        changes.stop();
+
+        history.add(changes);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void add_beyondDepth_forgetsEarliestSteps() {
+        ChangeHistory history = new ChangeHistory(1);
+        history.add(change("a"));
+        history.add(change("b"));
+
+        history.undo();
+        assertEquals(List.of("a"), list);
+        assertFalse(history.canUndo());
+
+        // a depth of zero keeps nothing
+        history.setDepth(0);
+        history.add(change("c"));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_nothingToDo_throwsIllegalStateException() {
+        ChangeHistory history = new ChangeHistory(10);
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    /**
+     * Appends {@code element} to the list, and returns the log of that change.
+     */
+    private ChangeLog change(String element) {
+        ChangeLog changes = recorder.start();
+        ChangeLog.add(list, element);
+        changes.stop();
+        return changes;
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeLogTest {
+
+    private final ChangeLog.Recorder recorder = new ChangeLog.Recorder();
+
+    @Test
+    public void revert_listAndMapChanges_restoresPreviousContents() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c"));
+        Map<String, Integer> map = new HashMap<>(Map.of("a", 1));
+
+        ChangeLog log = recorder.start();
+        ChangeLog.add(list, "d");
+        ChangeLog.remove(list, "a");
+        ChangeLog.set(list, 0, "e");
+        ChangeLog.addAll(list, List.of("f", "g"));
+        ChangeLog.put(map, "a", 2);
+        ChangeLog.put(map, "b", 3);
+        assertEquals(List.of("e", "c", "d", "f", "g"), list);
+        assertEquals(6, log.size());
+
+        log.revert();
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(Map.of("a", 1), map);
+        assertTrue(log.isEmpty());
+        assertFalse(log.isActive());
+    }
+
+    @Test
+    public void record_noActiveLog_recordsNothing() {
+        List<String> list = new ArrayList<>();
+        assertFalse(ChangeLog.isRecording());
+
+        ChangeLog.add(list, "a");
+        ChangeLog log = recorder.start();
+        assertTrue(ChangeLog.isRecording());
+        assertTrue(recorder.isRecording());
+        log.revert();
+        assertFalse(ChangeLog.isRecording());
+
+        assertEquals(List.of("a"), list);
+    }
+
+    @Test
+    public void revert_innerLog_recordedInOuterLog() {
+        List<String> list = new ArrayList<>();
+
+        ChangeLog outer = recorder.start();
+        ChangeLog.add(list, "a");
+        ChangeLog inner = recorder.start();
+        ChangeLog.add(list, "b");
+        ChangeLog.setAll(list, List.of("c"));
+        inner.revert();
+        assertEquals(List.of("a"), list);
+
+        // the outer log undoes both the inner changes and their reversal
+        outer.revert();
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    public void start_otherRecorderActive_throwsIllegalStateException() {
+        ChangeLog log = recorder.start();
+        ChangeLog.Recorder other = new ChangeLog.Recorder();
+        try {
+            assertThrows(IllegalStateException.class, other::start);
+            assertFalse(other.isRecording());
+        } finally {
+            log.stop();
+        }
+
+        // once this recorder stops, the other one can record on this thread
+        ChangeLog otherLog = other.start();
+        ChangeLog.add(new ArrayList<>(), "a");
+        otherLog.stop();
+        assertEquals(1, otherLog.size());
+        assertEquals(0, log.size());
+    }
+
+    @Test
+    public void record_otherThread_notRecorded() throws Exception {
+        List<String> list = new ArrayList<>();
+        ChangeLog log = recorder.start();
+        Thread other = new Thread(() -> ChangeLog.add(list, "a"));
+        other.start();
+        other.join();
+        log.stop();
+
+        assertEquals(List.of("a"), list);
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    public void revert_classChanges_restoresRosterTutorAndSessions() {
+        TuitionClass tuitionClass = new TuitionClass(new ClassName("Math101"));
+        Student student = (Student) new PersonBuilder().withName("Amy Bee")
+                .withPersonType(PersonType.STUDENT).build();
+        Tutor tutor = (Tutor) new PersonBuilder().withName("Bob Choo")
+                .withPersonType(PersonType.TUTOR).build();
+        ClassSession session = tuitionClass.addSession("Week 1", LocalDateTime.now().plusDays(1), "Room 1");
+
+        ChangeLog log = recorder.start();
+        tuitionClass.addStudent(student);
+        tuitionClass.setTutor(tutor);
+        tuitionClass.addSession("Week 2", LocalDateTime.now().plusDays(8), "Room 1");
+        session.markPresent(student);
+        session.setLocation("Room 2");
+        log.revert();
+
+        assertTrue(tuitionClass.getStudents().isEmpty());
+        assertTrue(student.getTuitionClasses().isEmpty());
+        assertEquals(0, tuitionClass.getStudentCountProperty().get());
+        assertNull(tuitionClass.getTutor());
+        assertTrue(tutor.getTuitionClasses().isEmpty());
+        assertEquals("Unassigned", tuitionClass.getTutorProperty().get());
+        assertEquals(List.of(session), tuitionClass.getAllSessions());
+        assertEquals(1, tuitionClass.getSessionCountProperty().get());
+        assertTrue(session.getAttendanceRecord().isEmpty());
+        assertEquals("Room 1", session.getLocation());
+    }
+}
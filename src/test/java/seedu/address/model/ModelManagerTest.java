@@ -82,6 +82,20 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void switchAddressBook_validName_replacesDataAndPaths() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(unused -> false);
+        AddressBook branch = new AddressBookBuilder().withPerson(BENSON).build();
+
+        modelManager.switchAddressBook("branch", branch);
+
+        assertEquals(branch, new AddressBook(modelManager.getAddressBook()));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Paths.get("data", "branch.json"), modelManager.getAddressBookFilePath());
+        assertEquals(Paths.get("data", "branch.mv.db"), modelManager.getUserPrefs().getAddressBookDatabasePath());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -103,6 +117,42 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void transaction_wrongState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+        modelManager.commitTransaction();
+    }
+
+    @Test
+    public void rollbackTransaction_restoresAddressBook() {
+        modelManager.addPerson(ALICE);
+        AddressBook expected = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.beginTransaction();
+        assertTrue(modelManager.isInTransaction());
+        modelManager.addPerson(BENSON);
+        modelManager.addClass(new TuitionClass(new ClassName("Math101")));
+        modelManager.rollbackTransaction();
+
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(expected, new AddressBook(modelManager.getAddressBook()));
+        assertTrue(modelManager.getPersonIndex().getPerson(BENSON.getName()).isEmpty());
+    }
+
+    @Test
+    public void commitTransaction_keepsChanges() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commitTransaction();
+
+        assertFalse(modelManager.isInTransaction());
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JmxUtil;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.model.util.SampleDataGenerator.Size;
+
+public class ModelStatisticsTest {
+
+    private final AddressBook addressBook = new SampleDataGenerator(1).generate(new Size(30, 2, 4, 6));
+
+    @Test
+    public void of_countsEntitiesByType() {
+        ModelStatistics statistics = ModelStatistics.of(addressBook);
+
+        assertEquals(30, statistics.getStudentCount());
+        assertEquals(2, statistics.getTutorCount());
+        assertEquals(count(PersonType.PARENT), statistics.getParentCount());
+        assertEquals(addressBook.getPersonList().size(), statistics.getPersonCount());
+        assertEquals(4, statistics.getClassCount());
+        assertEquals(4 * 6, statistics.getSessionCount());
+
+        long attendance = 0;
+        for (TuitionClass tuitionClass : addressBook.getClassList()) {
+            for (ClassSession session : tuitionClass.getAllSessions()) {
+                attendance += session.getAttendanceRecord().size();
+            }
+        }
+        assertTrue(attendance > 0);
+        assertEquals(attendance, statistics.getAttendanceCount());
+        assertEquals(addressBook.getPersonList().stream().mapToLong(person -> person.getTags().size()).sum(),
+                statistics.getTagCount());
+    }
+
+    @Test
+    public void of_estimatesBytesByType() {
+        ModelStatistics statistics = ModelStatistics.of(addressBook);
+
+        assertTrue(statistics.getStudentBytes() > statistics.getTutorBytes());
+        assertTrue(statistics.getParentBytes() > 0);
+        assertTrue(statistics.getClassBytes() > 0);
+        assertTrue(statistics.getSessionBytes() > 0);
+        assertTrue(statistics.getAttendanceBytes() > 0);
+        assertTrue(statistics.getFxListBytes() > 0);
+        assertTrue(statistics.getIndexBytes() > 0);
+        assertEquals(statistics.getStudentBytes() + statistics.getTutorBytes() + statistics.getParentBytes()
+                + statistics.getClassBytes() + statistics.getSessionBytes() + statistics.getAttendanceBytes()
+                + statistics.getTagBytes() + statistics.getFxListBytes() + statistics.getIndexBytes(),
+                statistics.getTotalBytes());
+
+        // An empty address book still holds its lists and index
+        ModelStatistics empty = ModelStatistics.of(new AddressBook());
+        assertEquals(0, empty.getPersonCount());
+        assertEquals(0, empty.getTagBytes());
+        assertEquals(empty.getFxListBytes() + empty.getIndexBytes(), empty.getTotalBytes());
+    }
+
+    @Test
+    public void bean_staleStatistics_countedOnModelThreadAtMostOncePerInterval() {
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        List<Runnable> modelThread = new ArrayList<>();
+        AtomicLong now = new AtomicLong();
+        ModelStatisticsBean bean = new ModelStatisticsBean(model, modelThread::add, now::get);
+        ModelStatistics first = bean.getStatistics();
+
+        // unchanged statistics are never counted again
+        now.set(2 * ModelStatisticsBean.MAX_AGE_MILLIS);
+        assertSame(first, bean.getStatistics());
+        assertTrue(modelThread.isEmpty());
+
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        bean.invalidate();
+        // counted at 0, so not old enough yet
+        now.set(ModelStatisticsBean.MAX_AGE_MILLIS - 1);
+        assertSame(first, bean.getStatistics());
+        assertTrue(modelThread.isEmpty());
+
+        // once old enough, the stale statistics are counted again on the model thread, and only asked for once
+        now.set(ModelStatisticsBean.MAX_AGE_MILLIS);
+        assertSame(first, bean.getStatistics());
+        assertSame(first, bean.getStatistics());
+        assertEquals(1, modelThread.size());
+        modelThread.remove(0).run();
+        assertEquals(first.getPersonCount() - 1, bean.getPersonCount());
+        assertTrue(modelThread.isEmpty());
+    }
+
+    @Test
+    public void registerMBean_attributesReadable() throws Exception {
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        model.registerMBean(Runnable::run);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = JmxUtil.getObjectName(ModelStatisticsBean.TYPE);
+        try {
+            assertEquals((long) addressBook.getPersonList().size(), server.getAttribute(name, "PersonCount"));
+            assertEquals(4L, server.getAttribute(name, "ClassCount"));
+            assertTrue((Long) server.getAttribute(name, "TotalBytes") > 0);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    private long count(PersonType type) {
+        return addressBook.getPersonList().stream().map(Person::getPersonType).filter(type::equals).count();
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +21,27 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void switchAddressBook_validName_pathsRenamed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(Paths.get("branches", "main.json"));
+        userPrefs.switchAddressBook("east");
+        assertEquals(Paths.get("branches", "east.json"), userPrefs.getAddressBookFilePath());
+        assertEquals(Paths.get("data", "east.mv.db"), userPrefs.getAddressBookDatabasePath());
+    }
+
+    @Test
+    public void setAddressBookMemoryBudget_negativeBudget_setToZero() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookMemoryBudget(-1);
+        assertEquals(0, userPrefs.getAddressBookMemoryBudget());
+    }
+
+    @Test
+    public void setUndoHistoryDepth_negativeDepth_setToZero() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(-1);
+        assertEquals(0, userPrefs.getUndoHistoryDepth());
+    }
+
 }
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -73,6 +76,22 @@ public class TuitionClassTest {
         assertEquals(1, tuitionClass.getStudents().size());
     }
 
+    @Test
+    @DisplayName("Add and remove many students at once")
+    void addRemoveStudentsInBulk() {
+        tuitionClass.addStudent(alice);
+        ClassSession futureSession = tuitionClass.addSession("Week 1", LocalDateTime.now().plusDays(1), "Room 1");
+
+        tuitionClass.addStudents(List.of(alice, bob, bob));
+        assertEquals(List.of(alice, bob), tuitionClass.getStudents());
+        assertEquals(2, tuitionClass.getStudentCountProperty().get());
+        assertTrue(futureSession.getAttendanceRecord().containsKey(bob));
+
+        tuitionClass.removeStudents(List.of(alice, bob));
+        assertTrue(tuitionClass.getStudents().isEmpty());
+        assertEquals(0, tuitionClass.getStudentCountProperty().get());
+    }
+
     @Test
     @DisplayName("Add and remove sessions from class")
     void addRemoveSessions() {
@@ -266,6 +285,21 @@ public class TuitionClassTest {
         assertTrue(classWithoutTutor.getAllSessions().isEmpty());
     }
 
+    @Test
+    @DisplayName("addSessions adds every session in order and updates the session count")
+    void addSessions_severalSessions_addedInOrder() {
+        Map<String, LocalDateTime> namesAndDateTimes = new LinkedHashMap<>();
+        namesAndDateTimes.put("Week 1", LocalDateTime.of(2024, 1, 8, 14, 30));
+        namesAndDateTimes.put("Week 2", LocalDateTime.of(2024, 1, 15, 14, 30));
+
+        List<ClassSession> added = tuitionClass.addSessions(namesAndDateTimes, "COM1-B103");
+
+        assertEquals(added, tuitionClass.getAllSessions());
+        assertEquals("Week 2", added.get(1).getSessionName());
+        assertEquals("COM1-B103", added.get(1).getLocation());
+        assertEquals(2, tuitionClass.getSessionCountProperty().get());
+    }
+
     @Test
     @DisplayName("hasSessionName returns true when session exists")
     void hasSessionName_sessionExists_returnsTrue() {
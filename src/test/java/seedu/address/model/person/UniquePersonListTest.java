@@ -12,11 +12,14 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +50,28 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, new PersonBuilder().withName("Carl").build()));
+        assertEquals(3, uniquePersonList.asUnmodifiableObservableList().size());
+        assertEquals(BOB, uniquePersonList.asUnmodifiableObservableList().get(1));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceInCapitals = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(
+                Arrays.asList(BOB, aliceInCapitals)));
+        assertEquals(1, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void addAll_duplicatesWithinList_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -168,6 +193,29 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getIndex_afterChanges_reflectsList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE, BOB), uniquePersonList.getIndex().getPersonsOfType(PersonType.STUDENT));
+        assertEquals(Set.of(BOB), uniquePersonList.getIndex().getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(), uniquePersonList.getIndex().getPersonsWithTag(new Tag("friends")));
+        assertEquals(Set.of(editedAlice, BOB),
+                uniquePersonList.getIndex().getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getIndex().getPerson(new Name("alice pauline")));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(editedAlice), uniquePersonList.getIndex().getPersonsOfType(PersonType.STUDENT));
+        assertEquals(Optional.empty(), uniquePersonList.getIndex().getPerson(BOB.getName()));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(Set.of(BOB), uniquePersonList.getIndex().getPersonsOfType(PersonType.STUDENT));
+        assertEquals(Set.of(), uniquePersonList.getIndex().getPersonsOfType(PersonType.TUTOR));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
@@ -0,0 +1,71 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.classroom.ClassName;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.PersonBuilder;
+
+public class FootprintEstimatorTest {
+
+    @Test
+    public void estimate_string() {
+        assertEquals(0, FootprintEstimator.estimate((String) null));
+        // 24 bytes for the String and 16 for its empty byte array
+        assertEquals(40, FootprintEstimator.estimate(""));
+        assertEquals(48, FootprintEstimator.estimate("Alice"));
+    }
+
+    @Test
+    public void estimate_person_tagsAndFxListsCountedApart() {
+        PersonBuilder builder = new PersonBuilder().withPersonType(PersonType.STUDENT);
+        Student untagged = (Student) builder.withTags().build();
+        Student tagged = (Student) builder.withTags("friends", "colleagues").build();
+        assertEquals(FootprintEstimator.estimate(untagged), FootprintEstimator.estimate(tagged));
+        assertTrue(FootprintEstimator.estimateTags(tagged) > FootprintEstimator.estimateTags(untagged));
+
+        long beforeJoining = FootprintEstimator.estimateFxLists(tagged);
+        TuitionClass tuitionClass = new TuitionClass(new ClassName("Math101"));
+        tuitionClass.addStudent(tagged);
+        assertTrue(FootprintEstimator.estimateFxLists(tagged) > beforeJoining);
+        assertTrue(FootprintEstimator.estimate(tuitionClass) > 0);
+        assertTrue(FootprintEstimator.estimateFxProperties(tuitionClass) > 0);
+
+        assertEquals(0, FootprintEstimator.estimateFxLists(new PersonBuilder().withPersonType(PersonType.PARENT)
+                .build()));
+    }
+
+    @Test
+    public void estimate_lists_growWithSize() {
+        assertTrue(FootprintEstimator.estimateObservableList(100) > FootprintEstimator.estimateObservableList(0));
+        assertTrue(FootprintEstimator.estimateFilteredList(100) > FootprintEstimator.estimateFilteredList(0));
+        assertTrue(FootprintEstimator.estimateUnmodifiableView() > 0);
+        assertTrue(FootprintEstimator.estimatePersonIndex(List.of(new PersonBuilder().withTags("friends").build()))
+                > FootprintEstimator.estimatePersonIndex(List.of()));
+    }
+
+    @Test
+    public void estimate_sessionAndAttendance() {
+        Student student = (Student) new PersonBuilder().withPersonType(PersonType.STUDENT).build();
+        TuitionClass tuitionClass = new TuitionClass(new ClassName("Math101"));
+        // Added before the student joins, so that the session starts with no attendance marks
+        ClassSession session = tuitionClass.addSession("Week 1", LocalDateTime.of(2025, 1, 6, 10, 0), "Room 1");
+
+        long sessionBytes = FootprintEstimator.estimate(session);
+        assertEquals(0, FootprintEstimator.estimateAttendance(session));
+
+        session.markPresentAt(student, LocalDateTime.of(2025, 1, 6, 10, 5));
+        assertTrue(FootprintEstimator.estimateAttendance(session) > 0);
+        // The table of the attendance map is counted with the session
+        assertTrue(FootprintEstimator.estimate(session) > sessionBytes);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Attendance;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.classroom.ClassSession;
+import seedu.address.model.classroom.TuitionClass;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Student;
+import seedu.address.model.util.SampleDataGenerator.Size;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SampleDataGeneratorTest {
+
+    private static final Size SIZE = new Size(60, 4, 8, 10);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void size_invalidNumbers_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Size(-1, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Size(10, 1, 0, 1));
+    }
+
+    @Test
+    public void size_ofStudents() {
+        assertEquals(new Size(1500, 60, 200, Size.DEFAULT_WEEKS), Size.ofStudents(1500));
+        assertEquals(new Size(0, 1, 1, Size.DEFAULT_WEEKS), Size.ofStudents(0));
+    }
+
+    @Test
+    public void generate_countsAndRelationships() {
+        AddressBook addressBook = new SampleDataGenerator(1).generate(SIZE);
+
+        assertEquals(SIZE.students, count(addressBook, PersonType.STUDENT));
+        assertEquals(SIZE.tutors, count(addressBook, PersonType.TUTOR));
+        long parents = count(addressBook, PersonType.PARENT);
+        assertTrue(parents >= SIZE.students / 3 && parents <= SIZE.students * 2, "parents: " + parents);
+        assertEquals(SIZE.classes, addressBook.getClassList().size());
+
+        Set<String> names = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(names.add(person.getName().fullName), "duplicate name: " + person.getName());
+            if (person instanceof Student) {
+                Student student = (Student) person;
+                assertFalse(student.getParents().isEmpty());
+                assertTrue(student.getTuitionClasses().size() >= 1 && student.getTuitionClasses().size() <= 3);
+            }
+        }
+
+        LocalDateTime firstUpcoming = SampleDataGenerator.FIRST_WEEK
+                .plusWeeks(SIZE.weeks - SampleDataGenerator.UPCOMING_WEEKS).atStartOfDay();
+        for (TuitionClass tuitionClass : addressBook.getClassList()) {
+            assertTrue(tuitionClass.isAssignedToTutor());
+            assertEquals(SIZE.weeks, tuitionClass.getAllSessions().size());
+            for (ClassSession session : tuitionClass.getAllSessions()) {
+                boolean isPast = session.getDateTime().isBefore(firstUpcoming);
+                for (Student student : tuitionClass.getStudents()) {
+                    Attendance attendance = session.getAttendanceRecord().get(student);
+                    assertEquals(isPast, attendance != null && !attendance.getTimestamp().equals(LocalDateTime.MIN));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void generate_sameSeed_savesIdenticalFiles() throws Exception {
+        Path first = save(new SampleDataGenerator(7).generate(SIZE), "first.json");
+        Path second = save(new SampleDataGenerator(7).generate(SIZE), "second.json");
+        Path otherSeed = save(new SampleDataGenerator(8).generate(SIZE), "otherSeed.json");
+
+        assertEquals(Files.readString(first), Files.readString(second));
+        assertNotEquals(Files.readString(first), Files.readString(otherSeed));
+    }
+
+    @Test
+    public void generate_readBackFromStorage_keepsEverything() throws Exception {
+        AddressBook generated = new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED).generate(SIZE);
+        Path file = save(generated, "addressbook.json");
+
+        ReadOnlyAddressBook read = new JsonAddressBookStorage(file).readAddressBook().get();
+        assertEquals(generated.getPersonList(), read.getPersonList());
+        assertEquals(generated.getClassList(), read.getClassList());
+    }
+
+    private Path save(AddressBook addressBook, String fileName) throws Exception {
+        Path file = temporaryFolder.resolve(fileName);
+        new JsonAddressBookStorage(file).saveAddressBook(addressBook);
+        return file;
+    }
+
+    private static long count(AddressBook addressBook, PersonType type) {
+        return addressBook.getPersonList().stream().filter(person -> person.getPersonType() == type).count();
+    }
+}
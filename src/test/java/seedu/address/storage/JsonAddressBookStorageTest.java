@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,12 +10,17 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -86,6 +92,47 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_recordsFlightRecorderEvents() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path recordingPath = testFolder.resolve("recording.jfr");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        try (Recording recording = new Recording()) {
+            recording.enable(AddressBookSaveEvent.class);
+            recording.enable(AddressBookReadEvent.class);
+            recording.enable(AddressBookConversionEvent.class);
+            recording.start();
+            jsonAddressBookStorage.saveAddressBook(original);
+            jsonAddressBookStorage.readAddressBook();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        RecordedEvent save = findEvent(events, "seedu.address.AddressBookSave");
+        assertEquals(Files.size(filePath), save.getLong("bytesWritten"));
+        assertEquals(original.getPersonList().size(), save.getInt("personCount"));
+        assertTrue(save.getBoolean("isSuccessful"));
+
+        RecordedEvent read = findEvent(events, "seedu.address.AddressBookRead");
+        assertEquals(filePath.toString(), read.getString("path"));
+        assertEquals(Files.size(filePath), read.getLong("bytesRead"));
+        assertEquals(original.getClassList().size(), read.getInt("classCount"));
+
+        RecordedEvent conversion = findEvent(events, "seedu.address.AddressBookConversion");
+        assertEquals(original.getPersonList().size(), conversion.getInt("personCount"));
+        assertTrue(conversion.getDuration().compareTo(read.getDuration()) <= 0);
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event was recorded"));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
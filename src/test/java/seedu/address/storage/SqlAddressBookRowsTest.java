@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class SqlAddressBookRowsTest {
+
+    private static final Path CLASS_WITH_ATTENDANCE_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "classWithAttendanceAddressBook.json");
+
+    @Test
+    public void toSerializable_rowsFromModel_sameAddressBook() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(CLASS_WITH_ATTENDANCE_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        Map<SqlTable, Map<List<Object>, List<Object>>> rows = sequenced(SqlAddressBookRows.fromModel(original));
+        assertTrue(rows.get(SqlAddressBookRows.ATTENDANCE).size() > 0);
+
+        AddressBook restored = SqlAddressBookRows.toSerializable(rows).toModelType();
+        assertEquals(original, restored);
+        assertEquals(SqlAddressBookRows.fromModel(original), SqlAddressBookRows.fromModel(restored));
+    }
+
+    @Test
+    public void toSerializable_enrolmentOfUnknownPerson_throwsIllegalValueException() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(CLASS_WITH_ATTENDANCE_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        Map<SqlTable, Map<List<Object>, List<Object>>> rows = sequenced(SqlAddressBookRows.fromModel(original));
+        String className = (String) rows.get(SqlAddressBookRows.CLASSES).keySet().iterator().next().get(0);
+        rows.get(SqlAddressBookRows.ENROLMENTS).put(List.of(className, "Nobody"), List.of(99L));
+
+        assertThrows(IllegalValueException.class, () -> SqlAddressBookRows.toSerializable(rows).toModelType());
+    }
+
+    private static Map<SqlTable, Map<List<Object>, List<Object>>> sequenced(
+            Map<SqlTable, Map<List<Object>, List<Object>>> rows) {
+        Map<SqlTable, Map<List<Object>, List<Object>>> sequenced = new LinkedHashMap<>();
+        rows.forEach((table, tableRows) -> sequenced.put(table,
+                SqlTable.sequence(new LinkedHashMap<>(), tableRows)));
+        return sequenced;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("addressbook.mv.db"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("missing.mv.db"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("addressbook.mv.db"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, save only the changes, and read back with a fresh storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = new SqlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void migrateFrom_jsonStorage_dataCopiedOnce() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        SqlAddressBookStorage sqlStorage = new SqlAddressBookStorage(testFolder.resolve("addressbook.mv.db"));
+        assertTrue(sqlStorage.migrateFrom(jsonStorage));
+        assertEquals(original, new AddressBook(sqlStorage.readAddressBook().get()));
+
+        // Database now exists, so it is not overwritten
+        assertFalse(sqlStorage.migrateFrom(jsonStorage));
+    }
+
+    @Test
+    public void migrateFrom_missingJsonFile_nothingCopied() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("missing.json"));
+        SqlAddressBookStorage sqlStorage = new SqlAddressBookStorage(testFolder.resolve("addressbook.mv.db"));
+        assertFalse(sqlStorage.migrateFrom(jsonStorage));
+        assertFalse(sqlStorage.readAddressBook().isPresent());
+    }
+}
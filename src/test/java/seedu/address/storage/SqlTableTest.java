@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class SqlTableTest {
+
+    private static final SqlTable TABLE = new SqlTable("people", List.of("person_name"),
+            List.of("phone VARCHAR", "is_active BOOLEAN"));
+
+    @Test
+    public void statements_validTable_correctSql() {
+        assertEquals("CREATE TABLE IF NOT EXISTS people (person_name VARCHAR NOT NULL, phone VARCHAR, "
+                + "is_active BOOLEAN, seq BIGINT NOT NULL, PRIMARY KEY (person_name))", TABLE.createStatement());
+        assertEquals("SELECT person_name, phone, is_active, seq FROM people ORDER BY seq", TABLE.selectStatement());
+        assertEquals("INSERT INTO people (person_name, phone, is_active, seq) VALUES (?, ?, ?, ?)",
+                TABLE.insertStatement());
+        assertEquals("UPDATE people SET phone = ?, is_active = ?, seq = ? WHERE person_name = ?",
+                TABLE.updateStatement());
+        assertEquals("DELETE FROM people WHERE person_name = ?", TABLE.deleteStatement());
+        assertEquals(3, TABLE.getValueWidth());
+    }
+
+    @Test
+    public void sequence_noPreviousRows_numberedInOrder() {
+        Map<List<Object>, List<Object>> sequenced = SqlTable.sequence(new LinkedHashMap<>(), rows("a", "b", "c"));
+        assertEquals(sequenced(new Object[][] {{"a", 1L}, {"b", 2L}, {"c", 3L}}), sequenced);
+    }
+
+    @Test
+    public void sequence_rowAppended_existingRowsKeepNumbers() {
+        Map<List<Object>, List<Object>> previous = sequenced(new Object[][] {{"a", 1L}, {"b", 5L}});
+        assertEquals(sequenced(new Object[][] {{"a", 1L}, {"b", 5L}, {"c", 6L}}),
+                SqlTable.sequence(previous, rows("a", "b", "c")));
+    }
+
+    @Test
+    public void sequence_rowDeleted_remainingRowsKeepNumbers() {
+        Map<List<Object>, List<Object>> previous = sequenced(new Object[][] {{"a", 1L}, {"b", 2L}, {"c", 3L}});
+        assertEquals(sequenced(new Object[][] {{"a", 1L}, {"c", 3L}}),
+                SqlTable.sequence(previous, rows("a", "c")));
+    }
+
+    @Test
+    public void sequence_rowRenamedInPlace_inheritsNumber() {
+        Map<List<Object>, List<Object>> previous = sequenced(new Object[][] {{"a", 1L}, {"b", 2L}, {"c", 3L}});
+        assertEquals(sequenced(new Object[][] {{"a", 1L}, {"x", 2L}, {"c", 3L}}),
+                SqlTable.sequence(previous, rows("a", "x", "c")));
+    }
+
+    @Test
+    public void sequence_rowsReordered_allRowsRenumbered() {
+        Map<List<Object>, List<Object>> previous = sequenced(new Object[][] {{"a", 1L}, {"b", 2L}, {"c", 3L}});
+        assertEquals(sequenced(new Object[][] {{"c", 1L}, {"a", 2L}, {"b", 3L}}),
+                SqlTable.sequence(previous, rows("c", "a", "b")));
+    }
+
+    private static Map<List<Object>, List<Object>> rows(String... names) {
+        Map<List<Object>, List<Object>> rows = new LinkedHashMap<>();
+        for (String name : names) {
+            rows.put(List.of(name), List.of("9" + name, true));
+        }
+        return rows;
+    }
+
+    private static Map<List<Object>, List<Object>> sequenced(Object[][] namesAndSeqs) {
+        Map<List<Object>, List<Object>> rows = new LinkedHashMap<>();
+        for (Object[] nameAndSeq : namesAndSeqs) {
+            rows.put(List.of(nameAndSeq[0]), List.of("9" + nameAndSeq[0], true, nameAndSeq[1]));
+        }
+        return rows;
+    }
+}
@@ -1,16 +1,26 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.JmxUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -65,4 +75,56 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void setAddressBookName_readsAndSavesNamedFile() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("main.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(getTempFilePath("east.json"), storage.getAddressBookFilePath("east"));
+
+        storage.setAddressBookName("east");
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTempFilePath("east.json"), storage.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(addressBookStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_countsSavesAndFailures() throws Exception {
+        assertEquals(0, storageManager.getSaveCount());
+        assertEquals(0, storageManager.getLastSaveNanos());
+
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertEquals(1, storageManager.getSaveCount());
+        assertEquals(0, storageManager.getSaveFailureCount());
+        assertTrue(storageManager.getLastSaveNanos() > 0);
+        assertEquals(storageManager.getLastSaveNanos(), storageManager.getMaxSaveNanos());
+
+        // The folder is a directory, so it cannot be written as a file
+        assertThrows(IOException.class, () -> storageManager.saveAddressBook(getTypicalAddressBook(), testFolder));
+        assertEquals(2, storageManager.getSaveCount());
+        assertEquals(1, storageManager.getSaveFailureCount());
+    }
+
+    @Test
+    public void registerMBean_attributesReadable() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.registerMBean();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = JmxUtil.getObjectName(StorageStatisticsBean.TYPE);
+        try {
+            assertEquals(1L, server.getAttribute(name, "SaveCount"));
+            Path path = storageManager.getAddressBookFilePath();
+            assertEquals(Files.size(path), server.getAttribute(name, "DataFileSize"));
+            assertEquals(path.toString(), server.getAttribute(name, "DataFilePath"));
+
+            storageManager.setAddressBookName("missing");
+            assertEquals(-1L, server.getAttribute(name, "DataFileSize"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
 }